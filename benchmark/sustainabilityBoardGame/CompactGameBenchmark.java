@@ -0,0 +1,70 @@
+package sustainabilityBoardGame;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Compares games per second and bytes allocated per game of the compact array based engine with the object based headless engine, on one thread
+ * Run with optional arguments: games per batch, number of players, turn limit, measurement seconds
+ */
+public class CompactGameBenchmark {
+
+    public static void main(String[] args) {
+        int batchSize = (args.length > 0) ? Integer.parseInt(args[0]) : 4096;
+        int numPlayers = (args.length > 1) ? Integer.parseInt(args[1]) : GameConfig.MAX_PLAYERS;
+        int turnLimit = (args.length > 2) ? Integer.parseInt(args[2]) : 200;
+        int seconds = (args.length > 3) ? Integer.parseInt(args[3]) : 5;
+
+        CompactGameBatch batch = new CompactGameBatch(new GameBoard(), batchSize, numPlayers, turnLimit, true);
+        HeadlessGame headlessGame = new HeadlessGame(new GreedyDecisionPolicy(), numPlayers, turnLimit);
+
+        // Warm up both engines
+        for (int round = 0; round < 20; round++) {
+            batch.resetAll(round);
+            batch.runToEnd();
+            for (int game = 0; game < batchSize; game++) {
+                headlessGame.play(DiceStream.forGame(round, game));
+            }
+        }
+
+        long compactGames = 0;
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        long end = start + seconds * 1_000_000_000L;
+        long seed = 0;
+        while (System.nanoTime() < end) {
+            batch.resetAll(seed++);
+            batch.runToEnd();
+            compactGames += batchSize;
+        }
+        double compactRate = compactGames / ((System.nanoTime() - start) / 1e9);
+        double compactBytes = (allocatedBytes() - allocatedBefore) / (double) compactGames;
+
+        long headlessGames = 0;
+        allocatedBefore = allocatedBytes();
+        start = System.nanoTime();
+        end = start + seconds * 1_000_000_000L;
+        seed = 0;
+        while (System.nanoTime() < end) {
+            for (int game = 0; game < batchSize; game++) {
+                headlessGame.play(DiceStream.forGame(seed, game));
+            }
+            seed++;
+            headlessGames += batchSize;
+        }
+        double headlessRate = headlessGames / ((System.nanoTime() - start) / 1e9);
+        double headlessBytes = (allocatedBytes() - allocatedBefore) / (double) headlessGames;
+
+        System.out.printf("Batch of %d games, %d players, turn limit %d%n", batchSize, numPlayers, turnLimit);
+        System.out.printf("Compact engine:  %,.0f games/s, %,.0f bytes allocated per game%n", compactRate, compactBytes);
+        System.out.printf("Headless engine: %,.0f games/s, %,.0f bytes allocated per game%n", headlessRate, headlessBytes);
+        System.out.printf("Speedup: %.2fx%n", compactRate / headlessRate);
+    }
+
+    /**
+     * Bytes allocated so far by the current thread
+     * @return 
+     */
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
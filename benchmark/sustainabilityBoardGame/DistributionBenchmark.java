@@ -0,0 +1,95 @@
+package sustainabilityBoardGame;
+
+import java.util.List;
+
+/**
+ * Compares the batched wasteland distribution with the original one event and one message per recipient,
+ * then plays whole headless games at the same player counts
+ * Run with an optional argument: number of distributions per player count
+ */
+public class DistributionBenchmark {
+
+    private static final int[] PLAYER_COUNTS = {8, 64, 512};
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        int distributions = (args.length > 0) ? Integer.parseInt(args[0]) : 200_000;
+        UserInterface ui = new HeadlessUserInterface(new GreedyDecisionPolicy());
+        MemoryEventSink sink = new MemoryEventSink();
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            for (int numPlayers : PLAYER_COUNTS) {
+                int repeats = Math.max(1, distributions / numPlayers);
+                PlayerManager manager = createPlayers(ui, numPlayers, sink);
+                Player distributor = manager.getPlayers().get(0);
+
+                long start = System.nanoTime();
+                for (int i = 0; i < repeats; i++) {
+                    distributor.restoreResources(1_000_000, 0);
+                    manager.distributeResources(distributor);
+                    sink.clear();
+                }
+                long batchedNanos = System.nanoTime() - start;
+
+                manager = createPlayers(ui, numPlayers, sink);
+                distributor = manager.getPlayers().get(0);
+                start = System.nanoTime();
+                for (int i = 0; i < repeats; i++) {
+                    distributor.restoreResources(1_000_000, 0);
+                    distributePerRecipient(manager, ui, distributor);
+                    sink.clear();
+                }
+                long perRecipientNanos = System.nanoTime() - start;
+
+                int games = Math.max(10, 20_000 / numPlayers);
+                HeadlessGame game = new HeadlessGame(new GreedyDecisionPolicy(), numPlayers, 200);
+                start = System.nanoTime();
+                for (int i = 0; i < games; i++) {
+                    game.play(i);
+                }
+                long gameNanos = System.nanoTime() - start;
+
+                System.out.printf("Round %d, %3d players: batched %.1f ns/recipient, per recipient %.1f ns/recipient, "
+                        + "%.0f games/s%n", round, numPlayers, batchedNanos / (double) repeats / (numPlayers - 1),
+                        perRecipientNanos / (double) repeats / (numPlayers - 1), games * 1e9 / gameNanos);
+            }
+        }
+    }
+
+    /**
+     * Creates the players for one measurement, all sending their transactions to the same sink
+     * @param ui 
+     * @param numPlayers 
+     * @param sink 
+     * @return 
+     */
+    private static PlayerManager createPlayers(UserInterface ui, int numPlayers, GameEventSink sink) {
+        PlayerManager manager = new PlayerManager(ui);
+        for (int i = 0; i < numPlayers; i++) {
+            Player player = new Player("Player " + (i + 1), GameConfig.INITIAL_RESOURCES);
+            player.setEventSink(sink);
+            manager.addPlayer(player);
+        }
+        return manager;
+    }
+
+    /**
+     * The distribution as it was before batching, one transaction and one message for every recipient
+     * @param manager 
+     * @param ui 
+     * @param player 
+     */
+    private static void distributePerRecipient(PlayerManager manager, UserInterface ui, Player player) {
+        List<Player> players = manager.getPlayers();
+        int resourcesAmount = player.getResources() / 4;
+        int resourcesPerPlayer = resourcesAmount / (players.size() - 1);
+        ui.displayResourceDistribution(player, resourcesAmount);
+        player.removeResources(resourcesAmount, "Resource distribution");
+        for (Player other : players) {
+            if (other != player) {
+                other.addResources(resourcesPerPlayer, "Distribution from " + player.getName());
+                ui.displayResourceReceived(other, resourcesPerPlayer);
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package sustainabilityBoardGame;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Measures what journaling costs a headless game, and how many journal records per second can be replayed
+ * Run with optional arguments: number of games per measurement, number of players, turn limit
+ */
+public class GameJournalBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws IOException {
+        int games = (args.length > 0) ? Integer.parseInt(args[0]) : 20_000;
+        int numPlayers = (args.length > 1) ? Integer.parseInt(args[1]) : GameConfig.MAX_PLAYERS;
+        int turnLimit = (args.length > 2) ? Integer.parseInt(args[2]) : 200;
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            Path file = Files.createTempFile("benchmark", ".sbgj");
+            Files.delete(file);
+            try (GameJournal journal = new GameJournal(file)) {
+                HeadlessGame game = new HeadlessGame(new GreedyDecisionPolicy(), numPlayers, turnLimit);
+
+                long start = System.nanoTime();
+                for (int i = 0; i < games; i++) {
+                    game.play(i);
+                }
+                long plainNanos = System.nanoTime() - start;
+
+                game.setJournal(journal);
+                start = System.nanoTime();
+                for (int i = 0; i < games; i++) {
+                    game.play(i);
+                }
+                long journaledNanos = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                new JournalReplayer(journal).replayAll();
+                long replayNanos = System.nanoTime() - start;
+
+                long records = journal.getRecordCount();
+                System.out.printf("Round %d: %.2f us/game plain, %.2f us/game journaled, %d records (%.1f per game), "
+                        + "replay %.1f M records/s%n", round, plainNanos / 1000.0 / games,
+                        journaledNanos / 1000.0 / games, records, records / (double) games,
+                        records * 1000.0 / replayNanos);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package sustainabilityBoardGame;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Load test for the game server: thousands of clients each play a game over their own connection at the same time
+ * Every client waits a random think time before answering, as a person would, then measures how long the server takes
+ * to send the next prompt. Clients connect at random times over the first two think times rather than all at once,
+ * and a round of games is played first to warm up, so the figures show the server running rather than starting up.
+ * Once every game is under way the heap is measured to show the memory used per live session
+ * The tail latency is set by garbage collection pauses, so run with a low pause collector such as
+ * -XX:+UseZGC -XX:+ZGenerational, or a young generation big enough for the sessions such as -Xmn256m; on a small machine
+ * the default serial collector pauses for tens of milliseconds
+ * Run with optional arguments: number of sessions, turns each client plays before quitting, average think time in ms
+ */
+public class GameServerLoadBenchmark {
+
+    private static final String CHOICE_PROMPT = "Enter your choice (1-";
+
+    // Games played without think time before the measurement, so the server code is compiled
+    private static final int WARMUP_SESSIONS = 200;
+
+    public static void main(String[] args) throws Exception {
+        int sessions = (args.length > 0) ? Integer.parseInt(args[0]) : 2000;
+        int turns = (args.length > 1) ? Integer.parseInt(args[1]) : 15;
+        int thinkMillis = (args.length > 2) ? Integer.parseInt(args[2]) : 1000;
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        try (GameServer server = new GameServer(0, sessions)) {
+            server.start();
+
+            CountDownLatch warmedUp = new CountDownLatch(WARMUP_SESSIONS);
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < WARMUP_SESSIONS; i++) {
+                    clients.execute(() -> playClient(server.getPort(), turns, 0, 0, warmedUp, warmedUp));
+                }
+            }
+            System.gc();
+            long heapBefore = memory.getHeapMemoryUsage().getUsed();
+
+            CountDownLatch started = new CountDownLatch(sessions);
+            CountDownLatch measured = new CountDownLatch(1);
+            long[][] latencies = new long[sessions][];
+            long start = System.nanoTime();
+
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < sessions; i++) {
+                    int client = i;
+                    clients.execute(() -> latencies[client] = playClient(server.getPort(), turns, thinkMillis,
+                            ThreadLocalRandom.current().nextInt(2 * thinkMillis + 1), started, measured));
+                }
+
+                // Measure once every client is part way through its game, while all the sessions are live
+                started.await();
+                int active = server.getActiveSessions();
+                System.gc();
+                long heapDuring = memory.getHeapMemoryUsage().getUsed();
+                measured.countDown();
+                System.out.printf("Live sessions: %d, heap %.1f MB, %.1f KB per session%n", active,
+                        heapDuring / 1048576.0, (heapDuring - heapBefore) / 1024.0 / active);
+            }
+            long nanos = System.nanoTime() - start;
+
+            long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+            double p99 = all[(int) (all.length * 0.99)] / 1e6;
+            System.out.printf("Sessions: %d, responses: %d in %.2f s (%.0f responses/s)%n", sessions, all.length,
+                    nanos / 1e9, all.length * 1e9 / nanos);
+            System.out.printf("Response latency: p50 %.3f ms, p99 %.3f ms, max %.3f ms (p99 %s 5 ms)%n",
+                    all[all.length / 2] / 1e6, p99, all[all.length - 1] / 1e6, (p99 < 5) ? "under" : "OVER");
+        }
+    }
+
+    /**
+     * Plays one game as a client: two players, who roll and accept every offer, until the first player quits
+     * @param port 
+     * @param turns number of turn menus answered before quitting
+     * @param thinkMillis average time before each answer, the actual time is anywhere from half to one and a half times it
+     * @param connectDelayMillis time to wait before connecting
+     * @param started counted down once the client is part way through its game
+     * @param measured waited for before the client carries on
+     * @return the time from each answer until the next prompt arrived, in nanoseconds
+     */
+    private static long[] playClient(int port, int turns, int thinkMillis, int connectDelayMillis, CountDownLatch started,
+            CountDownLatch measured) {
+        long[] latencies = new long[turns * 2 + 8];
+        int count = 0;
+        try {
+            Thread.sleep(connectDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return latencies;
+        }
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setTcpNoDelay(true);
+            InputStream in = socket.getInputStream();
+            OutputStream out = socket.getOutputStream();
+            StringBuilder screen = new StringBuilder();
+            byte[] buffer = new byte[4096];
+            int turnMenus = 0;
+            long sent = 0;
+            boolean counted = false;
+
+            while (true) {
+                // Read until the server stops at a prompt, which always ends with ": " and is flushed on its own
+                int read = in.read(buffer);
+                if (read < 0) {
+                    break;
+                }
+                screen.append(new String(buffer, 0, read, StandardCharsets.ISO_8859_1));
+                String prompt = lastLine(screen);
+                if (!prompt.endsWith(": ")) {
+                    continue;
+                }
+                if (sent != 0 && count < latencies.length) {
+                    latencies[count++] = System.nanoTime() - sent;
+                }
+
+                String answer;
+                if (prompt.startsWith("Enter number of players")) {
+                    answer = "2";
+                } else if (prompt.startsWith("Player ")) {
+                    answer = prompt.substring(7, prompt.indexOf(' ', 7));
+                } else if (prompt.startsWith(CHOICE_PROMPT)) {
+                    boolean turnMenu = screen.indexOf("1. Roll dice") >= 0;
+                    if (turnMenu && ++turnMenus == 5) {
+                        counted = true;
+                        started.countDown();
+                        measured.await();
+                    }
+                    // Quit is always the last option of the turn menu, every other prompt is answered with yes
+                    int options = Integer.parseInt(prompt.substring(CHOICE_PROMPT.length(), prompt.indexOf(')')));
+                    answer = (turnMenu && turnMenus >= turns) ? String.valueOf(options) : "1";
+                } else {
+                    throw new IllegalStateException("Unexpected prompt: " + prompt);
+                }
+                screen.setLength(0);
+
+                if (thinkMillis > 0) {
+                    Thread.sleep(thinkMillis / 2 + ThreadLocalRandom.current().nextInt(thinkMillis + 1));
+                }
+                out.write((answer + "\n").getBytes(StandardCharsets.ISO_8859_1));
+                out.flush();
+                sent = System.nanoTime();
+            }
+            if (!counted) {
+                // A game that ended before the measurement point must not hold it up
+                started.countDown();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Client connection failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    /**
+     * Gets the text after the last line break on the screen
+     * @param screen 
+     * @return 
+     */
+    private static String lastLine(StringBuilder screen) {
+        return screen.substring(screen.lastIndexOf("\n") + 1);
+    }
+}
@@ -0,0 +1,45 @@
+package sustainabilityBoardGame;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Measures how long it takes to save a game in progress and to load it back
+ * Run with an optional argument: number of saves and loads per measurement
+ */
+public class GameSnapshotBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int operations = (args.length > 0) ? Integer.parseInt(args[0]) : 1_000_000;
+
+        // A four player game some way in, so properties are owned and developed
+        SustainabilityBoardGame game = new HeadlessGame(new GreedyDecisionPolicy(), 4, 0).createGame(new DiceStream(42));
+        for (int turn = 0; turn < 40; turn++) {
+            game.playTurn();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(GameSnapshot.getSize(game));
+        HeadlessUserInterface ui = new HeadlessUserInterface(new GreedyDecisionPolicy());
+        System.out.println("Snapshot size: " + buffer.capacity() + " bytes");
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < operations; i++) {
+                buffer.clear();
+                GameSnapshot.save(game, buffer);
+            }
+            long saveNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long turns = 0;
+            for (int i = 0; i < operations; i++) {
+                buffer.rewind();
+                turns += GameSnapshot.load(buffer, ui, new GameBoard(), null).getGameState().getTurnsPlayed();
+            }
+            long loadNanos = System.nanoTime() - start;
+
+            System.out.printf("Round %d: save %.3f us, load %.3f us (checksum %d)%n", round,
+                    saveNanos / 1000.0 / operations, loadNanos / 1000.0 / operations, turns);
+        }
+    }
+}
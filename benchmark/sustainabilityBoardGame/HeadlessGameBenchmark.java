@@ -0,0 +1,50 @@
+package sustainabilityBoardGame;
+
+/**
+ * Measures how many complete headless games can be played per second on a single thread
+ * Run with optional arguments: number of players, turn limit, measurement seconds
+ */
+public class HeadlessGameBenchmark {
+
+    private static final int WARMUP_GAMES = 200_000;
+
+    public static void main(String[] args) {
+        int numPlayers = (args.length > 0) ? Integer.parseInt(args[0]) : GameConfig.MAX_PLAYERS;
+        int turnLimit = (args.length > 1) ? Integer.parseInt(args[1]) : 200;
+        int seconds = (args.length > 2) ? Integer.parseInt(args[2]) : 5;
+
+        HeadlessGame game = new HeadlessGame(new GreedyDecisionPolicy(), numPlayers, turnLimit);
+
+        // Warm up so the measurement runs on compiled code
+        long checksum = 0;
+        for (int i = 0; i < WARMUP_GAMES; i++) {
+            checksum += game.play(i).getTurnsPlayed();
+        }
+
+        long games = 0;
+        long turns = 0;
+        long completedGames = 0;
+        long start = System.nanoTime();
+        long end = start + seconds * 1_000_000_000L;
+        long now;
+        do {
+            // Check the clock only every thousand games to keep timing out of the measurement
+            for (int i = 0; i < 1000; i++) {
+                GameResult result = game.play(games + i);
+                turns += result.getTurnsPlayed();
+                if (result.isCompleted()) {
+                    completedGames++;
+                }
+            }
+            games += 1000;
+            now = System.nanoTime();
+        } while (now < end);
+
+        double elapsedSeconds = (now - start) / 1e9;
+        System.out.printf("Players: %d, turn limit: %d%n", numPlayers, turnLimit);
+        System.out.printf("Games: %d in %.2f s (%.0f games/s)%n", games, elapsedSeconds, games / elapsedSeconds);
+        System.out.printf("Turns: %.0f turns/s, %.1f turns per game%n", turns / elapsedSeconds, turns / (double) games);
+        System.out.printf("Games finished before the turn limit: %.1f%%%n", completedGames * 100.0 / games);
+        System.out.println("(checksum " + checksum + ")");
+    }
+}
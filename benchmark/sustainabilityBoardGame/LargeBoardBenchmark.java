@@ -0,0 +1,74 @@
+package sustainabilityBoardGame;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays headless games on generated boards of increasing size, to show the cost of a turn does not grow with the board
+ * Setting up the board for each game does grow with its size, so its time and memory are measured on their own as well
+ * Run with an optional argument: number of games per board size
+ */
+public class LargeBoardBenchmark {
+
+    private static final int[] BOARD_SIZES = {6, 60, 600, 6000};
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        int games = (args.length > 0) ? Integer.parseInt(args[0]) : 20_000;
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            for (int size : BOARD_SIZES) {
+                BoardLayout layout = BoardLayout.parse(generateBoard(size));
+                HeadlessGame game = new HeadlessGame(new GreedyDecisionPolicy(), GameConfig.MAX_PLAYERS, 200, layout);
+
+                long turns = 0;
+                long start = System.nanoTime();
+                for (int i = 0; i < games; i++) {
+                    turns += game.play(i).getTurnsPlayed();
+                }
+                long nanos = System.nanoTime() - start;
+
+                long allocatedBefore = allocatedBytes();
+                start = System.nanoTime();
+                long squares = 0;
+                for (int i = 0; i < games; i++) {
+                    squares += new GameBoard(layout).getSize();
+                }
+                long boardNanos = System.nanoTime() - start;
+                double bytesPerSquare = (allocatedBytes() - allocatedBefore) / (double) squares;
+
+                System.out.printf("Round %d, %5d squares: %.2f us/game of which %.2f us board setup, %.1f ns/turn "
+                        + "excluding setup, %.1f bytes per square%n", round, size, nanos / 1000.0 / games,
+                        boardNanos / 1000.0 / games, (nanos - boardNanos) / (double) turns, bytesPerSquare);
+            }
+        }
+    }
+
+    /**
+     * Generates a board file with go first, a wasteland every tenth square and properties of every type in between
+     * @param size 
+     * @return 
+     */
+    private static List<String> generateBoard(int size) {
+        PropertyType[] types = PropertyType.values();
+        List<String> lines = new ArrayList<>();
+        lines.add("go Sustainability Grant");
+        for (int i = 1; i < size; i++) {
+            if (i % 10 == 3) {
+                lines.add("wasteland Wasteland " + i);
+            } else {
+                lines.add("property " + types[i % types.length] + " " + (200 + (i * 50) % 250) + " Field " + i);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Bytes allocated so far by the current thread
+     * @return 
+     */
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
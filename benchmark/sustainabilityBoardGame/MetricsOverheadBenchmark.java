@@ -0,0 +1,69 @@
+package sustainabilityBoardGame;
+
+/**
+ * Measures what engine metrics cost headless games, by playing the same games with and without them
+ * Rounds with and without metrics alternate so that both see the same machine state, and the snapshot gathered
+ * is printed at the end
+ * Run with optional arguments: number of players, turn limit, rounds, seconds per round, sample interval
+ */
+public class MetricsOverheadBenchmark {
+
+    private static final int WARMUP_GAMES = 200_000;
+
+    public static void main(String[] args) {
+        int numPlayers = (args.length > 0) ? Integer.parseInt(args[0]) : GameConfig.MAX_PLAYERS;
+        int turnLimit = (args.length > 1) ? Integer.parseInt(args[1]) : 200;
+        int rounds = (args.length > 2) ? Integer.parseInt(args[2]) : 5;
+        int seconds = (args.length > 3) ? Integer.parseInt(args[3]) : 2;
+        int sampleInterval = (args.length > 4) ? Integer.parseInt(args[4]) : EngineMetrics.DEFAULT_SAMPLE_INTERVAL;
+
+        EngineMetrics metrics = new EngineMetrics(sampleInterval);
+        HeadlessGame plain = new HeadlessGame(new GreedyDecisionPolicy(), numPlayers, turnLimit);
+        HeadlessGame measured = new HeadlessGame(new GreedyDecisionPolicy(), numPlayers, turnLimit);
+        measured.setMetrics(metrics);
+
+        // Warm up both so the measurement runs on compiled code
+        long checksum = 0;
+        for (int i = 0; i < WARMUP_GAMES; i++) {
+            checksum += plain.play(i).getTurnsPlayed() + measured.play(i).getTurnsPlayed();
+        }
+
+        double plainRate = 0;
+        double measuredRate = 0;
+        for (int round = 0; round < rounds; round++) {
+            plainRate += gamesPerSecond(plain, seconds);
+            measuredRate += gamesPerSecond(measured, seconds);
+        }
+        plainRate /= rounds;
+        measuredRate /= rounds;
+
+        System.out.printf("Players: %d, turn limit: %d, sample interval: %d%n", numPlayers, turnLimit, sampleInterval);
+        System.out.printf("Without metrics: %.0f games/s%n", plainRate);
+        System.out.printf("With metrics:    %.0f games/s%n", measuredRate);
+        System.out.printf("Overhead: %.2f%%%n", (plainRate - measuredRate) * 100 / plainRate);
+        System.out.print(metrics.snapshot());
+        System.out.println("(checksum " + checksum + ")");
+    }
+
+    /**
+     * Plays games for the given time
+     * @param game 
+     * @param seconds 
+     * @return 
+     */
+    private static double gamesPerSecond(HeadlessGame game, int seconds) {
+        long games = 0;
+        long start = System.nanoTime();
+        long end = start + seconds * 1_000_000_000L;
+        long now;
+        do {
+            // Check the clock only every thousand games to keep timing out of the measurement
+            for (int i = 0; i < 1000; i++) {
+                game.play(games + i);
+            }
+            games += 1000;
+            now = System.nanoTime();
+        } while (now < end);
+        return games * 1e9 / (now - start);
+    }
+}
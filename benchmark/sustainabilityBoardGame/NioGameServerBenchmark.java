@@ -0,0 +1,168 @@
+package sustainabilityBoardGame;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Benchmark for the NIO front end: thousands of connections sit idle at a turn menu while a few hundred of them play
+ * Every connection starts a game and stops at its first prompt, then the heap is measured to show the memory held for
+ * each idle connection. The active connections then answer prompts after a random think time, as a person would, and
+ * measure how long the server takes to send the next prompt while all the idle connections are still open.
+ * The clients run in the same process as the server, so each connection uses two file descriptors and the open file
+ * limit (ulimit -n) must be more than twice the number of connections; the heap figure also includes the client end
+ * of each connection, so the server's own share is somewhat lower
+ * Run with optional arguments: number of connections, number of them that play, answers each plays, average think time in ms
+ */
+public class NioGameServerBenchmark {
+
+    private static final byte[] PLAYER_COUNT = "2\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] YES = "1\n".getBytes(StandardCharsets.US_ASCII);
+
+    // Connections that play without think time before the measurement, so the server code is compiled
+    private static final int WARMUP_CONNECTIONS = 200;
+    private static final int WARMUP_ANSWERS = 50;
+
+    public static void main(String[] args) throws Exception {
+        int connections = (args.length > 0) ? Integer.parseInt(args[0]) : 10_000;
+        int active = (args.length > 1) ? Integer.parseInt(args[1]) : 500;
+        int answers = (args.length > 2) ? Integer.parseInt(args[2]) : 20;
+        int thinkMillis = (args.length > 3) ? Integer.parseInt(args[3]) : 500;
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        try (NioGameServer server = new NioGameServer(0, Runtime.getRuntime().availableProcessors())) {
+            server.start();
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < WARMUP_CONNECTIONS; i++) {
+                    clients.execute(() -> {
+                        try (SocketChannel channel = connect(address)) {
+                            play(channel, WARMUP_ANSWERS, 0);
+                        } catch (IOException e) {
+                            throw new IllegalStateException("Client connection failed", e);
+                        }
+                    });
+                }
+            }
+            System.gc();
+            long heapBefore = memory.getHeapMemoryUsage().getUsed();
+
+            long start = System.nanoTime();
+            SocketChannel[] channels = new SocketChannel[connections];
+            for (int i = 0; i < connections; i++) {
+                channels[i] = connect(address);
+            }
+            long nanos = System.nanoTime() - start;
+            System.gc();
+            long heapIdle = memory.getHeapMemoryUsage().getUsed();
+            System.out.printf("Idle connections: %d opened in %.2f s, heap %.1f MB, %.2f KB per connection%n",
+                    server.getConnectedSessions(), nanos / 1e9, heapIdle / 1048576.0,
+                    (heapIdle - heapBefore) / 1024.0 / connections);
+
+            long[][] latencies = new long[active][];
+            start = System.nanoTime();
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < active; i++) {
+                    int client = i;
+                    // Spread the playing connections over the idle ones
+                    SocketChannel channel = channels[(int) ((long) i * connections / active)];
+                    clients.execute(() -> {
+                        try {
+                            latencies[client] = play(channel, answers, thinkMillis);
+                        } catch (IOException e) {
+                            throw new IllegalStateException("Client connection failed", e);
+                        }
+                    });
+                }
+            }
+            nanos = System.nanoTime() - start;
+
+            long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+            System.out.printf("Active connections: %d, responses: %d in %.2f s (%.0f responses/s)%n", active,
+                    all.length, nanos / 1e9, all.length * 1e9 / nanos);
+            System.out.printf("Response latency: p50 %.3f ms, p99 %.3f ms, max %.3f ms%n", all[all.length / 2] / 1e6,
+                    all[(int) (all.length * 0.99)] / 1e6, all[all.length - 1] / 1e6);
+
+            for (SocketChannel channel : channels) {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Opens a connection, starts a two player game and waits for the first turn menu
+     * @param address 
+     * @return 
+     * @throws IOException 
+     */
+    private static SocketChannel connect(InetSocketAddress address) throws IOException {
+        SocketChannel channel = SocketChannel.open(address);
+        channel.socket().setTcpNoDelay(true);
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        readPrompt(channel, buffer);
+        channel.write(ByteBuffer.wrap(PLAYER_COUNT));
+        readPrompt(channel, buffer);
+        return channel;
+    }
+
+    /**
+     * Answers yes to each prompt, which rolls the dice at every turn menu and accepts every offer
+     * @param channel connection waiting at a prompt
+     * @param answers number of prompts to answer
+     * @param thinkMillis average time before each answer, the actual time is anywhere from half to one and a half times it
+     * @return the time from each answer until the next prompt arrived, in nanoseconds
+     * @throws IOException 
+     */
+    private static long[] play(SocketChannel channel, int answers, int thinkMillis) throws IOException {
+        long[] latencies = new long[answers];
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        for (int i = 0; i < answers; i++) {
+            if (thinkMillis > 0) {
+                try {
+                    Thread.sleep(thinkMillis / 2 + ThreadLocalRandom.current().nextInt(thinkMillis + 1));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return Arrays.copyOf(latencies, i);
+                }
+            }
+            long sent = System.nanoTime();
+            channel.write(ByteBuffer.wrap(YES));
+            readPrompt(channel, buffer);
+            latencies[i] = System.nanoTime() - sent;
+        }
+        return latencies;
+    }
+
+    /**
+     * Reads until the server stops at a prompt, which always ends with ": "
+     * @param channel 
+     * @param buffer 
+     * @throws IOException 
+     */
+    private static void readPrompt(SocketChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        while (true) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Server closed the connection");
+            }
+            int end = buffer.position();
+            if (end >= 2 && buffer.get(end - 2) == ':' && buffer.get(end - 1) == ' ') {
+                return;
+            }
+            if (!buffer.hasRemaining()) {
+                buffer.clear();
+            }
+        }
+    }
+}
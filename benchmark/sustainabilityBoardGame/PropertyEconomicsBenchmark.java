@@ -0,0 +1,78 @@
+package sustainabilityBoardGame;
+
+/**
+ * Compares the precomputed rent and development cost tables with the original switch and double based calculation
+ * Run with an optional argument: number of lookups per measurement
+ */
+public class PropertyEconomicsBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int lookups = (args.length > 0) ? Integer.parseInt(args[0]) : 100_000_000;
+
+        // A spread of properties and levels, the same for both measurements
+        PropertyType[] types = new PropertyType[1024];
+        int[] costs = new int[1024];
+        int[] levels = new int[1024];
+        PropertyEconomics[] tables = new PropertyEconomics[1024];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = PropertyType.values()[i % PropertyType.values().length];
+            costs[i] = 200 + (i * 37) % 300;
+            levels[i] = (i * 7) % 4;
+            tables[i] = new PropertyEconomics(types[i], costs[i]);
+        }
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            long switchSum = 0;
+            for (int i = 0; i < lookups; i++) {
+                int j = i & 1023;
+                switchSum += switchRent(types[j], costs[j], levels[j]) + switchDevelopmentCost(types[j], costs[j], levels[j]);
+            }
+            long switchNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            long tableSum = 0;
+            for (int i = 0; i < lookups; i++) {
+                int j = i & 1023;
+                tableSum += tables[j].getRent(levels[j]) + tables[j].getDevelopmentCost(levels[j]);
+            }
+            long tableNanos = System.nanoTime() - start;
+
+            if (switchSum != tableSum) {
+                throw new IllegalStateException("Table and switch results differ");
+            }
+            System.out.printf("Round %d: switch %.2f ns/lookup, table %.2f ns/lookup, speedup %.2fx%n", round,
+                    switchNanos / (double) lookups, tableNanos / (double) lookups, switchNanos / (double) tableNanos);
+        }
+    }
+
+    // Original calculation from PropertySquare.getRent
+    private static int switchRent(PropertyType type, int purchaseCost, int developmentLevel) {
+        double rentMultiplier;
+        switch (developmentLevel) {
+            case 0: rentMultiplier = 0.2; break;
+            case 1: rentMultiplier = 0.5; break;
+            case 2: rentMultiplier = 1.0; break;
+            case 3: rentMultiplier = 1.5; break;
+            default: rentMultiplier = 0.1;
+        }
+        if (type == PropertyType.ECO_CITY && developmentLevel == 2) {
+            return (int)(purchaseCost * 2.0);
+        }
+        return (int)(purchaseCost * rentMultiplier);
+    }
+
+    // Original calculation from PropertySquare.getDevelopmentCost
+    private static int switchDevelopmentCost(PropertyType type, int purchaseCost, int developmentLevel) {
+        double multiplier;
+        switch (developmentLevel) {
+            case 0: multiplier = 1.5; break;
+            case 1: multiplier = 2.0; break;
+            case 2: multiplier = (type == PropertyType.MARINE_ENERGY) ? 2.5 : 3.0; break;
+            default: multiplier = 1.0;
+        }
+        return (int)(purchaseCost * multiplier);
+    }
+}
@@ -0,0 +1,51 @@
+package sustainabilityBoardGame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures tournament throughput with an increasing number of worker threads to show how it scales with cores
+ * Run with optional arguments: number of games per run, number of players, turn limit
+ */
+public class TournamentBenchmark {
+
+    public static void main(String[] args) {
+        long games = (args.length > 0) ? Long.parseLong(args[0]) : 2_000_000L;
+        int numPlayers = (args.length > 1) ? Integer.parseInt(args[1]) : GameConfig.MAX_PLAYERS;
+        int turnLimit = (args.length > 2) ? Integer.parseInt(args[2]) : 200;
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        // Warm up on all cores so every run measures compiled code
+        new TournamentRunner(GreedyDecisionPolicy::new, numPlayers, turnLimit).run(games / 4);
+
+        double singleThreadRate = 0;
+        for (int threads : threadCounts(processors)) {
+            TournamentRunner runner = new TournamentRunner(GreedyDecisionPolicy::new, numPlayers, turnLimit, threads);
+
+            long start = System.nanoTime();
+            TournamentResult result = runner.run(games);
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            double rate = result.getGames() / elapsedSeconds;
+            if (threads == 1) {
+                singleThreadRate = rate;
+            }
+            System.out.printf("%3d threads: %,.0f games/s (speedup %.2fx), average length %.1f turns%n",
+                    threads, rate, rate / singleThreadRate, result.getAverageGameLength());
+        }
+    }
+
+    /**
+     * Gets the thread counts to measure: every power of two below the number of processors, then the processors themselves
+     * @param processors 
+     * @return 
+     */
+    private static List<Integer> threadCounts(int processors) {
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < processors; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(processors);
+        return counts;
+    }
+}
@@ -0,0 +1,42 @@
+package sustainabilityBoardGame;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Dice rolling, comparing a DiceRoll object per roll with the packed int roll used by the game loop
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DiceBenchmarks {
+
+    private DiceStream diceStream;
+
+    @Setup
+    public void setUp() {
+        diceStream = new DiceStream(42);
+    }
+
+    @Benchmark
+    public DiceRoll diceRollFromStream() {
+        return new DiceRoll(diceStream);
+    }
+
+    @Benchmark
+    public DiceRoll diceRollThreadLocal() {
+        return new DiceRoll();
+    }
+
+    @Benchmark
+    public int packedRoll() {
+        return diceStream.roll();
+    }
+}
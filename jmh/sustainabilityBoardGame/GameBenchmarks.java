@@ -0,0 +1,41 @@
+package sustainabilityBoardGame;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A full headless game from start to end, with a new seed for every game
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GameBenchmarks {
+
+    @Param({"2", "4"})
+    public int numPlayers;
+
+    @Param({"200"})
+    public int turnLimit;
+
+    private HeadlessGame game;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        game = new HeadlessGame(new GreedyDecisionPolicy(), numPlayers, turnLimit);
+        seed = 0;
+    }
+
+    @Benchmark
+    public GameResult fullHeadlessGame() {
+        return game.play(seed++);
+    }
+}
@@ -0,0 +1,28 @@
+package sustainabilityBoardGame;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmark suite with the GC profiler, so both throughput and allocation rate are reported
+ * An optional argument selects benchmarks by regular expression, for example "PropertyBenchmarks"
+ */
+public class JmhRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = (args.length > 0) ? args[0] : "sustainabilityBoardGame\\..*Benchmarks";
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,51 @@
+package sustainabilityBoardGame;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Wasteland resource distribution between all players, from a normal game up to hundreds of headless players
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlayerManagerBenchmarks {
+
+    @Param({"4", "8", "64", "512"})
+    private int numPlayers;
+
+    private PlayerManager playerManager;
+    private int distributor;
+
+    /**
+     * Fresh players for every iteration, as distributing slowly moves resources around
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        playerManager = new PlayerManager(new HeadlessUserInterface(new GreedyDecisionPolicy()));
+        for (int i = 0; i < numPlayers; i++) {
+            Player player = new Player("Player " + (i + 1), GameConfig.INITIAL_RESOURCES);
+            player.setEventSink(null);
+            playerManager.addPlayer(player);
+        }
+        distributor = 0;
+    }
+
+    /**
+     * Players take turns distributing, which keeps the total resources roughly constant
+     */
+    @Benchmark
+    public void distributeResources() {
+        playerManager.distributeResources(playerManager.getPlayers().get(distributor));
+        distributor = (distributor + 1) % numPlayers;
+    }
+}
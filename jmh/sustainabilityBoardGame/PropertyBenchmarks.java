@@ -0,0 +1,73 @@
+package sustainabilityBoardGame;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Property lookups made every turn: a player's properties, rent, development cost and efficiency score
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PropertyBenchmarks {
+
+    private GameBoard board;
+    private Player player;
+    private PropertySquare[] properties;
+
+    @Setup
+    public void setUp() {
+        board = new GameBoard();
+        player = new Player("Player 1", GameConfig.INITIAL_RESOURCES);
+        player.setEventSink(null);
+
+        // The player owns every property, developed to different levels
+        List<BoardSquare> squares = board.getAllSquares();
+        properties = new PropertySquare[4];
+        int count = 0;
+        for (BoardSquare square : squares) {
+            if (square instanceof PropertySquare) {
+                PropertySquare property = (PropertySquare) square;
+                player.removeResources(property.getPurchaseCost(), "Purchase");
+                property.setOwner(player);
+                for (int level = 0; level < count % 3; level++) {
+                    property.develop();
+                }
+                properties[count++] = property;
+            }
+        }
+    }
+
+    @Benchmark
+    public List<PropertySquare> getPlayerProperties() {
+        return board.getPlayerProperties(player);
+    }
+
+    @Benchmark
+    public void getRent(Blackhole blackhole) {
+        for (PropertySquare property : properties) {
+            blackhole.consume(property.getRent());
+        }
+    }
+
+    @Benchmark
+    public void getDevelopmentCost(Blackhole blackhole) {
+        for (PropertySquare property : properties) {
+            blackhole.consume(property.getDevelopmentCost());
+        }
+    }
+
+    @Benchmark
+    public int calculateEfficiencyScore() {
+        return EfficiencyCalculator.calculateEfficiencyScore(player, board);
+    }
+}
@@ -0,0 +1,132 @@
+package sustainabilityBoardGame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Passes transactions to another sink on a background thread, so the game never waits for slow output such as the console
+ * Events are held in a bounded queue and drained in batches, if the queue fills up the game waits until there is room again
+ * If the delegate throws, the failure is kept and rethrown to the game by the next onTransaction and by close,
+ * and any events still queued are dropped so no game is left waiting on a full queue
+ */
+public class AsyncEventSink implements GameEventSink, AutoCloseable {
+
+    // Largest number of events handed to the delegate in one go
+    private static final int BATCH_SIZE = 256;
+
+    private BlockingQueue<TransactionEvent> queue;
+    private GameEventSink delegate;
+    private Thread drainThread;
+    private volatile boolean closed;
+
+    // Calls to onTransaction that have got past the closed check, the drain keeps going until they have queued their event
+    private AtomicInteger producers = new AtomicInteger();
+
+    // First exception thrown by the delegate, null while it has not failed
+    private volatile RuntimeException failure;
+
+    /**
+     * Creates the sink and starts its background thread
+     * @param delegate the sink that receives the events on the background thread
+     * @param capacity maximum number of events waiting in the queue
+     */
+    public AsyncEventSink(GameEventSink delegate, int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.delegate = delegate;
+        this.drainThread = new Thread(this::drain, "game-event-sink");
+        this.drainThread.setDaemon(true);
+        this.drainThread.start();
+    }
+
+    /**
+     * Queues a transaction for the background thread, waiting if the queue is full
+     * @param event 
+     * @throws IllegalStateException if the sink has been closed or the delegate has failed
+     */
+    @Override
+    public void onTransaction(TransactionEvent event) {
+        // Counted before closed is checked, so a close that happens now still waits for this event to be queued
+        producers.incrementAndGet();
+        try {
+            checkFailure();
+            if (closed) {
+                throw new IllegalStateException("Event sink has been closed");
+            }
+            queue.put(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            producers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Stops accepting events and waits until every queued event has reached the delegate
+     * @throws IllegalStateException if the delegate failed, in which case some events were not delivered
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            drainThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        checkFailure();
+    }
+
+    /**
+     * Rethrows the delegate's failure, if it has failed
+     */
+    private void checkFailure() {
+        RuntimeException cause = failure;
+        if (cause != null) {
+            throw new IllegalStateException("Event sink delegate failed, events have been lost", cause);
+        }
+    }
+
+    /**
+     * Background loop, hands queued events to the delegate in batches until the sink is closed, no call is still
+     * queuing an event and the queue is empty
+     */
+    private void drain() {
+        List<TransactionEvent> batch = new ArrayList<>(BATCH_SIZE);
+        try {
+            while (!closed || producers.get() > 0 || !queue.isEmpty()) {
+                // Wait briefly for the first event so closing is noticed without busy waiting
+                TransactionEvent first = queue.poll(50, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+
+                // Once the delegate has failed events are only taken off the queue, so games waiting to queue are released
+                if (failure == null) {
+                    deliver(batch);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Hands a batch to the delegate, keeping the first exception it throws
+     * @param batch 
+     */
+    private void deliver(List<TransactionEvent> batch) {
+        try {
+            for (TransactionEvent event : batch) {
+                delegate.onTransaction(event);
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package sustainabilityBoardGame;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The squares of a board and the rules of its properties, compiled into flat arrays indexed by square or by property
+ * A layout never changes once it is built, so it is shared by every game played on it, and looking up a square,
+ * a property's purchase cost, rent or development cost is a single array read however large the board is
+ * 
+ * Layouts are loaded from a text file, one entry per line, blank lines and lines starting with # are ignored:
+ * go NAME
+ * wasteland NAME
+ * property TYPE PURCHASE_COST NAME
+ * rules TYPE MAX_LEVEL RENT_MULTIPLIERS COST_MULTIPLIERS LEVEL_NAMES
+ * Squares are placed in the order they are listed, starting at position 0, which must be go
+ * Multipliers are separated by commas and level names by |, a rules line replaces the standard rules of its type
+ * for the whole board, wherever it appears in the file
+ */
+public class BoardLayout {
+
+    private static final BoardLayout STANDARD = createStandard();
+
+    private PropertyCatalog catalog;
+    private MovementTable movementTable;
+
+    // Indexed by square position, special squares never change so every board of this layout shares them
+    private String[] squareNames;
+    private SquareAction[] squareActions;
+    private int[] propertyIndexes;
+    private SpecialSquare[] specialSquares;
+
+    // Indexed by property, in board order
+    private PropertyDefinition[] definitions;
+    private int[] propertySquares;
+    private PropertyType[] propertyTypes;
+    private int[] purchaseCosts;
+    private int[] maxLevels;
+
+    // Indexed by property * levelStride + level, levels past the table use its last column
+    private int levelStride;
+    private int[] rentTable;
+    private int[] developmentCostTable;
+
+    /**
+     * Compiles a layout from its squares, which must start with go
+     * @param squares 
+     * @param catalog rules for the properties on the board
+     */
+    private BoardLayout(List<SquareSpec> squares, PropertyCatalog catalog) {
+        if (squares.isEmpty() || squares.get(0).action != SquareAction.NONE) {
+            throw new IllegalArgumentException("A board must start with a go square");
+        }
+        this.catalog = catalog;
+
+        int squareCount = squares.size();
+        squareNames = new String[squareCount];
+        squareActions = new SquareAction[squareCount];
+        propertyIndexes = new int[squareCount];
+        specialSquares = new SpecialSquare[squareCount];
+
+        int propertyCount = 0;
+        int tableLevels = 1;
+        for (SquareSpec square : squares) {
+            if (square.action == SquareAction.PROPERTY) {
+                propertyCount++;
+                tableLevels = Math.max(tableLevels, catalog.getRules(square.type).getTableLevels());
+            }
+        }
+
+        levelStride = tableLevels;
+        definitions = new PropertyDefinition[propertyCount];
+        propertySquares = new int[propertyCount];
+        propertyTypes = new PropertyType[propertyCount];
+        purchaseCosts = new int[propertyCount];
+        maxLevels = new int[propertyCount];
+        rentTable = new int[propertyCount * levelStride];
+        developmentCostTable = new int[propertyCount * levelStride];
+
+        int property = 0;
+        for (int i = 0; i < squareCount; i++) {
+            SquareSpec square = squares.get(i);
+            squareNames[i] = square.name;
+            squareActions[i] = square.action;
+            propertyIndexes[i] = -1;
+
+            if (square.action == SquareAction.PROPERTY) {
+                PropertyRules rules = catalog.getRules(square.type);
+                PropertyDefinition definition = new PropertyDefinition(square.name, square.purchaseCost, square.type,
+                        rules, i, property);
+                PropertyEconomics economics = definition.getEconomics();
+
+                definitions[property] = definition;
+                propertyIndexes[i] = property;
+                propertySquares[property] = i;
+                propertyTypes[property] = square.type;
+                purchaseCosts[property] = square.purchaseCost;
+                maxLevels[property] = rules.getMaxDevelopmentLevel();
+                for (int level = 0; level < levelStride; level++) {
+                    rentTable[property * levelStride + level] = economics.getRent(level);
+                    developmentCostTable[property * levelStride + level] = economics.getDevelopmentCost(level);
+                }
+                property++;
+            } else {
+                specialSquares[i] = new SpecialSquare(square.name,
+                        (square.action == SquareAction.WASTELAND) ? SpecialSquareType.WASTELAND : SpecialSquareType.GO);
+            }
+        }
+
+        this.movementTable = new MovementTable(squareActions);
+    }
+
+    /**
+     * Gets the layout of the original six square board
+     * @return 
+     */
+    public static BoardLayout standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Loads a layout from a board file
+     * @param file 
+     * @return 
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid board, the message gives the line
+     */
+    public static BoardLayout load(Path file) throws IOException {
+        return parse(Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Compiles a layout from the lines of a board file
+     * @param lines 
+     * @return 
+     */
+    public static BoardLayout parse(List<String> lines) {
+        List<SquareSpec> squares = new ArrayList<>();
+        PropertyCatalog catalog = PropertyCatalog.standard();
+
+        for (int lineNumber = 1; lineNumber <= lines.size(); lineNumber++) {
+            String line = lines.get(lineNumber - 1).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                String[] fields = line.split("\\s+", 2);
+                String rest = (fields.length > 1) ? fields[1] : "";
+                switch (fields[0]) {
+                    case "go":
+                        squares.add(new SquareSpec(requireName(rest), SquareAction.NONE, null, 0));
+                        break;
+                    case "wasteland":
+                        squares.add(new SquareSpec(requireName(rest), SquareAction.WASTELAND, null, 0));
+                        break;
+                    case "property": {
+                        String[] property = rest.split("\\s+", 3);
+                        if (property.length < 3) {
+                            throw new IllegalArgumentException("Expected: property TYPE PURCHASE_COST NAME");
+                        }
+                        int purchaseCost = Integer.parseInt(property[1]);
+                        if (purchaseCost < 0) {
+                            throw new IllegalArgumentException("Purchase cost cannot be negative");
+                        }
+                        squares.add(new SquareSpec(property[2], SquareAction.PROPERTY, PropertyType.valueOf(property[0]),
+                                purchaseCost));
+                        break;
+                    }
+                    case "rules": {
+                        String[] rules = rest.split("\\s+", 5);
+                        if (rules.length < 5) {
+                            throw new IllegalArgumentException(
+                                    "Expected: rules TYPE MAX_LEVEL RENT_MULTIPLIERS COST_MULTIPLIERS LEVEL_NAMES");
+                        }
+                        catalog = catalog.withRules(PropertyType.valueOf(rules[0]), new PropertyRules(
+                                Integer.parseInt(rules[1]), parseMultipliers(rules[2]), parseMultipliers(rules[3]),
+                                rules[4].split("\\s*\\|\\s*")));
+                        break;
+                    }
+                    default:
+                        throw new IllegalArgumentException("Unknown entry " + fields[0]);
+                }
+            } catch (IllegalArgumentException e) {
+                // NumberFormatException and unknown property types are IllegalArgumentExceptions too
+                throw new IllegalArgumentException("Line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return new BoardLayout(squares, catalog);
+    }
+
+    /**
+     * Gets the number of squares on the board
+     * @return 
+     */
+    public int getSquareCount() {
+        return squareNames.length;
+    }
+
+    /**
+     * Gets the name of the square at a position
+     * @param position 
+     * @return 
+     */
+    public String getSquareName(int position) {
+        return squareNames[position];
+    }
+
+    /**
+     * Gets what happens when a player lands on the square at a position
+     * @param position 
+     * @return 
+     */
+    public SquareAction getSquareAction(int position) {
+        return squareActions[position];
+    }
+
+    /**
+     * Gets the index of the property at a position, in board order
+     * @param position 
+     * @return the property index, or -1 if the square is not a property
+     */
+    public int getPropertyIndex(int position) {
+        return propertyIndexes[position];
+    }
+
+    /**
+     * Gets the special square at a position, shared by every board of this layout
+     * @param position 
+     * @return the square, or null if the square is a property
+     */
+    SpecialSquare getSpecialSquare(int position) {
+        return specialSquares[position];
+    }
+
+    /**
+     * Gets the number of properties on the board
+     * @return 
+     */
+    public int getPropertyCount() {
+        return propertySquares.length;
+    }
+
+    /**
+     * Gets the definition of a property, shared by every board of this layout
+     * @param property 
+     * @return 
+     */
+    public PropertyDefinition getPropertyDefinition(int property) {
+        return definitions[property];
+    }
+
+    /**
+     * Gets the position of a property on the board
+     * @param property 
+     * @return 
+     */
+    public int getPropertySquare(int property) {
+        return propertySquares[property];
+    }
+
+    /**
+     * Gets the type of a property
+     * @param property 
+     * @return 
+     */
+    public PropertyType getPropertyType(int property) {
+        return propertyTypes[property];
+    }
+
+    /**
+     * Gets the purchase cost of a property
+     * @param property 
+     * @return 
+     */
+    public int getPurchaseCost(int property) {
+        return purchaseCosts[property];
+    }
+
+    /**
+     * Gets the highest level a property can be developed to
+     * @param property 
+     * @return 
+     */
+    public int getMaxDevelopmentLevel(int property) {
+        return maxLevels[property];
+    }
+
+    /**
+     * Gets the rent paid when landing on a property at a development level
+     * @param property 
+     * @param developmentLevel 
+     * @return 
+     */
+    public int getRent(int property, int developmentLevel) {
+        return rentTable[property * levelStride + Math.min(developmentLevel, levelStride - 1)];
+    }
+
+    /**
+     * Gets the cost of developing a property from a level to the next one
+     * @param property 
+     * @param developmentLevel 
+     * @return 
+     */
+    public int getDevelopmentCost(int property, int developmentLevel) {
+        return developmentCostTable[property * levelStride + Math.min(developmentLevel, levelStride - 1)];
+    }
+
+    /**
+     * Gets the name of the development on a property at a level
+     * @param property 
+     * @param developmentLevel 
+     * @return 
+     */
+    public String getLevelName(int property, int developmentLevel) {
+        return catalog.getRules(propertyTypes[property]).getLevelName(developmentLevel);
+    }
+
+    /**
+     * Gets the rules used for the properties on this board
+     * @return 
+     */
+    public PropertyCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Gets the precomputed moves for this board
+     * @return 
+     */
+    public MovementTable getMovementTable() {
+        return movementTable;
+    }
+
+    private static String requireName(String name) {
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("Square has no name");
+        }
+        return name;
+    }
+
+    private static double[] parseMultipliers(String list) {
+        return Arrays.stream(list.split(",")).mapToDouble(Double::parseDouble).toArray();
+    }
+
+    /**
+     * Builds the original six square board
+     * @return 
+     */
+    private static BoardLayout createStandard() {
+        List<SquareSpec> squares = new ArrayList<>();
+        squares.add(new SquareSpec("Sustainability Grant", SquareAction.NONE, null, 0));
+        squares.add(new SquareSpec("Waste Management Plant", SquareAction.PROPERTY, PropertyType.WASTE_MANAGEMENT, 200));
+        squares.add(new SquareSpec("Marine Renewable Energy Plant", SquareAction.PROPERTY, PropertyType.MARINE_ENERGY, 300));
+        squares.add(new SquareSpec("Wasteland", SquareAction.WASTELAND, null, 0));
+        squares.add(new SquareSpec("Land Based Renewable Energy Plant", SquareAction.PROPERTY, PropertyType.LAND_ENERGY, 350));
+        squares.add(new SquareSpec("Eco City", SquareAction.PROPERTY, PropertyType.ECO_CITY, 400));
+        return new BoardLayout(squares, PropertyCatalog.standard());
+    }
+
+    /**
+     * One square as listed, before the layout is compiled
+     */
+    private static class SquareSpec {
+
+        private String name;
+        private SquareAction action;
+        private PropertyType type;
+        private int purchaseCost;
+
+        SquareSpec(String name, SquareAction action, PropertyType type, int purchaseCost) {
+            this.name = name;
+            this.action = action;
+            this.type = type;
+            this.purchaseCost = purchaseCost;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package sustainabilityBoardGame;
+
+import java.util.List;
+
+/**
+ * Builds the game status and board display into one reusable buffer, so each frame is written to the console in a single call
+ * The text of each board row is kept between frames and only rebuilt when the square's owner or development level has changed
+ */
+public class BoardRenderer {
+
+    private static final String NEW_LINE = System.lineSeparator();
+
+    private StringBuilder frame;
+
+    // Board the cached rows belong to, with the owner and level each row was last built for
+    private GameBoard renderedBoard;
+    private String[] rows;
+    private Player[] rowOwners;
+    private int[] rowLevels;
+    private int rowsRenderedLastFrame;
+
+    /**
+     * Creates a renderer with an empty frame buffer
+     */
+    public BoardRenderer() {
+        this.frame = new StringBuilder(512);
+    }
+
+    /**
+     * Builds the full game status frame: the board followed by every player's resources
+     * The returned buffer is reused by the next frame, so it should be written out before rendering again
+     * @param board 
+     * @param players 
+     * @return 
+     */
+    public CharSequence renderGameStatus(GameBoard board, List<Player> players) {
+        frame.setLength(0);
+        frame.append("\n=== CURRENT GAME STATUS ===").append(NEW_LINE);
+        appendBoard(board);
+
+        // Resource information for each player
+        frame.append("\nPlayer Resources:").append(NEW_LINE);
+        for (Player player : players) {
+            frame.append(player.getName()).append(": ").append(player.getResources()).append(" resources").append(NEW_LINE);
+        }
+        frame.append(NEW_LINE);
+        return frame;
+    }
+
+    /**
+     * Builds a frame showing only the board
+     * The returned buffer is reused by the next frame, so it should be written out before rendering again
+     * @param board 
+     * @return 
+     */
+    public CharSequence renderBoard(GameBoard board) {
+        frame.setLength(0);
+        appendBoard(board);
+        return frame;
+    }
+
+    /**
+     * Gets how many board rows had to be rebuilt for the last frame, rows that did not change are reused
+     * @return 
+     */
+    public int getRowsRenderedLastFrame() {
+        return rowsRenderedLastFrame;
+    }
+
+    /**
+     * Adds the board to the frame, rebuilding only the rows whose square changed since the previous frame
+     * @param board 
+     */
+    private void appendBoard(GameBoard board) {
+        List<BoardSquare> squares = board.getAllSquares();
+        if (board != renderedBoard || rows.length != squares.size()) {
+            // A different board, so none of the cached rows can be used
+            renderedBoard = board;
+            rows = new String[squares.size()];
+            rowOwners = new Player[squares.size()];
+            rowLevels = new int[squares.size()];
+        }
+
+        rowsRenderedLastFrame = 0;
+        frame.append("\nCurrent Board State:").append(NEW_LINE);
+        for (int i = 0; i < squares.size(); i++) {
+            BoardSquare square = squares.get(i);
+            if (rows[i] == null || hasChanged(square, i)) {
+                rows[i] = renderRow(square, i);
+                rowsRenderedLastFrame++;
+            }
+            frame.append(rows[i]).append(NEW_LINE);
+        }
+    }
+
+    /**
+     * Checks if a square's owner or development level differs from when its row was built, and remembers the new values
+     * @param square 
+     * @param index 
+     * @return 
+     */
+    private boolean hasChanged(BoardSquare square, int index) {
+        if (!(square instanceof PropertySquare)) {
+            return false;
+        }
+        PropertySquare property = (PropertySquare) square;
+        return property.getOwner() != rowOwners[index] || property.getDevelopmentLevel() != rowLevels[index];
+    }
+
+    /**
+     * Builds the text for one square and its ownership status
+     * @param square 
+     * @param index 
+     * @return 
+     */
+    private String renderRow(BoardSquare square, int index) {
+        StringBuilder row = new StringBuilder();
+        row.append('[').append(index).append("] ").append(square.getName());
+
+        // Additional information for property squares
+        if (square instanceof PropertySquare) {
+            PropertySquare property = (PropertySquare) square;
+            Player owner = property.getOwner();
+            rowOwners[index] = owner;
+            rowLevels[index] = property.getDevelopmentLevel();
+
+            if (owner != null) {
+                // Show owner and development level for owned properties
+                row.append(" - Owned by ").append(owner.getName());
+                row.append(" (Level ").append(property.getDevelopmentLevel()).append(')');
+                if (!property.canBeDeveloped()) {
+                    row.append(" - Max Level");
+                }
+            } else {
+                row.append(" - Unowned");
+            }
+        }
+        return row.toString();
+    }
+}
@@ -0,0 +1,83 @@
+package sustainabilityBoardGame;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads numbered menu choices, one per line, straight out of the bytes received from a connection
+ * Lines are read as the console reads them with Integer.parseInt(line.trim()), but digit by digit with no String or
+ * parsing call, and a line may arrive split over any number of buffers as the reader keeps its place between calls
+ */
+public class ChoiceReader {
+
+    /**
+     * Returned when the buffer ran out before the end of the line
+     */
+    public static final int INCOMPLETE = -1;
+
+    /**
+     * Returned for a line that is not a number, which the console answers with "Please enter a valid number."
+     */
+    public static final int INVALID = -2;
+
+    // Where the reader is within the current line
+    private static final int LEADING_SPACE = 0;
+    private static final int SIGN = 1;
+    private static final int DIGITS = 2;
+    private static final int TRAILING_SPACE = 3;
+    private static final int BAD = 4;
+
+    private int position = LEADING_SPACE;
+    private boolean negative;
+    private long value;
+
+    /**
+     * Reads up to the end of the next line, leaving the buffer positioned after it
+     * Negative numbers are read as 0, which is outside every menu's options, as the console treats them
+     * @param in 
+     * @return the choice, INCOMPLETE if the buffer ended first, or INVALID if the line is not a number
+     */
+    public int next(ByteBuffer in) {
+        while (in.hasRemaining()) {
+            byte b = in.get();
+            if (b == '\n') {
+                int choice = (position == DIGITS || position == TRAILING_SPACE) ? (negative ? 0 : (int) value) : INVALID;
+                reset();
+                return choice;
+            }
+            if (position == BAD) {
+                continue;
+            }
+            if (b >= '0' && b <= '9') {
+                if (position == TRAILING_SPACE) {
+                    position = BAD;
+                    continue;
+                }
+                value = value * 10 + (b - '0');
+                // Anything that does not fit an int is not a valid number for parseInt either
+                position = (value > Integer.MAX_VALUE) ? BAD : DIGITS;
+            } else if (b <= ' ') {
+                // Whitespace and control characters, including the carriage return of a CRLF line, are trimmed
+                if (position == DIGITS) {
+                    position = TRAILING_SPACE;
+                } else if (position == SIGN) {
+                    position = BAD;
+                }
+            } else if ((b == '-' || b == '+') && position == LEADING_SPACE) {
+                negative = (b == '-');
+                position = SIGN;
+            } else {
+                position = BAD;
+            }
+        }
+        return INCOMPLETE;
+    }
+
+    /**
+     * Starts a new line
+     */
+    private void reset() {
+        position = LEADING_SPACE;
+        negative = false;
+        value = 0;
+    }
+}
@@ -0,0 +1,499 @@
+package sustainabilityBoardGame;
+
+/**
+ * Plays many headless games at once using only primitive arrays, instead of a graph of Player and PropertySquare objects per game
+ * Player state (resources, positions, spending, wasteland flags) and property state (owner, level, investment) for every game
+ * is stored side by side, so thousands of games fit in cache and stepping them creates no garbage
+ *
+ * The rules are the same as SquareActionHandler and SustainabilityBoardGame, with every decision made the way
+ * GreedyDecisionPolicy makes it, so a game played here from a dice stream ends exactly as the same game played by HeadlessGame
+ */
+public class CompactGameBatch {
+
+    // Player flags
+    private static final byte IN_WASTELAND = 1;
+    private static final byte RECENTLY_HAD_WASTELAND_CHOICE = 2;
+
+    private static final short NO_OWNER = -1;
+
+    // Board layout, shared by every game in the batch
+    private int boardSize;
+    private MovementTable movementTable;
+    private int[] squareProperties;
+    private int propertyCount;
+    private int[] purchaseCosts;
+    private int[] maxLevels;
+    private boolean[] ecoCity;
+    private int levelStride;
+    private int[] rentTable;
+    private int[] developmentCostTable;
+
+    private int games;
+    private int numPlayers;
+    private int turnLimit;
+    private boolean stayInWasteland;
+
+    // Per player state, indexed by game * numPlayers + player
+    private int[] resources;
+    private int[] positions;
+    private int[] totalSpent;
+    private int[] propertyInvestment;
+    private byte[] playerFlags;
+
+    // Per property state, indexed by game * propertyCount + property
+    private short[] owners;
+    private byte[] levels;
+    private int[] investments;
+
+    // Per game state
+    private int[] currentPlayers;
+    private int[] turnsPlayed;
+    private boolean[] running;
+    private DiceStream[] diceStreams;
+
+    /**
+     * Creates a batch of games played on the given board layout
+     * @param layout board whose squares are copied, its own state is not used
+     * @param games
+     * @param numPlayers
+     * @param turnLimit maximum number of turns per game, 0 for no limit
+     * @param stayInWasteland how wealthy players resolve the wasteland, true to stay and false to distribute
+     */
+    public CompactGameBatch(GameBoard layout, int games, int numPlayers, int turnLimit, boolean stayInWasteland) {
+        if (numPlayers < GameConfig.MIN_PLAYERS || numPlayers > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Unsupported number of players: " + numPlayers);
+        }
+        this.games = games;
+        this.numPlayers = numPlayers;
+        this.turnLimit = turnLimit;
+        this.stayInWasteland = stayInWasteland;
+
+        this.movementTable = layout.getMovementTable();
+        compileLayout(layout.getLayout());
+
+        int playerSlots = games * numPlayers;
+        this.resources = new int[playerSlots];
+        this.positions = new int[playerSlots];
+        this.totalSpent = new int[playerSlots];
+        this.propertyInvestment = new int[playerSlots];
+        this.playerFlags = new byte[playerSlots];
+
+        int propertySlots = games * propertyCount;
+        this.owners = new short[propertySlots];
+        this.levels = new byte[propertySlots];
+        this.investments = new int[propertySlots];
+
+        this.currentPlayers = new int[games];
+        this.turnsPlayed = new int[games];
+        this.running = new boolean[games];
+        this.diceStreams = new DiceStream[games];
+    }
+
+    /**
+     * Copies the board layout into flat arrays, with rent and development cost tables for every property and level
+     * @param layout
+     */
+    private void compileLayout(BoardLayout layout) {
+        boardSize = layout.getSquareCount();
+        propertyCount = layout.getPropertyCount();
+        squareProperties = new int[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            squareProperties[i] = layout.getPropertyIndex(i);
+        }
+
+        int highestLevel = 0;
+        for (int property = 0; property < propertyCount; property++) {
+            highestLevel = Math.max(highestLevel, layout.getMaxDevelopmentLevel(property));
+        }
+
+        levelStride = highestLevel + 1;
+        purchaseCosts = new int[propertyCount];
+        maxLevels = new int[propertyCount];
+        ecoCity = new boolean[propertyCount];
+        rentTable = new int[propertyCount * levelStride];
+        developmentCostTable = new int[propertyCount * levelStride];
+
+        for (int property = 0; property < propertyCount; property++) {
+            purchaseCosts[property] = layout.getPurchaseCost(property);
+            maxLevels[property] = layout.getMaxDevelopmentLevel(property);
+            ecoCity[property] = layout.getPropertyType(property) == PropertyType.ECO_CITY;
+            for (int level = 0; level < levelStride; level++) {
+                rentTable[property * levelStride + level] = layout.getRent(property, level);
+                developmentCostTable[property * levelStride + level] = layout.getDevelopmentCost(property, level);
+            }
+        }
+    }
+
+    /**
+     * Starts every game again, game i rolling its dice from DiceStream.forGame(seed, i)
+     * @param seed
+     */
+    public void resetAll(long seed) {
+        for (int game = 0; game < games; game++) {
+            reset(game, DiceStream.forGame(seed, game));
+        }
+    }
+
+    /**
+     * Starts a game again with every player at the start with initial resources and every property unowned
+     * @param game
+     * @param diceStream
+     */
+    public void reset(int game, DiceStream diceStream) {
+        for (int slot = game * numPlayers; slot < (game + 1) * numPlayers; slot++) {
+            resources[slot] = GameConfig.INITIAL_RESOURCES;
+            positions[slot] = 0;
+            totalSpent[slot] = 0;
+            propertyInvestment[slot] = 0;
+            playerFlags[slot] = 0;
+        }
+        for (int slot = game * propertyCount; slot < (game + 1) * propertyCount; slot++) {
+            owners[slot] = NO_OWNER;
+            levels[slot] = 0;
+            investments[slot] = 0;
+        }
+        currentPlayers[game] = 0;
+        turnsPlayed[game] = 0;
+        running[game] = true;
+        diceStreams[game] = diceStream;
+    }
+
+    /**
+     * Steps every game one turn at a time, in turn, until all of them have finished
+     */
+    public void runToEnd() {
+        int active;
+        do {
+            active = 0;
+            for (int game = 0; game < games; game++) {
+                if (step(game)) {
+                    active++;
+                }
+            }
+        } while (active > 0);
+    }
+
+    /**
+     * Plays one turn of a game, the same as one pass of the main game loop
+     * @param game
+     * @return true if the game can still be stepped afterwards
+     */
+    public boolean step(int game) {
+        if (isFinished(game)) {
+            return false;
+        }
+
+        int player = currentPlayers[game];
+        int slot = game * numPlayers + player;
+        turnsPlayed[game]++;
+
+        // Skip player's turn if they are in the wasteland
+        if ((playerFlags[slot] & IN_WASTELAND) != 0) {
+            playerFlags[slot] &= ~IN_WASTELAND;
+            nextPlayer(game);
+            return !isFinished(game);
+        }
+
+        // Develop when an affordable development exists, otherwise roll the dice
+        int property = cheapestAffordableDevelopment(game, player, slot);
+        if (property >= 0) {
+            developProperty(game, slot, property);
+        } else {
+            rollAndMove(game, player, slot);
+        }
+
+        checkGameEndConditions(game);
+        if (running[game]) {
+            nextPlayer(game);
+        }
+        return !isFinished(game);
+    }
+
+    /**
+     * Checks if a game has ended, either by the rules or by reaching its turn limit
+     * @param game
+     * @return
+     */
+    public boolean isFinished(int game) {
+        return !running[game] || (turnLimit > 0 && turnsPlayed[game] >= turnLimit);
+    }
+
+    /**
+     * Checks if a game ended by the normal rules rather than by its turn limit
+     * @param game
+     * @return
+     */
+    public boolean isCompleted(int game) {
+        return !running[game];
+    }
+
+    /**
+     * Gets the number of turns played in a game, including turns skipped in the wasteland
+     * @param game
+     * @return
+     */
+    public int getTurnsPlayed(int game) {
+        return turnsPlayed[game];
+    }
+
+    /**
+     * Gets a player's resources in a game
+     * @param game
+     * @param player
+     * @return
+     */
+    public int getResources(int game, int player) {
+        return resources[game * numPlayers + player];
+    }
+
+    /**
+     * Gets a player's efficiency score in a game, calculated as EfficiencyCalculator does
+     * @param game
+     * @param player
+     * @return
+     */
+    public int getEfficiencyScore(int game, int player) {
+        return efficiencyScore(game * numPlayers + player);
+    }
+
+    /**
+     * Gets the player with the highest total worth (resources plus property investments) in a game
+     * @param game
+     * @return
+     */
+    public int getWinner(int game) {
+        int winner = 0;
+        int bestWorth = Integer.MIN_VALUE;
+        for (int player = 0; player < numPlayers; player++) {
+            int slot = game * numPlayers + player;
+            int totalWorth = resources[slot] + propertyInvestment[slot];
+            if (totalWorth > bestWorth) {
+                bestWorth = totalWorth;
+                winner = player;
+            }
+        }
+        return winner;
+    }
+
+    /**
+     * Copies the outcome of a game into a GameResult, for comparing with games played by HeadlessGame
+     * @param game
+     * @return
+     */
+    public GameResult toResult(int game) {
+        int[] finalResources = new int[numPlayers];
+        int[] efficiencyScores = new int[numPlayers];
+        for (int player = 0; player < numPlayers; player++) {
+            finalResources[player] = getResources(game, player);
+            efficiencyScores[player] = getEfficiencyScore(game, player);
+        }
+        return new GameResult(getWinner(game), turnsPlayed[game], isCompleted(game), finalResources, efficiencyScores);
+    }
+
+    /**
+     * Gets the number of games in the batch
+     * @return
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Finds the cheapest property the player can still develop and afford, ties going to the property first on the board
+     * as in the player's property list
+     * @param game
+     * @param player
+     * @param slot
+     * @return property index, or -1 if there is none
+     */
+    private int cheapestAffordableDevelopment(int game, int player, int slot) {
+        int choice = -1;
+        int cheapestCost = Integer.MAX_VALUE;
+
+        for (int property = 0; property < propertyCount; property++) {
+            int propertySlot = game * propertyCount + property;
+            if (owners[propertySlot] == player && levels[propertySlot] < maxLevels[property]) {
+                int cost = developmentCostTable[property * levelStride + levels[propertySlot]];
+                if (cost <= resources[slot] && cost < cheapestCost) {
+                    cheapestCost = cost;
+                    choice = property;
+                }
+            }
+        }
+        return choice;
+    }
+
+    /**
+     * Develops a property the player can afford, the final Eco City development sending the player to the wasteland
+     * @param game
+     * @param slot
+     * @param property
+     */
+    private void developProperty(int game, int slot, int property) {
+        int propertySlot = game * propertyCount + property;
+        int cost = developmentCostTable[property * levelStride + levels[propertySlot]];
+
+        if (ecoCity[property] && levels[propertySlot] == 1) {
+            playerFlags[slot] |= IN_WASTELAND;
+        }
+
+        resources[slot] -= cost;
+        totalSpent[slot] += cost;
+        levels[propertySlot]++;
+        investments[propertySlot] += cost;
+        propertyInvestment[slot] += cost;
+    }
+
+    /**
+     * Rolls the dice, moves the player, pays the grant when passing go and resolves the square landed on
+     * @param game
+     * @param player
+     * @param slot
+     */
+    private void rollAndMove(int game, int player, int slot) {
+        int roll = diceStreams[game].roll();
+        int move = movementTable.getMove(positions[slot], DiceRoll.total(roll));
+        int newPosition = MovementTable.destination(move);
+
+        if (MovementTable.passedGo(move)) {
+            int efficiency = efficiencyScore(slot);
+            int grantAmount = (efficiency == 0) ? GameConfig.GO_GRANT_BASE
+                    : GameConfig.GO_GRANT_BASE + efficiency * GameConfig.GO_GRANT_EFFICIENCY_MULTIPLIER;
+            resources[slot] += grantAmount;
+        }
+        positions[slot] = newPosition;
+
+        SquareAction action = MovementTable.action(move);
+        if (action == SquareAction.WASTELAND) {
+            landOnWasteland(game, player, slot);
+        } else if (action == SquareAction.PROPERTY) {
+            landOnProperty(game, player, slot, squareProperties[newPosition]);
+        }
+    }
+
+    /**
+     * Wasteland rules for wealthy players, as in SquareActionHandler
+     * @param game
+     * @param player
+     * @param slot
+     */
+    private void landOnWasteland(int game, int player, int slot) {
+        if (resources[slot] <= 0) {
+            return;
+        }
+
+        double avgResources = averageResourcesExcludingPlayer(game, player);
+        if (resources[slot] > avgResources * 1.5 && (playerFlags[slot] & RECENTLY_HAD_WASTELAND_CHOICE) == 0) {
+            if (stayInWasteland) {
+                playerFlags[slot] |= IN_WASTELAND;
+            } else {
+                distributeResources(game, player, slot);
+            }
+            playerFlags[slot] |= RECENTLY_HAD_WASTELAND_CHOICE;
+        } else {
+            playerFlags[slot] &= ~RECENTLY_HAD_WASTELAND_CHOICE;
+        }
+    }
+
+    /**
+     * Buys an unowned property the player can afford, or pays rent to its owner, as in SquareActionHandler
+     * @param game
+     * @param player
+     * @param slot
+     * @param property
+     */
+    private void landOnProperty(int game, int player, int slot, int property) {
+        int propertySlot = game * propertyCount + property;
+        int owner = owners[propertySlot];
+
+        if (owner == NO_OWNER) {
+            int cost = purchaseCosts[property];
+            if (resources[slot] >= cost) {
+                resources[slot] -= cost;
+                totalSpent[slot] += cost;
+                owners[propertySlot] = (short) player;
+                investments[propertySlot] += cost;
+                propertyInvestment[slot] += investments[propertySlot];
+            }
+        } else if (owner != player) {
+            int rent = rentTable[property * levelStride + levels[propertySlot]];
+            int ownerSlot = game * numPlayers + owner;
+
+            // Full payment, or everything the player has left when they cannot pay in full
+            int payment = (resources[slot] >= rent) ? rent : resources[slot];
+            resources[slot] -= payment;
+            totalSpent[slot] += payment;
+            resources[ownerSlot] += payment;
+        }
+    }
+
+    /**
+     * Distributes 25% of the player's resources equally between the other players, as in PlayerManager
+     * @param game
+     * @param player
+     * @param slot
+     */
+    private void distributeResources(int game, int player, int slot) {
+        int resourcesAmount = resources[slot] / 4;
+        int resourcesPerPlayer = resourcesAmount / (numPlayers - 1);
+
+        resources[slot] -= resourcesAmount;
+        totalSpent[slot] += resourcesAmount;
+        for (int recipient = game * numPlayers; recipient < (game + 1) * numPlayers; recipient++) {
+            if (recipient != slot) {
+                resources[recipient] += resourcesPerPlayer;
+            }
+        }
+    }
+
+    /**
+     * Average resources of every other player in the game, as in PlayerManager
+     * @param game
+     * @param player
+     * @return
+     */
+    private double averageResourcesExcludingPlayer(int game, int player) {
+        int totalResources = 0;
+        for (int other = 0; other < numPlayers; other++) {
+            if (other != player) {
+                totalResources += resources[game * numPlayers + other];
+            }
+        }
+        return totalResources / (double) (numPlayers - 1);
+    }
+
+    /**
+     * Efficiency score from the player's running totals, as in EfficiencyCalculator
+     * @param slot
+     * @return
+     */
+    private int efficiencyScore(int slot) {
+        int totalResourceValue = resources[slot] + propertyInvestment[slot];
+        int spent = totalSpent[slot];
+        return (spent > 0) ? (totalResourceValue * 100) / (spent + totalResourceValue) : 0;
+    }
+
+    /**
+     * Ends the game if only one or zero players have resources left
+     * @param game
+     */
+    private void checkGameEndConditions(int game) {
+        int playersWithResources = 0;
+        for (int slot = game * numPlayers; slot < (game + 1) * numPlayers; slot++) {
+            if (resources[slot] > 0) {
+                playersWithResources++;
+            }
+        }
+        if (playersWithResources <= 1) {
+            running[game] = false;
+        }
+    }
+
+    /**
+     * Advances to the next player's turn
+     * @param game
+     */
+    private void nextPlayer(int game) {
+        currentPlayers[game] = (currentPlayers[game] + 1) % numPlayers;
+    }
+}
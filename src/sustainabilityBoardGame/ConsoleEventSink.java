@@ -0,0 +1,31 @@
+package sustainabilityBoardGame;
+
+import java.io.PrintStream;
+
+/**
+ * Prints every transaction to the console, as the game has always done, or to another stream such as a network connection
+ */
+public class ConsoleEventSink implements GameEventSink {
+
+    /**
+     * Shared instance printing to the console
+     */
+    public static final ConsoleEventSink INSTANCE = new ConsoleEventSink(System.out);
+
+    private PrintStream out;
+
+    /**
+     * Creates a sink that prints to the given stream
+     * @param out 
+     */
+    public ConsoleEventSink(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void onTransaction(TransactionEvent event) {
+        String verb = (event.getKind() == TransactionEvent.Kind.RECEIVED) ? " received " : " spent ";
+        out.println(event.getPlayer().getName() + verb + event.getAmount() + " resources (" + event.getReason() + ")");
+        out.println("New balance: " + event.getNewBalance());
+    }
+}
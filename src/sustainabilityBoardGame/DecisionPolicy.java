@@ -0,0 +1,51 @@
+package sustainabilityBoardGame;
+
+import java.util.List;
+
+/**
+ * Defines every decision a player has to make during the game
+ * The console UI asks a human for each decision, while the headless engine plugs in an automated policy
+ */
+public interface DecisionPolicy {
+
+    /**
+     * Chooses the action for a turn using the same numbering as the turn menu
+     * 1 is roll dice, 2 is develop a property (or quit if nothing can be developed), 3 is quit
+     * @param player
+     * @param ownedProperties
+     * @param canDevelopAny
+     * @return
+     */
+    int chooseTurnOption(Player player, List<PropertySquare> ownedProperties, boolean canDevelopAny);
+
+    /**
+     * Chooses which of the owned properties to develop
+     * @param player
+     * @param developableProperties
+     * @return position of the chosen property in the list, starting from 1
+     */
+    int choosePropertyToDevelop(Player player, List<PropertySquare> developableProperties);
+
+    /**
+     * Decides whether to purchase an unowned property the player can afford
+     * @param player
+     * @param property
+     * @return
+     */
+    boolean decidePurchase(Player player, PropertySquare property);
+
+    /**
+     * Decides how a wealthy player resolves landing on the wasteland
+     * @param player
+     * @return true to stay in the wasteland for next turn, false to distribute 25% of resources
+     */
+    boolean chooseToStayInWasteland(Player player);
+
+    /**
+     * Confirms the final Eco City development, which costs the player their next turn
+     * @param player
+     * @param property
+     * @return
+     */
+    boolean confirmEcoCityDevelopment(Player player, PropertySquare property);
+}
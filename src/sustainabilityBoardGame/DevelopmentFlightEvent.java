@@ -0,0 +1,28 @@
+package sustainabilityBoardGame;
+
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for developing a property
+ */
+@Name("sustainabilityBoardGame.PropertyDevelopment")
+@Label("Property Development")
+@Description("A property developed by its owner; the amount is the development cost")
+public class DevelopmentFlightEvent extends GameFlightEvent {
+
+    private static final EventType TYPE = EventType.getEventType(DevelopmentFlightEvent.class);
+
+    @Label("New Level")
+    int level;
+
+    /**
+     * Checks whether a recording has this event enabled, so the event is only created when it will be used
+     * @return 
+     */
+    static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
@@ -1,28 +1,86 @@
 package sustainabilityBoardGame;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Represents a roll of two dice in the game
- * Creates a random object to represent the random roll of a die
+ * Dice are rolled from the game's own dice stream, or from the thread's random generator when no stream is given
  */
 public class DiceRoll {
     
     private int dice1;
     private int dice2;
     
-    // Static random instance for generating dice values as using a static is more efficient than creating a new one for each roll 
-    private static final Random random = new Random();
+    // Layout of a packed roll: first die in the lowest byte, second die in the next byte, total above them
+    private static final int DIE_BITS = 8;
+    private static final int DIE_MASK = 0xFF;
+    private static final int TOTAL_SHIFT = 2 * DIE_BITS;
 
     /**
      * Constructor which acts as rolling the dice
      */
     public DiceRoll() {
-        // Generate random values between 1-6 for both dice
+        // Generate random values between 1-6 for both dice, each thread has its own generator so rolls never contend
+        ThreadLocalRandom random = ThreadLocalRandom.current();
         this.dice1 = random.nextInt(6) + 1;
         this.dice2 = random.nextInt(6) + 1;
     }
 
+    /**
+     * Constructor which rolls both dice from a game's dice stream
+     * @param diceStream 
+     */
+    public DiceRoll(DiceStream diceStream) {
+        this.dice1 = diceStream.rollDie();
+        this.dice2 = diceStream.rollDie();
+    }
+
+    /**
+     * Constructor which unpacks a roll made by DiceStream.roll, used when a roll has to be shown to the user
+     * @param packedRoll 
+     */
+    public DiceRoll(int packedRoll) {
+        this.dice1 = dice1(packedRoll);
+        this.dice2 = dice2(packedRoll);
+    }
+
+    /**
+     * Packs both dice and their total into a single int, so a roll can be passed around without creating an object
+     * @param dice1 
+     * @param dice2 
+     * @return 
+     */
+    public static int pack(int dice1, int dice2) {
+        return dice1 | (dice2 << DIE_BITS) | ((dice1 + dice2) << TOTAL_SHIFT);
+    }
+
+    /**
+     * Gets the value of the first die from a packed roll
+     * @param packedRoll 
+     * @return 
+     */
+    public static int dice1(int packedRoll) {
+        return packedRoll & DIE_MASK;
+    }
+
+    /**
+     * Gets the value of the second die from a packed roll
+     * @param packedRoll 
+     * @return 
+     */
+    public static int dice2(int packedRoll) {
+        return (packedRoll >>> DIE_BITS) & DIE_MASK;
+    }
+
+    /**
+     * Gets the total of both dice from a packed roll
+     * @param packedRoll 
+     * @return 
+     */
+    public static int total(int packedRoll) {
+        return packedRoll >>> TOTAL_SHIFT;
+    }
+
     /**
      * Gets the value of the first die for outputting result to user
      * 
@@ -0,0 +1,31 @@
+package sustainabilityBoardGame;
+
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for rolling the dice
+ */
+@Name("sustainabilityBoardGame.DiceRoll")
+@Label("Dice Roll")
+@Description("A roll of the dice; the square is where the player rolled from and the amount is the total rolled")
+public class DiceRollFlightEvent extends GameFlightEvent {
+
+    private static final EventType TYPE = EventType.getEventType(DiceRollFlightEvent.class);
+
+    @Label("First Die")
+    int dice1;
+
+    @Label("Second Die")
+    int dice2;
+
+    /**
+     * Checks whether a recording has this event enabled, so the event is only created when it will be used
+     * @return 
+     */
+    static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
@@ -0,0 +1,101 @@
+package sustainabilityBoardGame;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A seedable source of dice rolls owned by a single game
+ * Each game rolls from its own stream, so parallel games never share a random generator
+ * and a game played again from the same seed rolls exactly the same dice
+ * 
+ * The generator is the one used by SplittableRandom, kept as a single long so it can be saved and restored
+ * The rolls are the same as new SplittableRandom(seed).nextInt(6) + 1 for the same seed
+ */
+public class DiceStream {
+
+    // Step added to the state for each value drawn, the same as SplittableRandom's default
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    /**
+     * Creates an unseeded stream for games that do not need to be reproduced
+     */
+    public DiceStream() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a stream that always produces the same rolls for the same seed
+     * A stream created from the value returned by getState carries on exactly where that stream was
+     * @param seed 
+     */
+    public DiceStream(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Creates the stream for one game in a seeded series of games
+     * The stream only depends on the series seed and the game's index, not on which thread or batch plays the game
+     * @param seed 
+     * @param gameIndex 
+     * @return 
+     */
+    public static DiceStream forGame(long seed, long gameIndex) {
+        // Same value as the gameIndex-th long drawn from new SplittableRandom(seed), without drawing the earlier ones
+        long gameSeed = new SplittableRandom(seed + gameIndex * GOLDEN_GAMMA).nextLong();
+        return new DiceStream(gameSeed);
+    }
+
+    /**
+     * Splits off an independent stream, for example one per worker thread
+     * @return 
+     */
+    public DiceStream split() {
+        long childSeed = new SplittableRandom(state).nextLong();
+        state += GOLDEN_GAMMA;
+        return new DiceStream(childSeed);
+    }
+
+    /**
+     * Gets the current state of the stream, which is all that is needed to continue it later
+     * @return 
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Rolls a single die
+     * @return a value between 1 and 6
+     */
+    public int rollDie() {
+        // Unbiased bound of 6 by rejection, exactly as SplittableRandom.nextInt(6)
+        int bits = nextInt();
+        int value;
+        for (int u = bits >>> 1; u + 5 - (value = u % 6) < 0; u = nextInt() >>> 1) {
+            // Rejected, draw again
+        }
+        return value + 1;
+    }
+
+    /**
+     * Rolls both dice without creating an object, the values are read with DiceRoll.dice1, dice2 and total
+     * @return the packed roll
+     */
+    public int roll() {
+        int dice1 = rollDie();
+        int dice2 = rollDie();
+        return DiceRoll.pack(dice1, dice2);
+    }
+
+    /**
+     * Draws the next 32 random bits
+     * @return 
+     */
+    private int nextInt() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+}
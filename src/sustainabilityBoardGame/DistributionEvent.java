@@ -0,0 +1,69 @@
+package sustainabilityBoardGame;
+
+/**
+ * A wasteland distribution of resources from one player to every other player, passed to the event sink as a single event
+ * however many players receive a share
+ */
+public class DistributionEvent {
+
+    private Player distributor;
+    private int amountEach;
+    private Player[] recipients;
+    private int[] newBalances;
+
+    /**
+     * Creates an event for a completed distribution
+     * @param distributor the player who gave the resources
+     * @param amountEach the amount every recipient received
+     * @param recipients 
+     * @param newBalances each recipient's balance straight after the distribution, in the same order as the recipients
+     */
+    public DistributionEvent(Player distributor, int amountEach, Player[] recipients, int[] newBalances) {
+        this.distributor = distributor;
+        this.amountEach = amountEach;
+        this.recipients = recipients;
+        this.newBalances = newBalances;
+    }
+
+    /**
+     * Gets the player who gave the resources
+     * @return 
+     */
+    public Player getDistributor() {
+        return distributor;
+    }
+
+    /**
+     * Gets the amount every recipient received
+     * @return 
+     */
+    public int getAmountEach() {
+        return amountEach;
+    }
+
+    /**
+     * Gets the number of players who received a share
+     * @return 
+     */
+    public int getRecipientCount() {
+        return recipients.length;
+    }
+
+    /**
+     * Gets a player who received a share
+     * @param index 
+     * @return 
+     */
+    public Player getRecipient(int index) {
+        return recipients[index];
+    }
+
+    /**
+     * Gets a recipient's balance straight after the distribution
+     * @param index 
+     * @return 
+     */
+    public int getNewBalance(int index) {
+        return newBalances[index];
+    }
+}
@@ -0,0 +1,31 @@
+package sustainabilityBoardGame;
+
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for a wasteland distribution of resources to the other players
+ */
+@Name("sustainabilityBoardGame.ResourceDistribution")
+@Label("Resource Distribution")
+@Description("Resources shared out by a wealthy player in the wasteland; the amount is the total taken from the player")
+public class DistributionFlightEvent extends GameFlightEvent {
+
+    private static final EventType TYPE = EventType.getEventType(DistributionFlightEvent.class);
+
+    @Label("Amount Each")
+    int amountEach;
+
+    @Label("Recipients")
+    int recipients;
+
+    /**
+     * Checks whether a recording has this event enabled, so the event is only created when it will be used
+     * @return 
+     */
+    static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
@@ -15,13 +15,17 @@ public class EfficiencyCalculator {
      * @return 
      */
     public static int calculateEfficiencyScore(Player player, GameBoard board) {
-        // Players current cash
-        int totalResourceValue = player.getResources();
+        return calculateEfficiencyScore(player);
+    }
 
-        // Add the value of all developments in properties
-        for (PropertySquare property : board.getPlayerProperties(player)) {
-            totalResourceValue += property.getTotalInvestment();
-        }
+    /**
+     * Calculates the efficiency score for a player from their running totals, without looking at their properties
+     * @param player 
+     * @return 
+     */
+    public static int calculateEfficiencyScore(Player player) {
+        // Players current cash plus the value of all developments in properties, which the player keeps as a running total
+        int totalResourceValue = player.getResources() + player.getPropertyInvestment();
 
         // Total amount the player has spent 
         int totalSpent = player.getTotalSpent();
@@ -31,4 +35,4 @@ public class EfficiencyCalculator {
 
         return efficiency;
     }
-}
\ No newline at end of file
+}
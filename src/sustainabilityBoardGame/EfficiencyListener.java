@@ -0,0 +1,15 @@
+package sustainabilityBoardGame;
+
+/**
+ * Optional observer that is told whenever a player's efficiency score changes
+ */
+public interface EfficiencyListener {
+
+    /**
+     * Called after a transaction or investment has changed the player's efficiency score
+     * @param player
+     * @param oldScore
+     * @param newScore
+     */
+    void efficiencyChanged(Player player, int oldScore, int newScore);
+}
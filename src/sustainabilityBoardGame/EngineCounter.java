@@ -0,0 +1,34 @@
+package sustainabilityBoardGame;
+
+/**
+ * Enum for the game events counted by EngineMetrics
+ */
+public enum EngineCounter {
+
+    // Times a player paid rent, in full or in part
+    RENT_PAYMENTS("rent payments"),
+    // Resources paid in rent
+    RENT_PAID("rent paid"),
+    // Properties bought
+    PURCHASES("purchases"),
+    // Development levels added to properties
+    DEVELOPMENTS("developments"),
+    // Players whose resources ran out
+    BANKRUPTCIES("bankruptcies"),
+    // Times a player landed on the wasteland
+    WASTELAND_LANDINGS("wasteland landings");
+
+    private final String label;
+
+    EngineCounter(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets the name of the counter as it appears in metric dumps
+     * @return 
+     */
+    public String getLabel() {
+        return label;
+    }
+}
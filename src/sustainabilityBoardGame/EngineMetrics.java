@@ -0,0 +1,219 @@
+package sustainabilityBoardGame;
+
+import java.io.PrintStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms for the parts of a turn and counters for game events, shared by any number of games and threads
+ * Games report here once given the metrics with setMetrics. Counting is done in each game and added here every so
+ * often, and only one turn in every sample interval is timed, because reading the clock costs about as much as a
+ * whole headless turn; an interval of 1 times every turn, which suits games played by people
+ */
+public class EngineMetrics {
+
+    // Timing one turn in this many keeps the cost to headless games under 1%
+    public static final int DEFAULT_SAMPLE_INTERVAL = 1024;
+
+    private int sampleInterval;
+    private LatencyHistogram[] histograms;
+    private LongAdder[] counters;
+
+    /**
+     * Creates metrics that time one turn in every DEFAULT_SAMPLE_INTERVAL
+     */
+    public EngineMetrics() {
+        this(DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Creates metrics that time one turn in every sample interval
+     * @param sampleInterval 1 to time every turn
+     */
+    public EngineMetrics(int sampleInterval) {
+        if (sampleInterval < 1) {
+            throw new IllegalArgumentException("Sample interval must be at least 1, got " + sampleInterval);
+        }
+        this.sampleInterval = sampleInterval;
+        this.histograms = new LatencyHistogram[TurnPhase.values().length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        this.counters = new LongAdder[EngineCounter.values().length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Gets how many turns there are for each one timed
+     * @return 
+     */
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * Records how long a part of a turn took
+     * @param phase 
+     * @param nanos 
+     */
+    public void record(TurnPhase phase, long nanos) {
+        histograms[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * Adds to one of the event counters
+     * @param counter 
+     * @param amount 
+     */
+    public void add(EngineCounter counter, long amount) {
+        counters[counter.ordinal()].add(amount);
+    }
+
+    /**
+     * Gets the histogram of a part of the turn
+     * @param phase 
+     * @return 
+     */
+    public LatencyHistogram getHistogram(TurnPhase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    /**
+     * Gets the current value of an event counter, not including counts games have not yet added
+     * A game still being played adds its counts at each timed turn, so this can lag by up to a sample interval of
+     * turns per game; finished games and games whose flushMetrics has been called are fully counted
+     * @param counter 
+     * @return 
+     */
+    public long getCount(EngineCounter counter) {
+        return counters[counter.ordinal()].sum();
+    }
+
+    /**
+     * Takes a copy of the percentiles, maxima and counters as they are now
+     * The counters lag behind games still being played in the same way as getCount
+     * @return 
+     */
+    public MetricsSnapshot snapshot() {
+        TurnPhase[] phases = TurnPhase.values();
+        long[] samples = new long[phases.length];
+        long[] medians = new long[phases.length];
+        long[] p99s = new long[phases.length];
+        long[] maxima = new long[phases.length];
+        for (TurnPhase phase : phases) {
+            LatencyHistogram histogram = getHistogram(phase);
+            int i = phase.ordinal();
+            samples[i] = histogram.getCount();
+            medians[i] = histogram.getValueAtPercentile(50);
+            p99s[i] = histogram.getValueAtPercentile(99);
+            maxima[i] = histogram.getMax();
+        }
+
+        long[] counts = new long[counters.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = counters[i].sum();
+        }
+        return new MetricsSnapshot(samples, medians, p99s, maxima, counts);
+    }
+
+    /**
+     * Starts writing a snapshot to the stream at a fixed period, until the returned reporter is closed
+     * @param out 
+     * @param periodMillis 
+     * @return 
+     */
+    public MetricsReporter startReporter(PrintStream out, long periodMillis) {
+        return new MetricsReporter(this, out, periodMillis);
+    }
+
+    /**
+     * Creates the recorder a single game uses to report here
+     * @param playerManager the game's players, whose bankruptcies are counted
+     * @return 
+     */
+    GameRecorder newGameRecorder(PlayerManager playerManager) {
+        return new GameRecorder(this, playerManager);
+    }
+
+    /**
+     * Counts one game's events and decides which of its turns are timed, used only by the game's own thread
+     * Counts are kept in plain fields and added to the shared metrics at each timed turn and when the game ends
+     * Bankruptcies are already counted by the player manager, so only the change since the last time is added
+     */
+    static class GameRecorder {
+
+        private EngineMetrics metrics;
+        private PlayerManager playerManager;
+        private long[] counts = new long[EngineCounter.values().length];
+        private int reportedBankruptcies;
+        private int turnsUntilTimed;
+
+        /**
+         * Creates a recorder whose first timed turn falls at random within the first interval, so games shorter than
+         * the interval are still timed in proportion
+         * @param metrics 
+         * @param playerManager 
+         */
+        GameRecorder(EngineMetrics metrics, PlayerManager playerManager) {
+            this.metrics = metrics;
+            this.playerManager = playerManager;
+            this.reportedBankruptcies = playerManager.getBankruptcyCount();
+            this.turnsUntilTimed = ThreadLocalRandom.current().nextInt(metrics.sampleInterval) + 1;
+        }
+
+        /**
+         * Starts a turn, kept small so it is inlined into the turn and the rare timed turn is handled separately
+         * @return true if the turn is to be timed
+         */
+        boolean startTurn() {
+            if (--turnsUntilTimed > 0) {
+                return false;
+            }
+            return startTimedTurn();
+        }
+
+        /**
+         * Starts a timed turn, first adding the counts so far to the shared metrics
+         * @return 
+         */
+        private boolean startTimedTurn() {
+            turnsUntilTimed = metrics.sampleInterval;
+            flush();
+            return true;
+        }
+
+        /**
+         * Gets the metrics this recorder reports to
+         * @return 
+         */
+        EngineMetrics getMetrics() {
+            return metrics;
+        }
+
+        /**
+         * Counts an event
+         * @param counter 
+         * @param amount 
+         */
+        void count(EngineCounter counter, long amount) {
+            counts[counter.ordinal()] += amount;
+        }
+
+        /**
+         * Adds the events counted so far to the shared metrics
+         */
+        void flush() {
+            int bankruptcies = playerManager.getBankruptcyCount();
+            counts[EngineCounter.BANKRUPTCIES.ordinal()] += bankruptcies - reportedBankruptcies;
+            reportedBankruptcies = bankruptcies;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    metrics.counters[i].add(counts[i]);
+                    counts[i] = 0;
+                }
+            }
+        }
+    }
+}
@@ -10,25 +10,39 @@ public class GameBoard {
     
     private List<BoardSquare> squares;
     
+    // Squares and property rules this board was built from, shared with every other board of the same layout
+    private BoardLayout layout;
+    
     /**
      * Constructor that creates a new game board and initializes all squares
      */
     public GameBoard() {
-        this.squares = new ArrayList<>();
+        this(BoardLayout.standard());
+    }
+    
+    /**
+     * Creates a new game board with the squares of a layout, such as one loaded from a board file
+     * @param layout 
+     */
+    public GameBoard(BoardLayout layout) {
+        this.layout = layout;
+        this.squares = new ArrayList<>(layout.getSquareCount());
         initializeBoard();
     }
     
     /**
      * Initializes the board with all required squares in the correct order
+     * Only the property squares are created for this board, their definitions and the special squares are the layout's own
      */
     private void initializeBoard() {
-        // Create the board with fields in order
-        squares.add(new SpecialSquare("Sustainability Grant", SpecialSquareType.GO));
-        squares.add(new PropertySquare("Waste Management Plant", 200, PropertyType.WASTE_MANAGEMENT));
-        squares.add(new PropertySquare("Marine Renewable Energy Plant", 300, PropertyType.MARINE_ENERGY));
-        squares.add(new SpecialSquare("Wasteland", SpecialSquareType.WASTELAND));
-        squares.add(new PropertySquare("Land Based Renewable Energy Plant", 350, PropertyType.LAND_ENERGY));
-        squares.add(new PropertySquare("Eco City", 400, PropertyType.ECO_CITY));
+        for (int position = 0; position < layout.getSquareCount(); position++) {
+            int property = layout.getPropertyIndex(position);
+            if (property >= 0) {
+                squares.add(new PropertySquare(layout.getPropertyDefinition(property)));
+            } else {
+                squares.add(layout.getSpecialSquare(position));
+            }
+        }
     }
     
     /**
@@ -53,24 +67,37 @@ public class GameBoard {
     }
     
     /**
-     * Gets a list of all property squares owned by a specific player.
+     * Gets the precomputed moves for this board
+     * @return 
+     */
+    public MovementTable getMovementTable() {
+        return layout.getMovementTable();
+    }
+    
+    /**
+     * Gets the layout this board was built from
+     * @return 
+     */
+    public BoardLayout getLayout() {
+        return layout;
+    }
+    
+    /**
+     * Gets the number of squares on the board
+     * @return 
+     */
+    public int getSize() {
+        return squares.size();
+    }
+    
+    /**
+     * Gets a list of all property squares owned by a specific player, in board order.
+     * The list is a read-only view kept up to date as properties change owner, so no squares are scanned and nothing is copied
      * @param player 
      * @return 
      */
     public List<PropertySquare> getPlayerProperties(Player player) {
-        List<PropertySquare> properties = new ArrayList<>();
-        
-        // Iterate through all squares to find properties owned by the player
-        for (BoardSquare square : squares) {
-            if (square instanceof PropertySquare) {
-                PropertySquare property = (PropertySquare) square;
-                if (property.getOwner() == player) {
-                    properties.add(property);
-                }
-            }
-        }
-        
-        return properties;
+        return player.getOwnedProperties();
     }
 
 }
\ No newline at end of file
@@ -5,7 +5,9 @@ package sustainabilityBoardGame;
  */
 public class GameConfig {
     
-    public static final int TOTAL_SQUARES = 6;
+    // Squares on the standard board, taken from its layout so the two cannot drift apart
+    // Boards loaded from a file have their own size, see GameBoard.getSize
+    public static final int TOTAL_SQUARES = BoardLayout.standard().getSquareCount();
     
     
     public static final int INITIAL_RESOURCES = 1000;
@@ -16,6 +18,9 @@ public class GameConfig {
     
     public static final int MAX_PLAYERS = 4;
     
+    // Largest number of players in a headless game, the console game keeps to MAX_PLAYERS
+    public static final int MAX_HEADLESS_PLAYERS = 1024;
+    
     
     public static final int GO_GRANT_BASE = 100;
     
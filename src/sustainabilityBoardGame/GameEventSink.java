@@ -0,0 +1,28 @@
+package sustainabilityBoardGame;
+
+/**
+ * Receives the transactions made during a game, for example to print, record or discard them
+ * Players only create events when a sink is attached, so games without a sink build no transaction messages at all
+ */
+public interface GameEventSink {
+
+    /**
+     * Called after a player has received or spent resources
+     * @param event
+     */
+    void onTransaction(TransactionEvent event);
+
+    /**
+     * Called after a player's resources have been distributed to every other player
+     * By default the distribution is passed on as one received transaction per recipient, sinks that can handle
+     * the whole distribution at once override this
+     * @param event
+     */
+    default void onDistribution(DistributionEvent event) {
+        int distributor = event.getDistributor().getPlayerIndex();
+        for (int i = 0; i < event.getRecipientCount(); i++) {
+            onTransaction(new TransactionEvent(TransactionEvent.Kind.RECEIVED, event.getRecipient(i),
+                    event.getAmountEach(), TransactionReason.DISTRIBUTION_RECEIVED, distributor, event.getNewBalance(i)));
+        }
+    }
+}
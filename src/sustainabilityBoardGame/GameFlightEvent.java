@@ -0,0 +1,34 @@
+package sustainabilityBoardGame;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+
+/**
+ * Fields shared by the game's Java Flight Recorder events: the player, the square and the amount of resources involved
+ * Events are only created, filled in and committed while a recording has them enabled: callers check the event
+ * type's enabled flag first, so nothing is allocated when JFR is off
+ */
+@Category("Sustainability Board Game")
+public abstract class GameFlightEvent extends jdk.jfr.Event {
+
+    @Label("Player")
+    String player;
+
+    @Label("Square")
+    String square;
+
+    @Label("Amount")
+    int amount;
+
+    /**
+     * Sets the fields every game event has
+     * @param player 
+     * @param square name of the square
+     * @param amount 
+     */
+    void set(Player player, String square, int amount) {
+        this.player = player.getName();
+        this.square = square;
+        this.amount = amount;
+    }
+}
@@ -0,0 +1,224 @@
+package sustainabilityBoardGame;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only journal of every dice roll and decision, used to audit disputed games and to reproduce bugs with JournalReplayer
+ * 
+ * The journal is a memory-mapped file of fixed-size records, so appending a record is a few writes to memory
+ * and nothing waits for the disk, the operating system writes the pages out in the background
+ * Layout, big endian:
+ * header: magic "SBGJ", version short, record size short, record count long
+ * record: type code byte, unused byte, player index short, turn, value, player's resources when the roll or decision
+ * was made, before it takes effect
+ * 
+ * A journal has one writer, records are stamped with the turn and player set by the game at the start of each turn
+ */
+public class GameJournal implements AutoCloseable {
+
+    /**
+     * Size in bytes of every record
+     */
+    public static final int RECORD_SIZE = 16;
+
+    // "SBGJ", identifies the file as a journal
+    private static final int MAGIC = 0x5342474A;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int COUNT_OFFSET = 8;
+
+    // The file is mapped in steps of this size as it grows
+    private static final long MAPPING_STEP = 1 << 20;
+
+    // A single mapping cannot be larger than this
+    private static final long MAX_RECORDS = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long recordCount;
+
+    // Stamped onto every record until the next turn begins
+    private int turn;
+    private int playerIndex;
+
+    /**
+     * Opens a journal file, creating it if it does not exist, new records are appended after the existing ones
+     * @param file 
+     * @throws IOException if the file cannot be opened or is not a journal
+     */
+    public GameJournal(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        boolean isNew = channel.size() == 0;
+        map(Math.max(channel.size(), MAPPING_STEP));
+
+        if (isNew) {
+            buffer.putInt(0, MAGIC);
+            buffer.putShort(4, (short) VERSION);
+            buffer.putShort(6, (short) RECORD_SIZE);
+            buffer.putLong(COUNT_OFFSET, 0);
+        } else if (buffer.getInt(0) != MAGIC || buffer.getShort(4) != VERSION || buffer.getShort(6) != RECORD_SIZE) {
+            channel.close();
+            throw new IOException("Not a game journal: " + file);
+        }
+        this.recordCount = buffer.getLong(COUNT_OFFSET);
+    }
+
+    /**
+     * Records the start of a game, the replayer sets up the same game from it
+     * @param numPlayers 
+     * @param turnLimit 
+     */
+    public void recordGameStart(int numPlayers, int turnLimit) {
+        beginTurn(0, 0);
+        append(JournalRecordType.GAME_START, numPlayers, turnLimit);
+    }
+
+    /**
+     * Records the end of a game, the replayer checks its own result against it
+     * @param winnerIndex 
+     * @param turnsPlayed 
+     */
+    public void recordGameEnd(int winnerIndex, int turnsPlayed) {
+        beginTurn(turnsPlayed, winnerIndex);
+        append(JournalRecordType.GAME_END, turnsPlayed, 0);
+    }
+
+    /**
+     * Sets the turn and player stamped onto the records that follow, called by the game at the start of each turn
+     * @param turn 
+     * @param playerIndex 
+     */
+    public void beginTurn(int turn, int playerIndex) {
+        this.turn = turn;
+        this.playerIndex = playerIndex;
+    }
+
+    /**
+     * Appends a dice roll or decision made by the current turn's player
+     * @param type 
+     * @param value 
+     * @param resources the player's resources when the record is written
+     */
+    public void record(JournalRecordType type, int value, int resources) {
+        append(type, value, resources);
+    }
+
+    /**
+     * Gets the number of records in the journal
+     * @return 
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Gets the type of a record
+     * @param index 
+     * @return 
+     */
+    public JournalRecordType getType(long index) {
+        return JournalRecordType.fromCode(buffer.get(offsetOf(index)));
+    }
+
+    /**
+     * Gets the index of the player a record belongs to
+     * @param index 
+     * @return 
+     */
+    public int getPlayerIndex(long index) {
+        return buffer.getShort(offsetOf(index) + 2);
+    }
+
+    /**
+     * Gets the turn a record was written in
+     * @param index 
+     * @return 
+     */
+    public int getTurn(long index) {
+        return buffer.getInt(offsetOf(index) + 4);
+    }
+
+    /**
+     * Gets the value of a record, its meaning depends on the type
+     * @param index 
+     * @return 
+     */
+    public int getValue(long index) {
+        return buffer.getInt(offsetOf(index) + 8);
+    }
+
+    /**
+     * Gets the player's resources when a record was written
+     * @param index 
+     * @return 
+     */
+    public int getResources(long index) {
+        return buffer.getInt(offsetOf(index) + 12);
+    }
+
+    /**
+     * Asks the operating system to write the journal to disk now, records already survive the process ending without this
+     */
+    public void flush() {
+        buffer.force();
+    }
+
+    /**
+     * Writes the journal to disk and closes the file
+     * @throws IOException 
+     */
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    /**
+     * Writes one record after the last one, then the new count into the header
+     */
+    private void append(JournalRecordType type, int value, int resources) {
+        int offset = HEADER_SIZE + (int) (recordCount * RECORD_SIZE);
+        if (offset + RECORD_SIZE > buffer.capacity()) {
+            grow();
+        }
+        buffer.put(offset, (byte) type.getCode());
+        buffer.put(offset + 1, (byte) 0);
+        buffer.putShort(offset + 2, (short) playerIndex);
+        buffer.putInt(offset + 4, turn);
+        buffer.putInt(offset + 8, value);
+        buffer.putInt(offset + 12, resources);
+        recordCount++;
+        buffer.putLong(COUNT_OFFSET, recordCount);
+    }
+
+    private int offsetOf(long index) {
+        if (index < 0 || index >= recordCount) {
+            throw new IndexOutOfBoundsException("Record " + index + " of " + recordCount);
+        }
+        return HEADER_SIZE + (int) (index * RECORD_SIZE);
+    }
+
+    /**
+     * Maps a larger part of the file, growing it by one step
+     */
+    private void grow() {
+        if (recordCount >= MAX_RECORDS) {
+            throw new IllegalStateException("Journal is full");
+        }
+        try {
+            map(Math.min(buffer.capacity() + MAPPING_STEP, Integer.MAX_VALUE));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void map(long size) throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+}
@@ -0,0 +1,69 @@
+package sustainabilityBoardGame;
+
+/**
+ * Summary of a finished headless game, used to compare strategies and check game balance
+ */
+public class GameResult {
+
+    private int winnerIndex;
+    private int turnsPlayed;
+    private boolean completed;
+    private int[] finalResources;
+    private int[] efficiencyScores;
+
+    /**
+     * Creates a result for a finished game
+     * @param winnerIndex 
+     * @param turnsPlayed 
+     * @param completed 
+     * @param finalResources 
+     * @param efficiencyScores 
+     */
+    public GameResult(int winnerIndex, int turnsPlayed, boolean completed, int[] finalResources, int[] efficiencyScores) {
+        this.winnerIndex = winnerIndex;
+        this.turnsPlayed = turnsPlayed;
+        this.completed = completed;
+        this.finalResources = finalResources;
+        this.efficiencyScores = efficiencyScores;
+    }
+
+    /**
+     * Gets the index of the winning player, the player with the highest total worth (resources plus property investments)
+     * @return 
+     */
+    public int getWinnerIndex() {
+        return winnerIndex;
+    }
+
+    /**
+     * Gets the number of turns played, including turns skipped in the wasteland
+     * @return 
+     */
+    public int getTurnsPlayed() {
+        return turnsPlayed;
+    }
+
+    /**
+     * Checks if the game ended by the normal rules rather than by reaching its turn limit
+     * @return 
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Gets each player's resources at the end of the game, in turn order
+     * @return 
+     */
+    public int[] getFinalResources() {
+        return finalResources;
+    }
+
+    /**
+     * Gets each player's final efficiency score, in turn order
+     * @return 
+     */
+    public int[] getEfficiencyScores() {
+        return efficiencyScores;
+    }
+}
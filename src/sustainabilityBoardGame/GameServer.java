@@ -0,0 +1,145 @@
+package sustainabilityBoardGame;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Hosts many games at once from one JVM, accepting connections on a local port and playing each one as a GameSession
+ * Every session runs on its own virtual thread, so thousands of games waiting on their players tie up no platform threads
+ * The number of live sessions is capped, further connections wait in the accept queue until a session ends
+ * Closing the server closes every live connection, so shutdown never waits on a player who has stopped answering
+ */
+public class GameServer implements AutoCloseable {
+
+    // Default limit on live sessions, which bounds the memory the server can use
+    public static final int DEFAULT_MAX_SESSIONS = 10_000;
+
+    private ServerSocket serverSocket;
+    private ExecutorService sessions;
+    private Semaphore sessionPermits;
+    private Thread acceptThread;
+    private volatile boolean closed;
+
+    // Connections of the sessions being played, closed by close to end the games still waiting for input
+    private Set<Socket> liveSockets = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Binds the server to a port on the loopback address, without accepting connections yet
+     * @param port the port to listen on, 0 for any free port
+     * @param maxSessions largest number of games played at once
+     * @throws IOException if the port cannot be bound
+     */
+    public GameServer(int port, int maxSessions) throws IOException {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("Maximum sessions must be at least 1");
+        }
+        this.serverSocket = new ServerSocket();
+        this.serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), maxSessions);
+        this.sessions = Executors.newVirtualThreadPerTaskExecutor();
+        this.sessionPermits = new Semaphore(maxSessions);
+    }
+
+    /**
+     * Starts accepting connections on a background thread
+     */
+    public void start() {
+        acceptThread = Thread.ofPlatform().name("game-server-accept").daemon(true).start(this::acceptConnections);
+    }
+
+    /**
+     * Gets the port the server is listening on
+     * @return 
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Gets the number of games being played right now
+     * @return 
+     */
+    public int getActiveSessions() {
+        // Not the permits taken, the accept loop holds one while it waits for the next connection
+        return liveSockets.size();
+    }
+
+    /**
+     * Stops accepting connections, ends the games in progress by closing their connections and waits for their sessions
+     * to finish, which they do as soon as their connection is closed
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        serverSocket.close();
+        if (acceptThread != null) {
+            try {
+                acceptThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // No connection can be accepted any more, so every live one is in the set
+        for (Socket socket : liveSockets) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // The connection is closing anyway
+            }
+        }
+        sessions.close();
+    }
+
+    /**
+     * Accept loop, takes a session permit before each connection so no more than the maximum are ever played at once
+     */
+    private void acceptConnections() {
+        while (!closed) {
+            try {
+                sessionPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                Socket socket = serverSocket.accept();
+                liveSockets.add(socket);
+                sessions.execute(() -> {
+                    try {
+                        new GameSession(socket).run();
+                    } finally {
+                        liveSockets.remove(socket);
+                        sessionPermits.release();
+                    }
+                });
+            } catch (IOException e) {
+                // Closing the server socket ends the loop, any other failure only loses that connection
+                sessionPermits.release();
+            }
+        }
+    }
+
+    /**
+     * Runs the server until the process is stopped
+     * Run with optional arguments: port, maximum sessions
+     * @param args 
+     * @throws IOException 
+     */
+    public static void main(String[] args) throws IOException {
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : 7777;
+        int maxSessions = (args.length > 1) ? Integer.parseInt(args[1]) : DEFAULT_MAX_SESSIONS;
+
+        GameServer server = new GameServer(port, maxSessions);
+        System.out.println("Sustainability board game server listening on " + InetAddress.getLoopbackAddress()
+                .getHostAddress() + ":" + server.getPort());
+        server.acceptConnections();
+    }
+}
@@ -0,0 +1,58 @@
+package sustainabilityBoardGame;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+
+/**
+ * Plays one game over a network connection, exactly as the console game but reading from and writing to the socket
+ * Every player of the game enters their choices on the same connection, taking turns as they would at one keyboard
+ */
+public class GameSession implements Runnable {
+
+    // Output is buffered per connection and flushed whenever the game waits for input, so each prompt is one write
+    private static final int OUTPUT_BUFFER_SIZE = 2048;
+
+    private Socket socket;
+
+    /**
+     * Creates a session for a connection that has just been accepted
+     * @param socket 
+     */
+    public GameSession(Socket socket) {
+        this.socket = socket;
+    }
+
+    /**
+     * Plays the game until it ends or the player disconnects, then closes the connection
+     */
+    @Override
+    public void run() {
+        SustainabilityBoardGame game = null;
+        try (Socket connection = socket) {
+            connection.setTcpNoDelay(true);
+            Scanner in = new Scanner(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+            PrintStream out = new PrintStream(new BufferedOutputStream(connection.getOutputStream(), OUTPUT_BUFFER_SIZE),
+                    false, StandardCharsets.UTF_8);
+
+            game = new SustainabilityBoardGame(new UserInterface(in, out), new DiceStream());
+            game.initialize();
+            game.play();
+            out.flush();
+        } catch (NoSuchElementException e) {
+            // The player closed the connection while the game was waiting for input
+        } catch (IOException e) {
+            // The connection failed, there is nobody left to tell
+        } finally {
+            if (game != null) {
+                // A game abandoned part way through still reports what it has counted
+                game.flushMetrics();
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package sustainabilityBoardGame;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Saves a game in progress to a compact binary snapshot and loads it back, so long games can be checkpointed
+ * and bug reports can be replayed from the exact turn they happened
+ * 
+ * Snapshots are taken between turns, every field is written explicitly so the format does not depend on the class layout
+ * Layout, big endian:
+ * header: magic "SBGS", version byte
+ * game: turns played, turn limit, running flag byte, dice state long
+ * board: square count int, then level byte and total investment for every property square in board order
+ * players: player count short, current player index short, then for each player its name (short length and UTF-8 bytes),
+ * resources, total spent, position, flags byte, owned property count int and their square positions in board order
+ * Version 2 widened the square count, owned property count and positions from short to int, for boards over 32767 squares
+ */
+public class GameSnapshot {
+
+    // "SBGS", identifies the bytes as a snapshot
+    private static final int MAGIC = 0x53424753;
+
+    /**
+     * Version written into every snapshot, increased whenever the layout changes
+     */
+    public static final int VERSION = 2;
+
+    private static final int FLAG_RUNNING = 1;
+    private static final int FLAG_IN_WASTELAND = 1;
+    private static final int FLAG_RECENT_WASTELAND_CHOICE = 2;
+
+    private static final int HEADER_SIZE = 4 + 1;
+    private static final int GAME_SIZE = 4 + 4 + 1 + 8;
+    private static final int PROPERTY_SIZE = 1 + 4;
+    private static final int PLAYER_SIZE = 2 + 4 + 4 + 4 + 1 + 4;
+
+    private GameSnapshot() {
+    }
+
+    /**
+     * Saves the game into a new array of exactly the right size
+     * @param game 
+     * @return 
+     */
+    public static byte[] save(SustainabilityBoardGame game) {
+        ByteBuffer buffer = ByteBuffer.allocate(getSize(game));
+        save(game, buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Saves the game at the buffer's position, so one buffer can be reused for every checkpoint
+     * @param game 
+     * @param buffer must have at least getSize(game) bytes remaining
+     */
+    public static void save(SustainabilityBoardGame game, ByteBuffer buffer) {
+        GameState gameState = game.getGameState();
+        List<BoardSquare> squares = game.getBoard().getAllSquares();
+        PlayerManager playerManager = game.getPlayerManager();
+        List<Player> players = playerManager.getPlayers();
+
+        buffer.putInt(MAGIC);
+        buffer.put((byte) VERSION);
+
+        buffer.putInt(gameState.getTurnsPlayed());
+        buffer.putInt(gameState.getTurnLimit());
+        buffer.put((byte) (gameState.isGameRunning() ? FLAG_RUNNING : 0));
+        buffer.putLong(game.getDiceStream().getState());
+
+        buffer.putInt(squares.size());
+        for (BoardSquare square : squares) {
+            if (square instanceof PropertySquare) {
+                PropertySquare property = (PropertySquare) square;
+                buffer.put((byte) property.getDevelopmentLevel());
+                buffer.putInt(property.getTotalInvestment());
+            }
+        }
+
+        buffer.putShort((short) players.size());
+        buffer.putShort((short) playerManager.getCurrentPlayerIndex());
+        for (Player player : players) {
+            byte[] name = player.getName().getBytes(StandardCharsets.UTF_8);
+            buffer.putShort((short) name.length);
+            buffer.put(name);
+            buffer.putInt(player.getResources());
+            buffer.putInt(player.getTotalSpent());
+            buffer.putInt(player.getPosition());
+
+            int flags = 0;
+            if (player.isInWasteland()) {
+                flags |= FLAG_IN_WASTELAND;
+            }
+            if (player.hasRecentlyHadWastelandChoice()) {
+                flags |= FLAG_RECENT_WASTELAND_CHOICE;
+            }
+            buffer.put((byte) flags);
+
+            List<PropertySquare> owned = player.getOwnedProperties();
+            buffer.putInt(owned.size());
+            for (PropertySquare property : owned) {
+                buffer.putInt(property.getDefinition().getPosition());
+            }
+        }
+    }
+
+    /**
+     * Calculates how many bytes the snapshot of the game takes
+     * @param game 
+     * @return 
+     */
+    public static int getSize(SustainabilityBoardGame game) {
+        int size = HEADER_SIZE + GAME_SIZE + 4 + 2 + 2;
+        for (BoardSquare square : game.getBoard().getAllSquares()) {
+            if (square instanceof PropertySquare) {
+                size += PROPERTY_SIZE;
+            }
+        }
+        for (Player player : game.getPlayerManager().getPlayers()) {
+            size += PLAYER_SIZE + player.getName().getBytes(StandardCharsets.UTF_8).length
+                    + 4 * player.getOwnedProperties().size();
+        }
+        return size;
+    }
+
+    /**
+     * Loads a game on the standard board, with transactions printed to the console as in a new game
+     * @param data 
+     * @param ui 
+     * @return 
+     */
+    public static SustainabilityBoardGame load(byte[] data, UserInterface ui) {
+        return load(ByteBuffer.wrap(data), ui, new GameBoard(), ConsoleEventSink.INSTANCE);
+    }
+
+    /**
+     * Loads a game from the buffer's position onto a new board with the same layout the game was saved on
+     * @param buffer 
+     * @param ui 
+     * @param board a board that has not been played on
+     * @param eventSink sink for the restored players' transactions, or null for none
+     * @return the game, ready to play its next turn
+     */
+    public static SustainabilityBoardGame load(ByteBuffer buffer, UserInterface ui, GameBoard board,
+            GameEventSink eventSink) {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a game snapshot");
+            }
+            int version = buffer.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported snapshot version " + version);
+            }
+
+            int turnsPlayed = buffer.getInt();
+            int turnLimit = buffer.getInt();
+            boolean running = (buffer.get() & FLAG_RUNNING) != 0;
+            long diceState = buffer.getLong();
+
+            List<BoardSquare> squares = board.getAllSquares();
+            if (buffer.getInt() != squares.size()) {
+                throw new IllegalArgumentException("Snapshot was saved on a board with a different layout");
+            }
+            int[] levels = new int[squares.size()];
+            int[] investments = new int[squares.size()];
+            for (int i = 0; i < squares.size(); i++) {
+                if (squares.get(i) instanceof PropertySquare) {
+                    levels[i] = buffer.get();
+                    investments[i] = buffer.getInt();
+                    ((PropertySquare) squares.get(i)).restore(null, levels[i], investments[i]);
+                }
+            }
+
+            PlayerManager playerManager = new PlayerManager(ui);
+            int playerCount = buffer.getShort();
+            int currentPlayerIndex = buffer.getShort();
+            if (currentPlayerIndex < 0 || currentPlayerIndex >= playerCount) {
+                throw new IllegalArgumentException("Snapshot has an invalid current player");
+            }
+            for (int i = 0; i < playerCount; i++) {
+                byte[] name = new byte[buffer.getShort()];
+                buffer.get(name);
+                Player player = new Player(new String(name, StandardCharsets.UTF_8), 0);
+                player.setEventSink(eventSink);
+                player.restoreResources(buffer.getInt(), buffer.getInt());
+                player.setPosition(buffer.getInt());
+
+                int flags = buffer.get();
+                if ((flags & FLAG_IN_WASTELAND) != 0) {
+                    player.sendToWasteland();
+                }
+                player.setHasRecentlyHadWastelandChoice((flags & FLAG_RECENT_WASTELAND_CHOICE) != 0);
+
+                int ownedCount = buffer.getInt();
+                for (int j = 0; j < ownedCount; j++) {
+                    int position = buffer.getInt();
+                    if (position < 0 || position >= squares.size() || !(squares.get(position) instanceof PropertySquare)) {
+                        throw new IllegalArgumentException("Snapshot has an owned property on square " + position);
+                    }
+                    ((PropertySquare) squares.get(position)).restore(player, levels[position], investments[position]);
+                }
+                playerManager.addPlayer(player);
+            }
+            playerManager.setCurrentPlayerIndex(currentPlayerIndex);
+
+            SustainabilityBoardGame game = new SustainabilityBoardGame(ui, board, playerManager,
+                    new DiceStream(diceState), turnLimit);
+            game.getGameState().setTurnsPlayed(turnsPlayed);
+            game.getGameState().setGameRunning(running);
+            return game;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Snapshot is truncated", e);
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package sustainabilityBoardGame;
 
 /**
- * Maintains the current state of the game, tracks whether it has ended or not
+ * Maintains the current state of the game, tracks whether it has ended or not and how many turns have been played
  */
 public class GameState {
     
     private boolean gameRunning;
+    private int turnsPlayed;
+    
+    // Maximum number of turns before the game is stopped, 0 means no limit
+    private int turnLimit;
 
     /**
      * Checks if the game is currently running
@@ -22,4 +26,51 @@ public class GameState {
     public void setGameRunning(boolean gameRunning) {
         this.gameRunning = gameRunning;
     }
+
+    /**
+     * Gets the number of turns played so far, including turns skipped in the wasteland
+     * @return 
+     */
+    public int getTurnsPlayed() {
+        return turnsPlayed;
+    }
+
+    /**
+     * Records that another turn has been played
+     */
+    public void incrementTurnsPlayed() {
+        turnsPlayed++;
+    }
+
+    /**
+     * Sets the number of turns played so far, used when a saved game is restored
+     * @param turnsPlayed 
+     */
+    void setTurnsPlayed(int turnsPlayed) {
+        this.turnsPlayed = turnsPlayed;
+    }
+
+    /**
+     * Gets the maximum number of turns the game may last, 0 means no limit
+     * @return 
+     */
+    public int getTurnLimit() {
+        return turnLimit;
+    }
+
+    /**
+     * Sets the maximum number of turns the game may last, 0 means no limit
+     * @param turnLimit 
+     */
+    public void setTurnLimit(int turnLimit) {
+        this.turnLimit = turnLimit;
+    }
+
+    /**
+     * Checks if the game has reached its turn limit
+     * @return 
+     */
+    public boolean isTurnLimitReached() {
+        return turnLimit > 0 && turnsPlayed >= turnLimit;
+    }
 }
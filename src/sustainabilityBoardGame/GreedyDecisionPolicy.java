@@ -0,0 +1,75 @@
+package sustainabilityBoardGame;
+
+import java.util.List;
+
+/**
+ * A simple automated policy for headless games
+ * Buys every property it can afford, develops the cheapest affordable property before rolling, never quits
+ */
+public class GreedyDecisionPolicy implements DecisionPolicy {
+
+    /**
+     * Develops when an affordable development exists, otherwise rolls the dice
+     * @param player 
+     * @param ownedProperties 
+     * @param canDevelopAny 
+     * @return 
+     */
+    @Override
+    public int chooseTurnOption(Player player, List<PropertySquare> ownedProperties, boolean canDevelopAny) {
+        if (canDevelopAny && cheapestAffordableDevelopment(player, ownedProperties) > 0) {
+            return 2;
+        }
+        return 1;
+    }
+
+    /**
+     * Chooses the cheapest development the player can afford
+     * @param player 
+     * @param developableProperties 
+     * @return 
+     */
+    @Override
+    public int choosePropertyToDevelop(Player player, List<PropertySquare> developableProperties) {
+        int choice = cheapestAffordableDevelopment(player, developableProperties);
+        return (choice > 0) ? choice : 1;
+    }
+
+    @Override
+    public boolean decidePurchase(Player player, PropertySquare property) {
+        return true;
+    }
+
+    @Override
+    public boolean chooseToStayInWasteland(Player player) {
+        return true;
+    }
+
+    @Override
+    public boolean confirmEcoCityDevelopment(Player player, PropertySquare property) {
+        return true;
+    }
+
+    /**
+     * Finds the cheapest property that can still be developed and that the player can afford
+     * @param player 
+     * @param properties 
+     * @return position of the property in the list starting from 1, or 0 if there is none
+     */
+    private static int cheapestAffordableDevelopment(Player player, List<PropertySquare> properties) {
+        int choice = 0;
+        int cheapestCost = Integer.MAX_VALUE;
+
+        for (int i = 0; i < properties.size(); i++) {
+            PropertySquare property = properties.get(i);
+            if (property.canBeDeveloped()) {
+                int cost = property.getDevelopmentCost();
+                if (cost <= player.getResources() && cost < cheapestCost) {
+                    cheapestCost = cost;
+                    choice = i + 1;
+                }
+            }
+        }
+        return choice;
+    }
+}
@@ -0,0 +1,176 @@
+package sustainabilityBoardGame;
+
+import java.util.List;
+
+/**
+ * Runs complete games without a human player or any console output
+ * Every decision comes from a decision policy, which allows large numbers of games to be simulated for balance testing
+ */
+public class HeadlessGame {
+
+    private DecisionPolicy policy;
+    private String[] playerNames;
+    private int turnLimit;
+    private BoardLayout layout;
+    
+    // Receives the players' transactions, null by default so simulated games create no events
+    private GameEventSink eventSink;
+    
+    // Records every game's dice rolls and decisions, null by default
+    private GameJournal journal;
+    
+    // Times the turns and counts the events of every game, null by default
+    private EngineMetrics metrics;
+
+    /**
+     * Creates a headless game setup that can be played any number of times
+     * @param policy 
+     * @param numPlayers 
+     * @param turnLimit maximum number of turns per game, 0 for no limit
+     */
+    public HeadlessGame(DecisionPolicy policy, int numPlayers, int turnLimit) {
+        this(policy, numPlayers, turnLimit, BoardLayout.standard());
+    }
+
+    /**
+     * Creates a headless game setup played on the given board layout
+     * @param policy 
+     * @param numPlayers 
+     * @param turnLimit maximum number of turns per game, 0 for no limit
+     * @param layout 
+     */
+    public HeadlessGame(DecisionPolicy policy, int numPlayers, int turnLimit, BoardLayout layout) {
+        if (numPlayers < GameConfig.MIN_PLAYERS || numPlayers > GameConfig.MAX_HEADLESS_PLAYERS) {
+            throw new IllegalArgumentException("Number of players must be between " + GameConfig.MIN_PLAYERS
+                    + " and " + GameConfig.MAX_HEADLESS_PLAYERS);
+        }
+        this.policy = policy;
+        this.turnLimit = turnLimit;
+        this.layout = layout;
+
+        // Names are created once and shared by every game played
+        this.playerNames = new String[numPlayers];
+        for (int i = 0; i < numPlayers; i++) {
+            playerNames[i] = "Player " + (i + 1);
+        }
+    }
+
+    /**
+     * Sets the sink that receives every player's transactions in the games played from now on, or null for none
+     * @param eventSink 
+     */
+    public void setEventSink(GameEventSink eventSink) {
+        this.eventSink = eventSink;
+    }
+
+    /**
+     * Sets the journal that records the games played from now on, or null for none
+     * @param journal 
+     */
+    public void setJournal(GameJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Sets the metrics that every game played from now on reports to, or null for none
+     * @param metrics 
+     */
+    public void setMetrics(EngineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Plays one complete game with unseeded dice
+     * @return 
+     */
+    public GameResult play() {
+        return play(new DiceStream());
+    }
+
+    /**
+     * Plays one complete game with dice from the given seed, the same seed always gives the same game
+     * @param seed 
+     * @return 
+     */
+    public GameResult play(long seed) {
+        return play(new DiceStream(seed));
+    }
+
+    /**
+     * Plays one complete game on a fresh board and returns its result
+     * @param diceStream 
+     * @return 
+     */
+    public GameResult play(DiceStream diceStream) {
+        SustainabilityBoardGame game = createGame(diceStream);
+        if (journal != null) {
+            journal.recordGameStart(playerNames.length, turnLimit);
+        }
+        game.play();
+        GameResult result = createResult(game);
+        if (journal != null) {
+            journal.recordGameEnd(result.getWinnerIndex(), result.getTurnsPlayed());
+        }
+        return result;
+    }
+
+    /**
+     * Sets up a game on a fresh board without playing it, so it can be played turn by turn
+     * @param diceStream 
+     * @return 
+     */
+    SustainabilityBoardGame createGame(DiceStream diceStream) {
+        GameBoard board = new GameBoard(layout);
+        HeadlessUserInterface ui = new HeadlessUserInterface(policy);
+        PlayerManager playerManager = new PlayerManager(ui);
+
+        for (String name : playerNames) {
+            Player player = new Player(name, GameConfig.INITIAL_RESOURCES);
+            player.setEventSink(eventSink);
+            playerManager.addPlayer(player);
+        }
+
+        SustainabilityBoardGame game = new SustainabilityBoardGame(ui, board, playerManager, diceStream, turnLimit);
+        game.setJournal(journal);
+        game.setMetrics(metrics);
+        return game;
+    }
+
+    /**
+     * Builds the result of a game played by this engine
+     * @param game 
+     * @return 
+     */
+    static GameResult createResult(SustainabilityBoardGame game) {
+        return createResult(game.getPlayerManager().getPlayers(), game.getGameState());
+    }
+
+    /**
+     * Builds the result of a finished game, the winner being the player with the highest total worth
+     * @param players 
+     * @param gameState 
+     * @return 
+     */
+    private static GameResult createResult(List<Player> players, GameState gameState) {
+        int[] finalResources = new int[players.size()];
+        int[] efficiencyScores = new int[players.size()];
+        int winnerIndex = 0;
+        int bestWorth = Integer.MIN_VALUE;
+
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            int totalWorth = player.getResources() + player.getPropertyInvestment();
+
+            finalResources[i] = player.getResources();
+            efficiencyScores[i] = EfficiencyCalculator.calculateEfficiencyScore(player);
+
+            if (totalWorth > bestWorth) {
+                bestWorth = totalWorth;
+                winnerIndex = i;
+            }
+        }
+
+        return new GameResult(winnerIndex, gameState.getTurnsPlayed(), !gameState.isGameRunning(),
+                finalResources, efficiencyScores);
+    }
+}
@@ -0,0 +1,180 @@
+package sustainabilityBoardGame;
+
+import java.util.List;
+
+/**
+ * Silent user interface for headless games, nothing is printed and every decision is passed to a decision policy
+ * No console input is ever read, so games can be run without a human player
+ */
+public class HeadlessUserInterface extends UserInterface {
+
+    private DecisionPolicy policy;
+
+    /**
+     * Creates a silent interface that asks the given policy for every decision
+     * @param policy
+     */
+    public HeadlessUserInterface(DecisionPolicy policy) {
+        super(null);
+        this.policy = policy;
+    }
+
+    @Override
+    public int chooseTurnOption(Player player, List<PropertySquare> ownedProperties, boolean canDevelopAny) {
+        return policy.chooseTurnOption(player, ownedProperties, canDevelopAny);
+    }
+
+    @Override
+    public int choosePropertyToDevelop(Player player, List<PropertySquare> developableProperties) {
+        return policy.choosePropertyToDevelop(player, developableProperties);
+    }
+
+    @Override
+    public boolean decidePurchase(Player player, PropertySquare property) {
+        return policy.decidePurchase(player, property);
+    }
+
+    @Override
+    public boolean chooseToStayInWasteland(Player player) {
+        return policy.chooseToStayInWasteland(player);
+    }
+
+    @Override
+    public boolean confirmEcoCityDevelopment(Player player, PropertySquare property) {
+        return policy.confirmEcoCityDevelopment(player, property);
+    }
+
+    /**
+     * Headless games have no console, so any attempt to read a menu choice is a programming error
+     * @param maxOption
+     * @return
+     */
+    @Override
+    public int getPlayerChoice(int maxOption) {
+        throw new IllegalStateException("Headless games cannot read console input");
+    }
+
+    @Override
+    public void displayWelcomeMessage() {
+    }
+
+    @Override
+    public void displayEfficiencyCalculation() {
+    }
+
+    @Override
+    public void displayGameStatus(GameBoard board, List<Player> players) {
+    }
+
+    @Override
+    public void displayBoard(GameBoard board) {
+    }
+
+    @Override
+    public void displayPlayerTurn(Player player) {
+    }
+
+    @Override
+    public void displayDiceRoll(Player player, DiceRoll diceRoll) {
+    }
+
+    @Override
+    public void displayDiceRoll(Player player, int packedRoll) {
+    }
+
+    @Override
+    public void displayPlayerMovement(Player player, BoardSquare square) {
+    }
+
+    @Override
+    public void displayPassedGo(Player player, int efficiency, int grantAmount) {
+    }
+
+    @Override
+    public void displayWastelandSkipMessage(Player player) {
+    }
+
+    @Override
+    public void displayQuitMessage(Player player) {
+    }
+
+    @Override
+    public void displayGameOver() {
+    }
+
+    @Override
+    public void displayFinalResults(List<Player> players, GameBoard board) {
+    }
+
+    @Override
+    public void displayResourceDistribution(Player player, int amount) {
+    }
+
+    @Override
+    public void displayResourceReceived(Player player, int amount) {
+    }
+
+    @Override
+    public void displayResourcesReceived(Player distributor, List<Player> players, int amount) {
+    }
+
+    @Override
+    public void displayPurchaseOffer(PropertySquare property) {
+    }
+
+    @Override
+    public void displayInsufficientResourcesToPurchase() {
+    }
+
+    @Override
+    public void displayPurchase(Player player, PropertySquare property) {
+    }
+
+    @Override
+    public void displayPurchaseDeclined(Player player, PropertySquare property) {
+    }
+
+    @Override
+    public void displayOwnProperty() {
+    }
+
+    @Override
+    public void displayLandedOnWasteland(Player player) {
+    }
+
+    @Override
+    public void displayNothingHappens() {
+    }
+
+    @Override
+    public void displayWastelandStay(Player player) {
+    }
+
+    @Override
+    public void displayDevelopmentCancelled() {
+    }
+
+    @Override
+    public void displayPropertyDeveloped(Player player, PropertySquare property, int cost) {
+    }
+
+    @Override
+    public void displayInsufficientResourcesToDevelop() {
+    }
+
+    @Override
+    public void displayPayRent(Player player, PropertySquare property, int amount) {
+    }
+
+    @Override
+    public void displayRentPaid(Player player, Player owner, int amount) {
+    }
+
+    @Override
+    public void displayInsufficientResources(Player player) {
+    }
+
+    @Override
+    public void displayPartialPayment(Player player, Player owner, int amount) {
+    }
+}
@@ -0,0 +1,60 @@
+package sustainabilityBoardGame;
+
+/**
+ * Enum for the kinds of record written to a game journal
+ * The code is what is stored in the file, so existing codes must never change
+ */
+public enum JournalRecordType {
+
+    // Value is the number of players, resources is the turn limit
+    GAME_START(1),
+    // Value is the packed roll, see DiceRoll.pack
+    DICE_ROLL(2),
+    // Value is the turn menu option chosen, which includes quitting
+    TURN_CHOICE(3),
+    // Value is 1 if the property was bought, 0 if declined
+    PURCHASE(4),
+    // Value is the position of the chosen property in the developable list, starting from 1
+    DEVELOP(5),
+    // Value is 1 if the player stayed in the wasteland, 0 if resources were distributed
+    WASTELAND_CHOICE(6),
+    // Value is 1 if the final Eco City development was confirmed, 0 if cancelled
+    ECO_CITY_CONFIRM(7),
+    // Player is the winner, value is the number of turns played
+    GAME_END(8);
+
+    // Types by code, so decoding a record does not search the values
+    private static final JournalRecordType[] BY_CODE = new JournalRecordType[9];
+
+    static {
+        for (JournalRecordType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final int code;
+
+    JournalRecordType(int code) {
+        this.code = code;
+    }
+
+    /**
+     * Gets the code stored in the journal for this type
+     * @return 
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Gets the type stored under a code
+     * @param code 
+     * @return 
+     */
+    public static JournalRecordType fromCode(int code) {
+        if (code <= 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown journal record type " + code);
+        }
+        return BY_CODE[code];
+    }
+}
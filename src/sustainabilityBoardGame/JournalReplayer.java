@@ -0,0 +1,191 @@
+package sustainabilityBoardGame;
+
+import java.util.List;
+
+/**
+ * Plays the games in a journal again through the headless engine, taking every dice roll and decision from the journal
+ * Every roll and decision is checked against the player and resources recorded with it, and each game against the
+ * result recorded at its end, so a change in the rules or a bug that makes the engine behave differently is reported
+ * at the first record where the replay goes another way
+ */
+public class JournalReplayer {
+
+    private GameJournal journal;
+    private BoardLayout layout;
+
+    // Index of the next record to be read
+    private long position;
+
+    // The game being replayed, whose current player and balances are checked against each record
+    private SustainabilityBoardGame game;
+
+    /**
+     * Creates a replayer for games played on the standard board that starts at the first record of the journal
+     * @param journal 
+     */
+    public JournalReplayer(GameJournal journal) {
+        this(journal, BoardLayout.standard());
+    }
+
+    /**
+     * Creates a replayer for games played on the given board layout that starts at the first record of the journal
+     * The journal does not record the board, so it must be the layout the games were played on
+     * @param journal 
+     * @param layout 
+     */
+    public JournalReplayer(GameJournal journal, BoardLayout layout) {
+        this.journal = journal;
+        this.layout = layout;
+        this.position = 0;
+    }
+
+    /**
+     * Checks if there is another game left to replay
+     * @return 
+     */
+    public boolean hasNextGame() {
+        return position < journal.getRecordCount();
+    }
+
+    /**
+     * Gets the index of the next record to be read
+     * @return 
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Replays the next game in the journal
+     * @return the result of the replayed game, which matches the recorded one
+     * @throws IllegalStateException if the replay does not follow the journal
+     */
+    public GameResult replayNextGame() {
+        long start = expect(JournalRecordType.GAME_START);
+        int numPlayers = journal.getValue(start);
+        int turnLimit = journal.getResources(start);
+
+        HeadlessGame headless = new HeadlessGame(new ReplayDecisionPolicy(), numPlayers, turnLimit, layout);
+        game = headless.createGame(new ReplayDiceStream());
+        game.play();
+        GameResult result = HeadlessGame.createResult(game);
+        game = null;
+
+        long end = expect(JournalRecordType.GAME_END);
+        if (journal.getValue(end) != result.getTurnsPlayed() || journal.getPlayerIndex(end) != result.getWinnerIndex()) {
+            throw new IllegalStateException("Replay of record " + start + " ended after " + result.getTurnsPlayed()
+                    + " turns with winner " + result.getWinnerIndex() + ", the journal has " + journal.getValue(end)
+                    + " turns with winner " + journal.getPlayerIndex(end));
+        }
+        return result;
+    }
+
+    /**
+     * Replays every game left in the journal
+     * @return number of games replayed
+     */
+    public int replayAll() {
+        int games = 0;
+        while (hasNextGame()) {
+            replayNextGame();
+            games++;
+        }
+        return games;
+    }
+
+    /**
+     * Reads the next record, which must be of the expected type
+     * @param type 
+     * @return index of the record
+     */
+    private long expect(JournalRecordType type) {
+        if (position >= journal.getRecordCount()) {
+            throw new IllegalStateException("Journal ended while the replay expected " + type);
+        }
+        JournalRecordType actual = journal.getType(position);
+        if (actual != type) {
+            throw new IllegalStateException("Replay expected " + type + " at record " + position + " but the journal has "
+                    + actual);
+        }
+        return position++;
+    }
+
+    /**
+     * Reads the next record, which must be of the expected type and made by the given player with the resources they
+     * have now, rolls and decisions are recorded before they take effect
+     * @param type 
+     * @param player 
+     * @return index of the record
+     */
+    private long expect(JournalRecordType type, Player player) {
+        long record = expect(type);
+        if (journal.getPlayerIndex(record) != player.getPlayerIndex()
+                || journal.getResources(record) != player.getResources()) {
+            throw new IllegalStateException("Replay of " + type + " at record " + record + " was made by player "
+                    + player.getPlayerIndex() + " with " + player.getResources() + " resources, the journal has player "
+                    + journal.getPlayerIndex(record) + " with " + journal.getResources(record));
+        }
+        return record;
+    }
+
+    /**
+     * Dice that roll what the journal recorded, whole rolls or one die at a time
+     */
+    private class ReplayDiceStream extends DiceStream {
+
+        // Second die of a recorded roll that is being handed out one die at a time, 0 when there is none
+        private int pendingDie;
+
+        ReplayDiceStream() {
+            super(0);
+        }
+
+        @Override
+        public int roll() {
+            return journal.getValue(expect(JournalRecordType.DICE_ROLL, game.getPlayerManager().getCurrentPlayer()));
+        }
+
+        @Override
+        public int rollDie() {
+            if (pendingDie != 0) {
+                int die = pendingDie;
+                pendingDie = 0;
+                return die;
+            }
+            int roll = roll();
+            pendingDie = DiceRoll.dice2(roll);
+            return DiceRoll.dice1(roll);
+        }
+    }
+
+    /**
+     * Decisions that answer what the journal recorded
+     */
+    private class ReplayDecisionPolicy implements DecisionPolicy {
+
+        @Override
+        public int chooseTurnOption(Player player, List<PropertySquare> ownedProperties, boolean canDevelopAny) {
+            return journal.getValue(expect(JournalRecordType.TURN_CHOICE, player));
+        }
+
+        @Override
+        public int choosePropertyToDevelop(Player player, List<PropertySquare> developableProperties) {
+            return journal.getValue(expect(JournalRecordType.DEVELOP, player));
+        }
+
+        @Override
+        public boolean decidePurchase(Player player, PropertySquare property) {
+            return journal.getValue(expect(JournalRecordType.PURCHASE, player)) != 0;
+        }
+
+        @Override
+        public boolean chooseToStayInWasteland(Player player) {
+            return journal.getValue(expect(JournalRecordType.WASTELAND_CHOICE, player)) != 0;
+        }
+
+        @Override
+        public boolean confirmEcoCityDevelopment(Player player, PropertySquare property) {
+            return journal.getValue(expect(JournalRecordType.ECO_CITY_CONFIRM, player)) != 0;
+        }
+    }
+}
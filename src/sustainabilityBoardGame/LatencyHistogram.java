@@ -0,0 +1,118 @@
+package sustainabilityBoardGame;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records latencies in nanoseconds from any number of threads without locking, and reports percentiles from them
+ * Values are counted in buckets whose width grows with the value, 32 to each power of two, so a percentile is accurate
+ * to about 3% of its value whatever the range; values up to 63 ns are counted exactly
+ */
+public class LatencyHistogram {
+
+    // Each power of two from 64 upwards is split into this many buckets
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    // Values below twice the sub bucket count have a bucket each, then every power of two up to 2^63 has SUB_BUCKETS
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one latency, negative values are counted as 0
+     * @param nanos 
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts.incrementAndGet(bucketIndex(value));
+
+        // Only try to raise the maximum while this value is above it, which soon stops happening
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Gets the number of latencies recorded
+     * @return 
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Gets the largest latency recorded
+     * @return the maximum in nanoseconds, 0 if nothing has been recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets the latency that the given percentage of recorded latencies are at or below
+     * Latencies recorded while this runs may or may not be included
+     * @param percentile between 0 and 100, such as 50 for the median or 99
+     * @return the latency in nanoseconds, rounded up to the top of its bucket but never above the maximum,
+     * or 0 if nothing has been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100, got " + percentile);
+        }
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        // The rank of the latency wanted, at least the first one
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueInBucket(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Finds the bucket a value is counted in
+     * @param value not negative
+     * @return 
+     */
+    static int bucketIndex(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        // Keep the top SUB_BUCKET_BITS + 1 bits of the value, the leading one and the sub bucket within its power of two
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    /**
+     * Gets the largest value counted in a bucket
+     * @param index 
+     * @return 
+     */
+    static long highestValueInBucket(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (index - shift * SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
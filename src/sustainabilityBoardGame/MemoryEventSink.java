@@ -0,0 +1,33 @@
+package sustainabilityBoardGame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keeps every transaction in memory, mainly so tests can check what happened during a game
+ */
+public class MemoryEventSink implements GameEventSink {
+
+    private List<TransactionEvent> events = new ArrayList<>();
+
+    @Override
+    public synchronized void onTransaction(TransactionEvent event) {
+        events.add(event);
+    }
+
+    /**
+     * Gets a copy of the transactions captured so far, in the order they happened
+     * @return 
+     */
+    public synchronized List<TransactionEvent> getEvents() {
+        return Collections.unmodifiableList(new ArrayList<>(events));
+    }
+
+    /**
+     * Removes all captured transactions
+     */
+    public synchronized void clear() {
+        events.clear();
+    }
+}
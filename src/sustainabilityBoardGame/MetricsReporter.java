@@ -0,0 +1,63 @@
+package sustainabilityBoardGame;
+
+import java.io.PrintStream;
+
+/**
+ * Writes a snapshot of the engine metrics to a stream at a fixed period on a background thread
+ * Started with EngineMetrics.startReporter, and closing it writes one last snapshot
+ */
+public class MetricsReporter implements AutoCloseable {
+
+    private EngineMetrics metrics;
+    private PrintStream out;
+    private long periodMillis;
+    private Thread reportThread;
+    private volatile boolean closed;
+
+    /**
+     * Creates the reporter and starts its background thread
+     * @param metrics 
+     * @param out 
+     * @param periodMillis 
+     */
+    MetricsReporter(EngineMetrics metrics, PrintStream out, long periodMillis) {
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("Report period must be positive, got " + periodMillis);
+        }
+        this.metrics = metrics;
+        this.out = out;
+        this.periodMillis = periodMillis;
+        this.reportThread = new Thread(this::report, "engine-metrics-reporter");
+        this.reportThread.setDaemon(true);
+        this.reportThread.start();
+    }
+
+    /**
+     * Stops reporting once the final snapshot has been written
+     */
+    @Override
+    public void close() {
+        closed = true;
+        reportThread.interrupt();
+        try {
+            reportThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Background loop, writes a snapshot every period until the reporter is closed and then writes the last one
+     */
+    private void report() {
+        do {
+            try {
+                Thread.sleep(periodMillis);
+            } catch (InterruptedException e) {
+                // Closed while waiting, the final snapshot is written below
+            }
+            out.print(metrics.snapshot());
+            out.flush();
+        } while (!closed);
+    }
+}
@@ -0,0 +1,102 @@
+package sustainabilityBoardGame;
+
+/**
+ * Copy of the engine metrics taken at one moment, latencies are in nanoseconds
+ */
+public class MetricsSnapshot {
+
+    private long takenAtMillis;
+    private long[] samples;
+    private long[] medians;
+    private long[] p99s;
+    private long[] maxima;
+    private long[] counts;
+
+    /**
+     * Creates a snapshot from figures indexed by the ordinals of TurnPhase and EngineCounter
+     * @param samples 
+     * @param medians 
+     * @param p99s 
+     * @param maxima 
+     * @param counts 
+     */
+    MetricsSnapshot(long[] samples, long[] medians, long[] p99s, long[] maxima, long[] counts) {
+        this.takenAtMillis = System.currentTimeMillis();
+        this.samples = samples;
+        this.medians = medians;
+        this.p99s = p99s;
+        this.maxima = maxima;
+        this.counts = counts;
+    }
+
+    /**
+     * Gets when the snapshot was taken
+     * @return milliseconds since the epoch
+     */
+    public long getTakenAtMillis() {
+        return takenAtMillis;
+    }
+
+    /**
+     * Gets the number of times a part of the turn was timed
+     * @param phase 
+     * @return 
+     */
+    public long getSampleCount(TurnPhase phase) {
+        return samples[phase.ordinal()];
+    }
+
+    /**
+     * Gets the median latency of a part of the turn
+     * @param phase 
+     * @return 
+     */
+    public long getP50(TurnPhase phase) {
+        return medians[phase.ordinal()];
+    }
+
+    /**
+     * Gets the 99th percentile latency of a part of the turn
+     * @param phase 
+     * @return 
+     */
+    public long getP99(TurnPhase phase) {
+        return p99s[phase.ordinal()];
+    }
+
+    /**
+     * Gets the largest latency of a part of the turn
+     * @param phase 
+     * @return 
+     */
+    public long getMax(TurnPhase phase) {
+        return maxima[phase.ordinal()];
+    }
+
+    /**
+     * Gets the value of an event counter
+     * @param counter 
+     * @return 
+     */
+    public long getCount(EngineCounter counter) {
+        return counts[counter.ordinal()];
+    }
+
+    /**
+     * Formats the snapshot as a table of latencies in microseconds followed by the counters
+     * @return 
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("%-18s %10s %10s %10s %10s%n", "phase (us)", "samples", "p50", "p99", "max"));
+        for (TurnPhase phase : TurnPhase.values()) {
+            text.append(String.format("%-18s %10d %10.2f %10.2f %10.2f%n", phase.getLabel(), getSampleCount(phase),
+                    getP50(phase) / 1e3, getP99(phase) / 1e3, getMax(phase) / 1e3));
+        }
+        for (EngineCounter counter : EngineCounter.values()) {
+            text.append(String.format("%-18s %10d%n", counter.getLabel(), getCount(counter)));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,105 @@
+package sustainabilityBoardGame;
+
+import java.util.List;
+
+/**
+ * Precomputed moves for one board, from a position and a roll total to the destination,
+ * whether go was passed and what happens on the destination square
+ * Built once when the board is created, so moving a player is a single array lookup with no division,
+ * and it is correct for boards of any size, including rolls that go round the board more than once
+ * 
+ * A move is packed into an int like a dice roll: passed go in the lowest bit, the square action in the next two bits
+ * and the destination above them, read with destination, passedGo and action
+ */
+public class MovementTable {
+
+    /**
+     * Highest roll total the table covers, two sixes
+     */
+    public static final int MAX_ROLL_TOTAL = 12;
+
+    private static final int PASSED_GO_BIT = 1;
+    private static final int ACTION_SHIFT = 1;
+    private static final int ACTION_MASK = 3;
+    private static final int DESTINATION_SHIFT = 3;
+
+    private static final SquareAction[] ACTIONS = SquareAction.values();
+
+    private int boardSize;
+
+    // Indexed by position * (MAX_ROLL_TOTAL + 1) + roll total
+    private int[] moves;
+
+    /**
+     * Builds the table for the squares of a board
+     * @param squares 
+     */
+    public MovementTable(List<BoardSquare> squares) {
+        this(squares.stream().map(SquareAction::of).toArray(SquareAction[]::new));
+    }
+
+    /**
+     * Builds the table for a board whose squares have the given actions
+     * @param actions the action of each square, by position
+     */
+    public MovementTable(SquareAction[] actions) {
+        this.boardSize = actions.length;
+        this.moves = new int[boardSize * (MAX_ROLL_TOTAL + 1)];
+
+        for (int position = 0; position < boardSize; position++) {
+            for (int total = 0; total <= MAX_ROLL_TOTAL; total++) {
+                int target = position + total;
+                int destination = target % boardSize;
+                // Go is passed, or landed on, whenever the move reaches the end of the board, however many times
+                boolean passedGo = target >= boardSize;
+                moves[position * (MAX_ROLL_TOTAL + 1) + total] = (destination << DESTINATION_SHIFT)
+                        | (actions[destination].ordinal() << ACTION_SHIFT) | (passedGo ? PASSED_GO_BIT : 0);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of squares on the board the table was built for
+     * @return 
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Looks up a move
+     * @param position the square the player starts on
+     * @param rollTotal between 0 and MAX_ROLL_TOTAL
+     * @return the packed move
+     */
+    public int getMove(int position, int rollTotal) {
+        return moves[position * (MAX_ROLL_TOTAL + 1) + rollTotal];
+    }
+
+    /**
+     * Gets the square a packed move ends on
+     * @param move 
+     * @return 
+     */
+    public static int destination(int move) {
+        return move >>> DESTINATION_SHIFT;
+    }
+
+    /**
+     * Checks if a packed move passes or lands on go
+     * @param move 
+     * @return 
+     */
+    public static boolean passedGo(int move) {
+        return (move & PASSED_GO_BIT) != 0;
+    }
+
+    /**
+     * Gets what happens on the square a packed move ends on
+     * @param move 
+     * @return 
+     */
+    public static SquareAction action(int move) {
+        return ACTIONS[(move >>> ACTION_SHIFT) & ACTION_MASK];
+    }
+}
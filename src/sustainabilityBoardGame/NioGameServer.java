@@ -0,0 +1,202 @@
+package sustainabilityBoardGame;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking front end for network play, built for very many connected players who are mostly thinking
+ * One selector thread watches every connection and hands a connection with input to a small pool of worker threads,
+ * which parse the choices straight out of the received bytes, step the game's TurnStateMachine and send the next
+ * prompt built from pre-encoded templates. A waiting player holds no thread and no buffers, only their game
+ */
+public class NioGameServer implements AutoCloseable {
+
+    private ServerSocketChannel serverChannel;
+    private Selector selector;
+    private ExecutorService workers;
+    private BoardLayout layout;
+    private PromptTemplates templates;
+    private AtomicInteger sessions = new AtomicInteger();
+    private Thread selectorThread;
+    private volatile boolean closed;
+
+    /**
+     * Binds the server to a port on the loopback address for games on the standard board, without accepting connections yet
+     * @param port the port to listen on, 0 for any free port
+     * @param workerThreads number of threads playing the games
+     * @throws IOException if the port cannot be bound
+     */
+    public NioGameServer(int port, int workerThreads) throws IOException {
+        this(port, workerThreads, BoardLayout.standard());
+    }
+
+    /**
+     * Binds the server to a port on the loopback address, without accepting connections yet
+     * @param port the port to listen on, 0 for any free port
+     * @param workerThreads number of threads playing the games
+     * @param layout the board every game is played on
+     * @throws IOException if the port cannot be bound
+     */
+    public NioGameServer(int port, int workerThreads, BoardLayout layout) throws IOException {
+        if (workerThreads < 1) {
+            throw new IllegalArgumentException("Worker threads must be at least 1");
+        }
+        this.layout = layout;
+        this.templates = new PromptTemplates(layout);
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 4096);
+        this.serverChannel.configureBlocking(false);
+        this.serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        this.workers = Executors.newFixedThreadPool(workerThreads);
+    }
+
+    /**
+     * Starts the selector thread
+     */
+    public void start() {
+        selectorThread = Thread.ofPlatform().name("nio-game-server-selector").daemon(true).start(this::selectLoop);
+    }
+
+    /**
+     * Gets the port the server is listening on
+     * @return 
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Gets the number of connections currently open
+     * @return 
+     */
+    public int getConnectedSessions() {
+        return sessions.get();
+    }
+
+    /**
+     * Stops the selector thread and closes every connection, ending the games in progress
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        selector.wakeup();
+        if (selectorThread != null) {
+            try {
+                selectorThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        workers.shutdown();
+        for (SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+        selector.close();
+        serverChannel.close();
+    }
+
+    /**
+     * Gets the board every game is played on
+     * @return 
+     */
+    BoardLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Gets the pre-encoded names on the board
+     * @return 
+     */
+    PromptTemplates getTemplates() {
+        return templates;
+    }
+
+    /**
+     * Called by a session once its connection has closed
+     */
+    void sessionClosed() {
+        sessions.decrementAndGet();
+    }
+
+    /**
+     * Selector loop, accepts connections and passes ready connections on until the server is closed
+     */
+    private void selectLoop() {
+        while (!closed) {
+            try {
+                selector.select(this::handleKey);
+            } catch (IOException e) {
+                // A failing selector cannot be recovered, stop serving
+                return;
+            }
+        }
+    }
+
+    /**
+     * Handles one ready key: new connections are accepted here, reading and playing is left to the workers
+     * @param key 
+     */
+    private void handleKey(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            acceptConnections();
+            return;
+        }
+        NioSession session = (NioSession) key.attachment();
+        if (key.isWritable()) {
+            session.writePending();
+        } else if (key.isReadable()) {
+            // Stop watching the connection until the worker has answered, so no other worker picks it up meanwhile
+            key.interestOps(0);
+            workers.execute(session::process);
+        }
+    }
+
+    /**
+     * Accepts every connection waiting and greets each one
+     */
+    private void acceptConnections() {
+        try {
+            SocketChannel channel;
+            while ((channel = serverChannel.accept()) != null) {
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                SelectionKey key = channel.register(selector, 0);
+                NioSession session = new NioSession(this, channel, key);
+                key.attach(session);
+                sessions.incrementAndGet();
+                session.start();
+            }
+        } catch (IOException e) {
+            // The connection failed before it could be set up, carry on with the others
+        }
+    }
+
+    /**
+     * Runs the server until the process is stopped
+     * Run with optional arguments: port, number of worker threads
+     * @param args 
+     * @throws IOException 
+     */
+    public static void main(String[] args) throws IOException {
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : 7778;
+        int workerThreads = (args.length > 1) ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        NioGameServer server = new NioGameServer(port, workerThreads);
+        System.out.println("Sustainability board game NIO server listening on "
+                + InetAddress.getLoopbackAddress().getHostAddress() + ":" + server.getPort());
+        server.selectLoop();
+    }
+}
@@ -0,0 +1,432 @@
+package sustainabilityBoardGame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+
+/**
+ * One game played over a non-blocking connection of the NIO front end
+ * Nothing is held for a session while it waits for its player, apart from the game itself: input is read into the
+ * worker thread's buffer and parsed completely, and output is built in the worker's PromptWriter and only copied into
+ * a buffer of the session's own if the connection cannot take it all at once
+ * The connection enters the number of players, who are then named by their place in the turn order and take turns
+ * answering each prompt with a number, as in the console game
+ */
+public class NioSession {
+
+    private static final int INPUT_BUFFER_SIZE = 4096;
+
+    // Buffers belong to the thread doing the work, so idle sessions cost no buffer memory
+    private static final ThreadLocal<ByteBuffer> INPUT = ThreadLocal.withInitial(
+            () -> ByteBuffer.allocateDirect(INPUT_BUFFER_SIZE));
+    private static final ThreadLocal<PromptWriter> OUTPUT = ThreadLocal.withInitial(PromptWriter::new);
+
+    private NioGameServer server;
+    private SocketChannel channel;
+    private SelectionKey key;
+    private ChoiceReader reader = new ChoiceReader();
+
+    // Output the connection could not take yet, null when everything has been written
+    private ByteBuffer pending;
+
+    private PromptWriter writer;
+    private TurnStateMachine turns;
+    private SustainabilityBoardGame game;
+    private boolean finished;
+    private boolean closed;
+
+    /**
+     * Creates a session for a connection the server has just accepted and registered
+     * @param server 
+     * @param channel 
+     * @param key 
+     */
+    NioSession(NioGameServer server, SocketChannel channel, SelectionKey key) {
+        this.server = server;
+        this.channel = channel;
+        this.key = key;
+    }
+
+    /**
+     * Greets the player and asks for the number of players, called on the selector thread as the connection is accepted
+     */
+    void start() {
+        writer = OUTPUT.get();
+        writer.clear();
+        writer.put(PromptTemplates.WELCOME).put(PromptTemplates.PLAYER_COUNT_PROMPT);
+        flush();
+    }
+
+    /**
+     * Reads what the player has sent and answers every complete line, called on a worker thread when the connection
+     * is readable; the connection is not watched again until this has finished, so a session is never processed twice at once
+     * A session that fails unexpectedly is closed, so its connection is not left open and unwatched, and the failure
+     * is passed to the worker thread's uncaught exception handler, which the pool would otherwise never call
+     */
+    void process() {
+        try {
+            readAndAnswer();
+        } catch (RuntimeException e) {
+            close();
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        }
+    }
+
+    /**
+     * Reads what the player has sent, answers every complete line and writes or queues the response
+     */
+    private void readAndAnswer() {
+        writer = OUTPUT.get();
+        writer.clear();
+        ByteBuffer in = INPUT.get();
+        in.clear();
+        try {
+            if (channel.read(in) < 0) {
+                close();
+                return;
+            }
+        } catch (IOException e) {
+            close();
+            return;
+        }
+
+        in.flip();
+        while (!finished) {
+            int choice = reader.next(in);
+            if (choice == ChoiceReader.INCOMPLETE) {
+                break;
+            }
+            answer(choice);
+        }
+        flush();
+    }
+
+    /**
+     * Writes output the connection could not take earlier, called on the selector thread when the connection is writable
+     */
+    void writePending() {
+        try {
+            channel.write(pending);
+        } catch (IOException e) {
+            close();
+            return;
+        }
+        if (!pending.hasRemaining()) {
+            pending = null;
+            if (finished) {
+                close();
+            } else {
+                watch(SelectionKey.OP_READ);
+            }
+        }
+    }
+
+    /**
+     * Closes the connection, ending the game if it is still going
+     */
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        finished = true;
+        if (game != null) {
+            // The game may have been abandoned part way through, so report what it has counted so far
+            game.flushMetrics();
+        }
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Nothing more can be done with a connection that fails to close
+        }
+        server.sessionClosed();
+    }
+
+    /**
+     * Handles one line from the player
+     * @param choice 
+     */
+    private void answer(int choice) {
+        if (game == null) {
+            if (choice == ChoiceReader.INVALID) {
+                writer.put(PromptTemplates.VALID_NUMBER).put(PromptTemplates.PLAYER_COUNT_PROMPT);
+            } else if (choice < GameConfig.MIN_PLAYERS || choice > GameConfig.MAX_PLAYERS) {
+                writer.put(PromptTemplates.PLAYER_COUNT_RANGE).put(PromptTemplates.PLAYER_COUNT_PROMPT);
+            } else {
+                createGame(choice);
+                advance();
+            }
+            return;
+        }
+
+        int options = turns.getOptionCount();
+        if (choice == ChoiceReader.INVALID) {
+            writer.put(PromptTemplates.VALID_NUMBER);
+            writeChoicePrompt(options);
+        } else if (choice < 1 || choice > options) {
+            writer.put(PromptTemplates.CHOICE_RANGE).putNumber(options).put(PromptTemplates.SENTENCE_END);
+            writeChoicePrompt(options);
+        } else {
+            turns.step(choice);
+            advance();
+        }
+    }
+
+    /**
+     * Sets up a game for the given number of players on the server's board
+     * Transactions are not sent to a sink, the messages below tell the players what happened
+     * @param numPlayers 
+     */
+    private void createGame(int numPlayers) {
+        UserInterface ui = new SessionUserInterface();
+        GameBoard board = new GameBoard(server.getLayout());
+        PlayerManager playerManager = new PlayerManager(ui);
+        for (int i = 0; i < numPlayers; i++) {
+            Player player = new Player(PromptTemplates.playerName(i), GameConfig.INITIAL_RESOURCES);
+            player.setEventSink(null);
+            playerManager.addPlayer(player);
+        }
+        game = new SustainabilityBoardGame(ui, board, playerManager, new DiceStream(), 0);
+        turns = game.getTurnStateMachine();
+    }
+
+    /**
+     * Plays on to the next prompt, starting new turns as earlier ones resolve, and writes it
+     */
+    private void advance() {
+        TurnState state = turns.getState();
+        while (state == TurnState.RESOLVED) {
+            state = turns.beginTurn();
+        }
+        if (state == TurnState.GAME_OVER) {
+            writeFinalResults();
+            finished = true;
+        } else {
+            writePrompt(state);
+        }
+    }
+
+    /**
+     * Writes the prompt for the state the turn is waiting in
+     * @param state 
+     */
+    private void writePrompt(TurnState state) {
+        Player player = turns.getPlayer();
+        PromptTemplates templates = server.getTemplates();
+        switch (state) {
+            case AWAITING_TURN_CHOICE:
+                writer.put(PromptTemplates.TURN_START).put(PromptTemplates.playerName(player))
+                        .put(PromptTemplates.TURN_END).putNumber(player.getResources())
+                        .put(player.canDevelopAny() ? PromptTemplates.TURN_MENU_DEVELOP : PromptTemplates.TURN_MENU);
+                break;
+            case AWAITING_DEVELOPMENT_CHOICE:
+                writer.put(PromptTemplates.DEVELOP_MENU);
+                List<PropertySquare> owned = turns.getOwnedProperties();
+                for (int i = 0; i < owned.size(); i++) {
+                    PropertySquare property = owned.get(i);
+                    writer.putNumber(i + 1).put(PromptTemplates.NUMBERED).put(templates.propertyName(property))
+                            .put(PromptTemplates.DEVELOP_LEVEL).putNumber(property.getDevelopmentLevel())
+                            .put(PromptTemplates.DEVELOP_COST).putNumber(property.getDevelopmentCost())
+                            .put(PromptTemplates.DEVELOP_ITEM_END);
+                }
+                break;
+            case AWAITING_PURCHASE_DECISION:
+                writer.put(PromptTemplates.PURCHASE_MENU);
+                break;
+            case AWAITING_WASTELAND_CHOICE:
+                writer.put(PromptTemplates.WASTELAND_MENU);
+                break;
+            case AWAITING_ECO_CITY_CONFIRMATION:
+                writer.put(PromptTemplates.ECO_CITY_MENU);
+                break;
+            default:
+                break;
+        }
+        writeChoicePrompt(turns.getOptionCount());
+    }
+
+    /**
+     * Writes the request for a choice, using the ready made prompt for the usual two or three options
+     * @param options 
+     */
+    private void writeChoicePrompt(int options) {
+        if (options == 2) {
+            writer.put(PromptTemplates.CHOICE_PROMPT_2);
+        } else if (options == 3) {
+            writer.put(PromptTemplates.CHOICE_PROMPT_3);
+        } else {
+            writer.put(PromptTemplates.CHOICE_PROMPT).putNumber(options).put(PromptTemplates.CHOICE_PROMPT_END);
+        }
+    }
+
+    /**
+     * Writes every player's final resources
+     */
+    private void writeFinalResults() {
+        writer.put(PromptTemplates.FINAL_RESULTS);
+        for (Player player : game.getPlayerManager().getPlayers()) {
+            writer.put(PromptTemplates.playerName(player)).put(PromptTemplates.NAME_END).putNumber(player.getResources())
+                    .put(PromptTemplates.RESOURCES);
+        }
+    }
+
+    /**
+     * Writes the response built so far, keeping whatever the connection cannot take yet until it is writable again
+     */
+    private void flush() {
+        ByteBuffer out = writer.flip();
+        try {
+            if (out.hasRemaining()) {
+                channel.write(out);
+            }
+        } catch (IOException e) {
+            close();
+            return;
+        }
+        if (out.hasRemaining()) {
+            pending = ByteBuffer.allocate(out.remaining()).put(out).flip();
+            watch(SelectionKey.OP_WRITE);
+        } else if (finished) {
+            close();
+        } else {
+            watch(SelectionKey.OP_READ);
+        }
+    }
+
+    /**
+     * Tells the selector what to wait for next on this connection
+     * @param ops 
+     */
+    private void watch(int ops) {
+        if (key.isValid()) {
+            key.interestOps(ops);
+            key.selector().wakeup();
+        }
+    }
+
+    /**
+     * Writes the game's messages into the response being built, from templates and the board's encoded names
+     * Decisions are never asked for, they arrive as the player's answers to each prompt and are passed to step
+     */
+    private class SessionUserInterface extends HeadlessUserInterface {
+
+        SessionUserInterface() {
+            super(null);
+        }
+
+        @Override
+        public void displayDiceRoll(Player player, int packedRoll) {
+            writer.put(PromptTemplates.playerName(player)).put(PromptTemplates.ROLLED).putNumber(DiceRoll.dice1(packedRoll))
+                    .put(PromptTemplates.AND).putNumber(DiceRoll.dice2(packedRoll)).put(PromptTemplates.NEW_LINE);
+        }
+
+        @Override
+        public void displayPassedGo(Player player, int efficiency, int grantAmount) {
+            writer.put(PromptTemplates.playerName(player)).put(PromptTemplates.PASSED_GO).putNumber(grantAmount)
+                    .put(PromptTemplates.RESOURCES);
+        }
+
+        @Override
+        public void displayPlayerMovement(Player player, BoardSquare square) {
+            writer.put(PromptTemplates.playerName(player)).put(PromptTemplates.MOVED_TO)
+                    .put(server.getTemplates().squareName(player.getPosition())).put(PromptTemplates.NEW_LINE);
+        }
+
+        @Override
+        public void displayPurchaseOffer(PropertySquare property) {
+            writer.put(PromptTemplates.UNOWNED).putNumber(property.getPurchaseCost()).put(PromptTemplates.RESOURCES);
+        }
+
+        @Override
+        public void displayInsufficientResourcesToPurchase() {
+            writer.put(PromptTemplates.CANNOT_AFFORD);
+        }
+
+        @Override
+        public void displayPurchase(Player player, PropertySquare property) {
+            writer.put(PromptTemplates.playerName(player)).put(PromptTemplates.PURCHASED)
+                    .put(server.getTemplates().propertyName(property)).put(PromptTemplates.FOR)
+                    .putNumber(property.getPurchaseCost()).put(PromptTemplates.RESOURCES);
+        }
+
+        @Override
+        public void displayPurchaseDeclined(Player player, PropertySquare property) {
+            writer.put(PromptTemplates.playerName(player)).put(PromptTemplates.DECLINED)
+                    .put(server.getTemplates().propertyName(property)).put(PromptTemplates.NEW_LINE);
+        }
+
+        @Override
+        public void displayOwnProperty() {
+            writer.put(PromptTemplates.OWN_PROPERTY);
+        }
+
+        @Override
+        public void displayRentPaid(Player player, Player owner, int amount) {
+            writer.put(PromptTemplates.playerName(player)).put(PromptTemplates.PAID).putNumber(amount)
+                    .put(PromptTemplates.RESOURCES_TO).put(PromptTemplates.playerName(owner)).put(PromptTemplates.NEW_LINE);
+        }
+
+        @Override
+        public void displayPartialPayment(Player player, Player owner, int amount) {
+            displayRentPaid(player, owner, amount);
+        }
+
+        @Override
+        public void displayLandedOnWasteland(Player player) {
+            writer.put(PromptTemplates.playerName(player)).put(PromptTemplates.LANDED_ON_WASTELAND);
+        }
+
+        @Override
+        public void displayNothingHappens() {
+            writer.put(PromptTemplates.NOTHING_HAPPENS);
+        }
+
+        @Override
+        public void displayWastelandStay(Player player) {
+            writer.put(PromptTemplates.playerName(player)).put(PromptTemplates.WASTELAND_STAY);
+        }
+
+        @Override
+        public void displayResourceDistribution(Player player, int amount) {
+            writer.put(PromptTemplates.playerName(player)).put(PromptTemplates.DISTRIBUTING).putNumber(amount)
+                    .put(PromptTemplates.RESOURCES);
+        }
+
+        @Override
+        public void displayWastelandSkipMessage(Player player) {
+            writer.put(PromptTemplates.playerName(player)).put(PromptTemplates.WASTELAND_SKIP);
+        }
+
+        @Override
+        public void displayPropertyDeveloped(Player player, PropertySquare property, int cost) {
+            writer.put(PromptTemplates.playerName(player)).put(PromptTemplates.DEVELOPED)
+                    .put(server.getTemplates().propertyName(property)).put(PromptTemplates.TO_LEVEL)
+                    .putNumber(property.getDevelopmentLevel()).put(PromptTemplates.FOR).putNumber(cost)
+                    .put(PromptTemplates.RESOURCES);
+        }
+
+        @Override
+        public void displayInsufficientResourcesToDevelop() {
+            writer.put(PromptTemplates.CANNOT_DEVELOP);
+        }
+
+        @Override
+        public void displayDevelopmentCancelled() {
+            writer.put(PromptTemplates.DEVELOPMENT_CANCELLED);
+        }
+
+        @Override
+        public void displayQuitMessage(Player player) {
+            writer.put(PromptTemplates.playerName(player)).put(PromptTemplates.QUIT);
+        }
+
+        @Override
+        public void displayGameOver() {
+            writer.put(PromptTemplates.GAME_OVER);
+        }
+    }
+}
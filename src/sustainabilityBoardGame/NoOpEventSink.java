@@ -0,0 +1,17 @@
+package sustainabilityBoardGame;
+
+/**
+ * Discards every transaction, for callers that need a sink but no output
+ * Leaving a player without a sink is cheaper still, as no event is then created
+ */
+public class NoOpEventSink implements GameEventSink {
+
+    /**
+     * Shared instance, the no-op sink has no state
+     */
+    public static final NoOpEventSink INSTANCE = new NoOpEventSink();
+
+    @Override
+    public void onTransaction(TransactionEvent event) {
+    }
+}
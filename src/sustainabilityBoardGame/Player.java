@@ -1,5 +1,10 @@
 package sustainabilityBoardGame;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Represents a player in the game, managing resources, position etc.
  */
@@ -16,6 +21,31 @@ public class Player {
     
     // This will check if a player has recently has the wasteland choice, assuring this mechanic does not get repeated
     private boolean hasRecentlyHadWastelandChoice; 
+    
+    // Receives every transaction, console games print them while headless games have no sink at all
+    private GameEventSink eventSink;
+    
+    // Properties owned by this player in board order, kept up to date by PropertySquare.setOwner
+    private List<PropertySquare> ownedProperties;
+    private List<PropertySquare> ownedPropertiesView;
+    
+    // Owned properties and those of them that can still be developed, one bit per property index of the board layout
+    private BitSet ownedMask;
+    private BitSet developableMask;
+    
+    // Owned properties that are not part of a board layout and so have no bits, checked one by one when there are any
+    private int unindexedProperties;
+    
+    // Running total of the investment in owned properties, kept up to date by PropertySquare.setOwner and develop
+    private int propertyInvestment;
+    
+    // Manager of the game this player is in, told about every balance change so it can keep its totals up to date
+    private PlayerManager playerManager;
+    private int playerIndex = -1;
+    
+    // Optional observer of the efficiency score, and the score it was last told about
+    private EfficiencyListener efficiencyListener;
+    private int efficiencyScore;
 
     /**
      * Creates a new player with initial resources and default state
@@ -29,6 +59,12 @@ public class Player {
         this.totalSpent = 0;
         this.inWasteland = false;
         this.hasRecentlyHadWastelandChoice = false;
+        this.eventSink = ConsoleEventSink.INSTANCE;
+        this.ownedProperties = new ArrayList<>();
+        this.ownedPropertiesView = Collections.unmodifiableList(ownedProperties);
+        this.ownedMask = new BitSet();
+        this.developableMask = new BitSet();
+        this.propertyInvestment = 0;
     }
 
     /**
@@ -48,26 +84,129 @@ public class Player {
     }
 
     /**
-     * Adds resources to the player's balance and outputs transaction
+     * Adds resources to the player's balance and passes the transaction to the event sink
      * @param amount 
      * @param reason 
      */
     public void addResources(int amount, String reason) {
-        resources += amount;
-        System.out.println(name + " received " + amount + " resources (" + reason + ")");
-        System.out.println("New balance: " + resources);
+        credit(amount);
+        if (eventSink != null) {
+            eventSink.onTransaction(new TransactionEvent(TransactionEvent.Kind.RECEIVED, this, amount, reason, resources));
+        }
+        efficiencyMayHaveChanged();
     }
 
     /**
-     * Removes resources from the player's balance and outputs transaction
+     * Adds resources to the player's balance for a reason with no other player or property involved
+     * @param amount 
+     * @param reason 
+     */
+    public void addResources(int amount, TransactionReason reason) {
+        addResources(amount, reason, TransactionEvent.NO_COUNTERPARTY);
+    }
+
+    /**
+     * Adds resources to the player's balance and passes the transaction to the event sink, without building any text
+     * @param amount 
+     * @param reason 
+     * @param counterparty index of the other player or property involved
+     */
+    public void addResources(int amount, TransactionReason reason, int counterparty) {
+        credit(amount);
+        if (eventSink != null) {
+            eventSink.onTransaction(new TransactionEvent(TransactionEvent.Kind.RECEIVED, this, amount, reason,
+                    counterparty, resources));
+        }
+        efficiencyMayHaveChanged();
+    }
+
+    /**
+     * Removes resources from the player's balance and passes the transaction to the event sink
      * @param amount 
      * @param reason 
      */
     public void removeResources(int amount, String reason) {
+        debit(amount);
+        if (eventSink != null) {
+            eventSink.onTransaction(new TransactionEvent(TransactionEvent.Kind.SPENT, this, amount, reason, resources));
+        }
+        efficiencyMayHaveChanged();
+    }
+
+    /**
+     * Removes resources from the player's balance for a reason with no other player or property involved
+     * @param amount 
+     * @param reason 
+     */
+    public void removeResources(int amount, TransactionReason reason) {
+        removeResources(amount, reason, TransactionEvent.NO_COUNTERPARTY);
+    }
+
+    /**
+     * Removes resources from the player's balance and passes the transaction to the event sink, without building any text
+     * @param amount 
+     * @param reason 
+     * @param counterparty index of the other player or property involved
+     */
+    public void removeResources(int amount, TransactionReason reason, int counterparty) {
+        debit(amount);
+        if (eventSink != null) {
+            eventSink.onTransaction(new TransactionEvent(TransactionEvent.Kind.SPENT, this, amount, reason,
+                    counterparty, resources));
+        }
+        efficiencyMayHaveChanged();
+    }
+
+    /**
+     * Adds to the balance and tells the manager, shared by every way of receiving resources
+     * @param amount 
+     */
+    private void credit(int amount) {
+        int oldResources = resources;
+        resources += amount;
+        if (playerManager != null) {
+            playerManager.resourcesChanged(oldResources, resources);
+        }
+    }
+
+    /**
+     * Takes from the balance, counts the spending and tells the manager, shared by every way of spending resources
+     * @param amount 
+     */
+    private void debit(int amount) {
+        int oldResources = resources;
         resources -= amount;
         totalSpent += amount;
-        System.out.println(name + " spent " + amount + " resources (" + reason + ")");
-        System.out.println("New balance: " + resources);
+        if (playerManager != null) {
+            playerManager.resourcesChanged(oldResources, resources);
+        }
+    }
+
+    /**
+     * Adds a share of another player's distributed resources, without an event or a manager update of its own
+     * Only called by PlayerManager.distributeResources, which updates its totals and sends one event for every share at once
+     * @param amount 
+     */
+    void receiveDistribution(int amount) {
+        resources += amount;
+        efficiencyMayHaveChanged();
+    }
+
+    /**
+     * Gets the sink that receives this player's transactions, or null if there is none
+     * @return 
+     */
+    public GameEventSink getEventSink() {
+        return eventSink;
+    }
+
+    /**
+     * Sets the sink that receives this player's transactions, the console by default
+     * Null removes the sink, so transactions create no events or messages at all
+     * @param eventSink 
+     */
+    public void setEventSink(GameEventSink eventSink) {
+        this.eventSink = eventSink;
     }
 
     /**
@@ -139,4 +278,193 @@ public class Player {
     public boolean isEligibleForWastelandChoice() {
         return resources > 0;
     }
+
+    /**
+     * Gets the properties owned by this player in board order, the order the development menu numbers them in
+     * Properties that are not part of a board layout come first, in the order they were bought
+     * The list is a read-only view that always reflects current ownership, so it is never copied
+     * @return 
+     */
+    public List<PropertySquare> getOwnedProperties() {
+        return ownedPropertiesView;
+    }
+
+    /**
+     * Records that this player has become the owner of a property, only called by PropertySquare.setOwner
+     * @param property 
+     */
+    void addOwnedProperty(PropertySquare property) {
+        // Players own few properties, so finding the place from the end costs less than sorting on every read
+        int position = property.getDefinition().getPosition();
+        int index = ownedProperties.size();
+        while (index > 0 && ownedProperties.get(index - 1).getDefinition().getPosition() > position) {
+            index--;
+        }
+        ownedProperties.add(index, property);
+        if (property.getDefinition().getPropertyIndex() < 0) {
+            unindexedProperties++;
+        }
+        updatePropertyMasks(property, true);
+    }
+
+    /**
+     * Records that this player no longer owns a property, only called by PropertySquare.setOwner
+     * @param property 
+     */
+    void removeOwnedProperty(PropertySquare property) {
+        if (ownedProperties.remove(property) && property.getDefinition().getPropertyIndex() < 0) {
+            unindexedProperties--;
+        }
+        updatePropertyMasks(property, false);
+    }
+
+    /**
+     * Records that an owned property has been developed, which may mean it cannot be developed any further
+     * Only called by PropertySquare.develop
+     * @param property 
+     */
+    void ownedPropertyDeveloped(PropertySquare property) {
+        updatePropertyMasks(property, true);
+    }
+
+    /**
+     * Sets the property's bits in the owned and developable masks, properties that are not part of a board layout have no bits
+     * @param property 
+     * @param owned 
+     */
+    private void updatePropertyMasks(PropertySquare property, boolean owned) {
+        int index = property.getDefinition().getPropertyIndex();
+        if (index >= 0) {
+            ownedMask.set(index, owned);
+            developableMask.set(index, owned && property.canBeDeveloped());
+        }
+    }
+
+    /**
+     * Checks if this player owns the property with the given index on the board layout, a single bit test
+     * @param propertyIndex 
+     * @return 
+     */
+    public boolean ownsProperty(int propertyIndex) {
+        return ownedMask.get(propertyIndex);
+    }
+
+    /**
+     * Checks if any owned property can still be developed, without looking at the properties themselves
+     * Properties that are not part of a board layout, such as those built with the name, cost and type constructor,
+     * have no bits and are checked one by one, but every property on a GameBoard is part of its layout
+     * @return 
+     */
+    public boolean canDevelopAny() {
+        if (!developableMask.isEmpty()) {
+            return true;
+        }
+        return unindexedProperties > 0 && PropertyUtils.canDevelopAny(ownedProperties);
+    }
+
+    /**
+     * Gets the number of properties this player owns
+     * @return 
+     */
+    public int getOwnedPropertyCount() {
+        return ownedProperties.size();
+    }
+
+    /**
+     * Gets a copy of the owned property mask, bit i is set if the property with index i on the board layout is owned
+     * Together with the developable mask it describes the player's holdings, for example as a key for caching AI decisions
+     * @return 
+     */
+    public BitSet getOwnedPropertyMask() {
+        return (BitSet) ownedMask.clone();
+    }
+
+    /**
+     * Gets a copy of the developable property mask, bit i is set if the owned property with index i can still be developed
+     * @return 
+     */
+    public BitSet getDevelopablePropertyMask() {
+        return (BitSet) developableMask.clone();
+    }
+
+    /**
+     * Gets the total resources invested in the properties this player owns, purchases and developments included
+     * @return 
+     */
+    public int getPropertyInvestment() {
+        return propertyInvestment;
+    }
+
+    /**
+     * Changes the running investment total when an owned property is bought, developed or changes owner, only called by PropertySquare
+     * @param amount 
+     */
+    void addPropertyInvestment(int amount) {
+        propertyInvestment += amount;
+        efficiencyMayHaveChanged();
+    }
+
+    /**
+     * Puts back the balance and spending of a saved game without creating any transaction
+     * Owned properties and their investment are put back by PropertySquare.restore
+     * @param resources 
+     * @param totalSpent 
+     */
+    void restoreResources(int resources, int totalSpent) {
+        int oldResources = this.resources;
+        this.resources = resources;
+        this.totalSpent = totalSpent;
+        if (playerManager != null) {
+            playerManager.resourcesChanged(oldResources, resources);
+        }
+    }
+
+    /**
+     * Sets the manager to tell about balance changes and this player's place in its turn order, only called by PlayerManager
+     * @param playerManager 
+     * @param playerIndex 
+     */
+    void setPlayerManager(PlayerManager playerManager, int playerIndex) {
+        this.playerManager = playerManager;
+        this.playerIndex = playerIndex;
+    }
+
+    /**
+     * Gets this player's place in the turn order, used as the counterparty index of transactions with other players
+     * @return the index, or -1 before the player has been added to a game
+     */
+    public int getPlayerIndex() {
+        return playerIndex;
+    }
+
+    /**
+     * Gets the manager of the game this player is in, or null before the player has been added to one
+     * @return 
+     */
+    PlayerManager getPlayerManager() {
+        return playerManager;
+    }
+
+    /**
+     * Sets an observer to be told whenever this player's efficiency score changes, or null to remove it
+     * @param efficiencyListener 
+     */
+    public void setEfficiencyListener(EfficiencyListener efficiencyListener) {
+        this.efficiencyListener = efficiencyListener;
+        this.efficiencyScore = EfficiencyCalculator.calculateEfficiencyScore(this);
+    }
+
+    /**
+     * Recalculates the efficiency score and notifies the observer if it changed, skipped when nobody is listening
+     */
+    private void efficiencyMayHaveChanged() {
+        if (efficiencyListener != null) {
+            int newScore = EfficiencyCalculator.calculateEfficiencyScore(this);
+            if (newScore != efficiencyScore) {
+                int oldScore = efficiencyScore;
+                efficiencyScore = newScore;
+                efficiencyListener.efficiencyChanged(this, oldScore, newScore);
+            }
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package sustainabilityBoardGame;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -11,6 +12,19 @@ public class PlayerManager {
     private int currentPlayerIndex;
     private UserInterface ui;
     
+    // Board the players are on, used to name properties when a transaction's reason is shown
+    private BoardLayout boardLayout = BoardLayout.standard();
+    
+    // Running totals over all players, kept up to date by the players on every balance change
+    private long totalResources;
+    private int solventPlayers;
+    
+    // Times a player's resources have run out, counted as the solvent count falls
+    private int bankruptcies;
+    
+    // Number of players the totals were last counted for, players added straight to the list are picked up when they differ
+    private int trackedPlayers;
+    
     /**
      * Creates a new PlayerManager with an empty player list
      * @param ui 
@@ -34,8 +48,44 @@ public class PlayerManager {
         
         // Create player objects with initial resources
         for (String name : playerNames) {
-            players.add(new Player(name, initialResources));
+            Player player = new Player(name, initialResources);
+            player.setEventSink(ui.getEventSink());
+            addPlayer(player);
+        }
+    }
+    
+    /**
+     * Gets the layout of the board the players are on
+     * @return 
+     */
+    BoardLayout getBoardLayout() {
+        return boardLayout;
+    }
+    
+    /**
+     * Sets the layout of the board the players are on, the standard board until a game sets its own
+     * @param boardLayout 
+     */
+    void setBoardLayout(BoardLayout boardLayout) {
+        this.boardLayout = boardLayout;
+    }
+    
+    /**
+     * Adds a player directly, used when players are not entered through the UI
+     * @param player 
+     */
+    public void addPlayer(Player player) {
+        if (trackedPlayers == players.size()) {
+            // Everyone already in the game is counted, so only the new player needs adding to the totals
+            player.setPlayerManager(this, players.size());
+            totalResources += player.getResources();
+            if (player.getResources() > 0) {
+                solventPlayers++;
+            }
+            trackedPlayers++;
         }
+        players.add(player);
+        trackPlayers();
     }
     
     /**
@@ -46,6 +96,22 @@ public class PlayerManager {
         return players.get(currentPlayerIndex);
     }
     
+    /**
+     * Gets the position of the current player in the list of players
+     * @return 
+     */
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+    
+    /**
+     * Sets whose turn it is, used when a saved game is restored
+     * @param currentPlayerIndex 
+     */
+    void setCurrentPlayerIndex(int currentPlayerIndex) {
+        this.currentPlayerIndex = currentPlayerIndex;
+    }
+    
     /**
      * Advances to the next player's turn, in order names were entered
      */
@@ -63,48 +129,205 @@ public class PlayerManager {
     
     /**
      * Distributes resources from one player to all others, 25% of players resources are distributed
+     * The shares are paid in one pass over the players with one event and one message for the whole distribution,
+     * so the cost per recipient stays small with hundreds of players
+     * Each recipient's share is reported to that recipient's own sink, with one event per distinct sink, and the
+     * console prints every received transaction before the list of shares received
      * @param player 
      */
     public void distributeResources(Player player) {
+        DistributionFlightEvent event = DistributionFlightEvent.enabled() ? new DistributionFlightEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        
         // Calculate 25% of player's resources to distribute
         int resourcesAmount = player.getResources() / 4;
         
         // Calculate how much each recipient gets (equally divided)
-        int resourcesPerPlayer = resourcesAmount / (players.size() - 1);
+        int recipientCount = players.size() - 1;
+        int resourcesPerPlayer = resourcesAmount / recipientCount;
         
         // Notify the distribution
         ui.displayResourceDistribution(player, resourcesAmount);
         
         // Remove resources from the distributing player
-        player.removeResources(resourcesAmount, "Resource distribution");
+        player.removeResources(resourcesAmount, TransactionReason.DISTRIBUTION);
+        trackPlayers();
+        
+        // Recipients and their new balances are only collected for recipients with a sink to tell
+        Player[] recipients = null;
+        int[] newBalances = null;
+        int reported = 0;
+        GameEventSink sharedSink = null;
+        boolean mixedSinks = false;
         
-        // Add resources to each recipient
-        for (Player recipient : players) {
-            if (recipient != player) {
-                recipient.addResources(resourcesPerPlayer, "Distribution from " + player.getName());
-                ui.displayResourceReceived(recipient, resourcesPerPlayer);
+        // Pay every share, counting recipients who had no resources before so the solvent count stays right
+        int newlySolvent = 0;
+        for (Player other : players) {
+            if (other != player) {
+                int oldResources = other.getResources();
+                other.receiveDistribution(resourcesPerPlayer);
+                if (oldResources <= 0 && oldResources + resourcesPerPlayer > 0) {
+                    newlySolvent++;
+                }
+                GameEventSink sink = other.getEventSink();
+                if (sink != null) {
+                    if (recipients == null) {
+                        recipients = new Player[recipientCount];
+                        newBalances = new int[recipientCount];
+                        sharedSink = sink;
+                    } else if (sink != sharedSink) {
+                        mixedSinks = true;
+                    }
+                    recipients[reported] = other;
+                    newBalances[reported] = oldResources + resourcesPerPlayer;
+                    reported++;
+                }
             }
         }
+        totalResources += (long) resourcesPerPlayer * recipientCount;
+        solventPlayers += newlySolvent;
+        
+        if (reported > 0) {
+            if (reported < recipientCount) {
+                recipients = Arrays.copyOf(recipients, reported);
+                newBalances = Arrays.copyOf(newBalances, reported);
+            }
+            if (mixedSinks) {
+                sendDistributionBySink(player, resourcesPerPlayer, recipients, newBalances);
+            } else {
+                sharedSink.onDistribution(new DistributionEvent(player, resourcesPerPlayer, recipients, newBalances));
+            }
+        }
+        ui.displayResourcesReceived(player, players, resourcesPerPlayer);
+        
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.set(player, boardLayout.getSquareName(player.getPosition()), resourcesAmount);
+                event.amountEach = resourcesPerPlayer;
+                event.recipients = recipientCount;
+                event.commit();
+            }
+        }
+    }
+    
+    /**
+     * Sends a distribution whose recipients have different sinks, each sink gets one event holding only its own recipients
+     * @param distributor 
+     * @param amountEach 
+     * @param recipients every recipient with a sink
+     * @param newBalances 
+     */
+    private void sendDistributionBySink(Player distributor, int amountEach, Player[] recipients, int[] newBalances) {
+        boolean[] sent = new boolean[recipients.length];
+        for (int i = 0; i < recipients.length; i++) {
+            if (sent[i]) {
+                continue;
+            }
+            GameEventSink sink = recipients[i].getEventSink();
+            int count = 0;
+            for (int j = i; j < recipients.length; j++) {
+                if (!sent[j] && recipients[j].getEventSink() == sink) {
+                    count++;
+                }
+            }
+            Player[] sinkRecipients = new Player[count];
+            int[] sinkBalances = new int[count];
+            int next = 0;
+            for (int j = i; j < recipients.length; j++) {
+                if (!sent[j] && recipients[j].getEventSink() == sink) {
+                    sinkRecipients[next] = recipients[j];
+                    sinkBalances[next] = newBalances[j];
+                    sent[j] = true;
+                    next++;
+                }
+            }
+            sink.onDistribution(new DistributionEvent(distributor, amountEach, sinkRecipients, sinkBalances));
+        }
     }
     
     /**
      * Calculates the average resources of all players except the specified one to determine player wealth
+     * Uses the running total, so it does not depend on the number of players
      * @param excludedPlayer 
      * @return 
      */
     public double getAverageResourcesExcludingPlayer(Player excludedPlayer) {
-        int totalResources = 0;
-        int playerCount = 0;
+        trackPlayers();
+        long total = totalResources;
+        int playerCount = players.size();
         
-        // Sum of resources from all other players
-        for (Player player : players) {
-            if (player != excludedPlayer) {
-                totalResources += player.getResources();
-                playerCount++;
-            }
+        // The excluded player only counts towards the total if they are in this game
+        if (excludedPlayer != null && excludedPlayer.getPlayerManager() == this) {
+            total -= excludedPlayer.getResources();
+            playerCount--;
         }
         
         // Calculate average while avoiding division by zero
-        return (playerCount > 0) ? totalResources / (double) playerCount : 0;
+        return (playerCount > 0) ? total / (double) playerCount : 0;
+    }
+    
+    /**
+     * Gets the total resources of all players
+     * @return 
+     */
+    public long getTotalResources() {
+        trackPlayers();
+        return totalResources;
+    }
+    
+    /**
+     * Gets the number of players who still have resources, used to decide when the game ends
+     * @return 
+     */
+    public int getSolventPlayerCount() {
+        trackPlayers();
+        return solventPlayers;
+    }
+    
+    /**
+     * Gets the number of times a player's resources have run out, a player who is paid again and runs out again counts twice
+     * @return 
+     */
+    int getBankruptcyCount() {
+        return bankruptcies;
+    }
+    
+    /**
+     * Updates the running totals when a player's balance changes, only called by Player
+     * @param oldResources 
+     * @param newResources 
+     */
+    void resourcesChanged(int oldResources, int newResources) {
+        totalResources += newResources - oldResources;
+        if (oldResources > 0 && newResources <= 0) {
+            solventPlayers--;
+            bankruptcies++;
+        } else if (oldResources <= 0 && newResources > 0) {
+            solventPlayers++;
+        }
+    }
+    
+    /**
+     * Counts the totals again if players have been added since they were last counted, including players added straight
+     * to the list returned by getPlayers, and makes sure every player reports balance changes to this manager
+     */
+    private void trackPlayers() {
+        if (trackedPlayers == players.size()) {
+            return;
+        }
+        totalResources = 0;
+        solventPlayers = 0;
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            player.setPlayerManager(this, i);
+            totalResources += player.getResources();
+            if (player.getResources() > 0) {
+                solventPlayers++;
+            }
+        }
+        trackedPlayers = players.size();
     }
 }
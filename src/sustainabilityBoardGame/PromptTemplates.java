@@ -0,0 +1,142 @@
+package sustainabilityBoardGame;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Pre-encoded text for the NIO front end: the fixed parts of every prompt and message, and the names on one board,
+ * encoded once so responses are assembled by copying bytes
+ * The wording follows the console game
+ */
+public class PromptTemplates {
+
+    static final byte[] WELCOME = encode("=== SAVE OUR PLANET: SUSTAINABILITY BOARD GAME ===\n");
+    static final byte[] PLAYER_COUNT_PROMPT = encode("Enter number of players (" + GameConfig.MIN_PLAYERS + "-"
+            + GameConfig.MAX_PLAYERS + "): ");
+    static final byte[] PLAYER_COUNT_RANGE = encode("Number of players must be between " + GameConfig.MIN_PLAYERS
+            + " and " + GameConfig.MAX_PLAYERS + ".\n");
+    static final byte[] VALID_NUMBER = encode("Please enter a valid number.\n");
+    static final byte[] CHOICE_RANGE = encode("Please enter a number between 1 and ");
+    static final byte[] CHOICE_PROMPT = encode("Enter your choice (1-");
+    static final byte[] CHOICE_PROMPT_2 = encode("Enter your choice (1-2): ");
+    static final byte[] CHOICE_PROMPT_3 = encode("Enter your choice (1-3): ");
+    static final byte[] CHOICE_PROMPT_END = encode("): ");
+    static final byte[] SENTENCE_END = encode(".\n");
+    static final byte[] NEW_LINE = encode("\n");
+
+    static final byte[] TURN_START = encode("\n=== ");
+    static final byte[] TURN_END = encode("'s TURN ===\nResources: ");
+    static final byte[] TURN_MENU = encode("\n\nOptions:\n1. Roll dice\n2. Quit game\n");
+    static final byte[] TURN_MENU_DEVELOP = encode("\n\nOptions:\n1. Roll dice\n2. Develop a property\n3. Quit game\n");
+    static final byte[] DEVELOP_MENU = encode("\nSelect a property to develop:\n");
+    static final byte[] DEVELOP_LEVEL = encode(" (Current Level: ");
+    static final byte[] DEVELOP_COST = encode(", Development Cost: ");
+    static final byte[] DEVELOP_ITEM_END = encode(")\n");
+    static final byte[] NUMBERED = encode(". ");
+    static final byte[] PURCHASE_MENU = encode("Would you like to purchase it?\n1. Yes\n2. No\n");
+    static final byte[] WASTELAND_MENU = encode("You have significantly more resources than others.\nOptions:\n"
+            + "1. Stay in wasteland for next turn\n2. Distribute 25% of your resources to other players\n");
+    static final byte[] ECO_CITY_MENU = encode("This development requires spending the next turn in the wasteland.\n"
+            + "Do you want to proceed?\n1. Yes\n2. No\n");
+
+    static final byte[] ROLLED = encode(" rolled ");
+    static final byte[] AND = encode(" and ");
+    static final byte[] MOVED_TO = encode(" moved to ");
+    static final byte[] PASSED_GO = encode(" passed Sustainability Grant!\nGrant received: ");
+    static final byte[] RESOURCES = encode(" resources\n");
+    static final byte[] UNOWNED = encode("This property is unowned.\nCost to purchase: ");
+    static final byte[] CANNOT_AFFORD = encode("You don't have enough resources to purchase this property.\n");
+    static final byte[] PURCHASED = encode(" purchased ");
+    static final byte[] FOR = encode(" for ");
+    static final byte[] DECLINED = encode(" decided not to purchase ");
+    static final byte[] OWN_PROPERTY = encode("You own this property.\n");
+    static final byte[] PAID = encode(" paid ");
+    static final byte[] RESOURCES_TO = encode(" resources to ");
+    static final byte[] LANDED_ON_WASTELAND = encode(" landed on Wasteland\n");
+    static final byte[] NOTHING_HAPPENS = encode("Nothing happens this turn.\n");
+    static final byte[] WASTELAND_STAY = encode(" will spend next turn in wasteland.\n");
+    static final byte[] DISTRIBUTING = encode(" is distributing ");
+    static final byte[] WASTELAND_SKIP = encode(" is in wasteland and misses this turn.\n");
+    static final byte[] DEVELOPED = encode(" developed ");
+    static final byte[] TO_LEVEL = encode(" to level ");
+    static final byte[] CANNOT_DEVELOP = encode("Not enough resources to develop this property.\n");
+    static final byte[] DEVELOPMENT_CANCELLED = encode("Development cancelled.\n");
+    static final byte[] QUIT = encode(" has decided to quit the game.\n");
+    static final byte[] GAME_OVER = encode("\nOnly one player remains with resources. Game over!\n");
+    static final byte[] FINAL_RESULTS = encode("\n=== FINAL RESULTS ===\n");
+    static final byte[] NAME_END = encode(": ");
+
+    // Players of network games are named by their place in the turn order
+    private static final String[] PLAYER_NAMES = new String[GameConfig.MAX_PLAYERS];
+    private static final byte[][] PLAYER_NAME_BYTES = new byte[GameConfig.MAX_PLAYERS][];
+
+    static {
+        for (int i = 0; i < GameConfig.MAX_PLAYERS; i++) {
+            PLAYER_NAMES[i] = "Player " + (i + 1);
+            PLAYER_NAME_BYTES[i] = encode(PLAYER_NAMES[i]);
+        }
+    }
+
+    private byte[][] squareNames;
+    private byte[][] propertyNames;
+
+    /**
+     * Encodes the names on a board
+     * @param layout 
+     */
+    public PromptTemplates(BoardLayout layout) {
+        squareNames = new byte[layout.getSquareCount()][];
+        for (int i = 0; i < squareNames.length; i++) {
+            squareNames[i] = encode(layout.getSquareName(i));
+        }
+        propertyNames = new byte[layout.getPropertyCount()][];
+        for (int i = 0; i < propertyNames.length; i++) {
+            propertyNames[i] = encode(layout.getPropertyDefinition(i).getName());
+        }
+    }
+
+    /**
+     * Gets the name of a player in a network game
+     * @param index place in the turn order, starting from 0
+     * @return 
+     */
+    static String playerName(int index) {
+        return PLAYER_NAMES[index];
+    }
+
+    /**
+     * Gets the encoded name of a player in a network game
+     * @param player 
+     * @return 
+     */
+    static byte[] playerName(Player player) {
+        return PLAYER_NAME_BYTES[player.getPlayerIndex()];
+    }
+
+    /**
+     * Gets the encoded name of a square on the board
+     * @param position 
+     * @return 
+     */
+    byte[] squareName(int position) {
+        return squareNames[position];
+    }
+
+    /**
+     * Gets the encoded name of a property, encoding it on the spot for a property that is not on this board
+     * @param property 
+     * @return 
+     */
+    byte[] propertyName(PropertySquare property) {
+        int index = property.getDefinition().getPropertyIndex();
+        return (index >= 0 && index < propertyNames.length) ? propertyNames[index] : encode(property.getName());
+    }
+
+    /**
+     * Encodes text for a connection
+     * @param text 
+     * @return 
+     */
+    static byte[] encode(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
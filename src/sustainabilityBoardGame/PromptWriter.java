@@ -0,0 +1,86 @@
+package sustainabilityBoardGame;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Builds output for a connection in a reusable buffer from pre-encoded byte templates and numbers written digit by digit,
+ * so a response is put together without building any strings
+ * Each worker thread keeps one writer, the buffer grows if a response is ever bigger than it
+ */
+public class PromptWriter {
+
+    private static final int INITIAL_CAPACITY = 8192;
+
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(INITIAL_CAPACITY);
+    private byte[] digits = new byte[11];
+
+    /**
+     * Empties the buffer ready for a new response
+     */
+    public void clear() {
+        buffer.clear();
+    }
+
+    /**
+     * Adds pre-encoded bytes
+     * @param bytes 
+     * @return this writer
+     */
+    public PromptWriter put(byte[] bytes) {
+        ensureRemaining(bytes.length);
+        buffer.put(bytes);
+        return this;
+    }
+
+    /**
+     * Adds a number in decimal
+     * @param number 
+     * @return this writer
+     */
+    public PromptWriter putNumber(int number) {
+        long remaining = number;
+        boolean negative = remaining < 0;
+        if (negative) {
+            remaining = -remaining;
+        }
+        int start = digits.length;
+        do {
+            digits[--start] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        if (negative) {
+            digits[--start] = '-';
+        }
+        ensureRemaining(digits.length - start);
+        buffer.put(digits, start, digits.length - start);
+        return this;
+    }
+
+    /**
+     * Gets the buffer, flipped ready to be written to a channel
+     * @return 
+     */
+    public ByteBuffer flip() {
+        return buffer.flip();
+    }
+
+    /**
+     * Checks whether anything has been written since the buffer was cleared
+     * @return 
+     */
+    public boolean isEmpty() {
+        return buffer.position() == 0;
+    }
+
+    /**
+     * Makes sure the buffer has room for the given number of bytes, moving to a bigger buffer if not
+     * @param length 
+     */
+    private void ensureRemaining(int length) {
+        if (buffer.remaining() < length) {
+            ByteBuffer bigger = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, buffer.position() + length));
+            bigger.put(buffer.flip());
+            buffer = bigger;
+        }
+    }
+}
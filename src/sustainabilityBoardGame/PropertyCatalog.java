@@ -0,0 +1,88 @@
+package sustainabilityBoardGame;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The rules for every property type, the standard catalog holds the rules of the original game
+ * Board files may replace the rules of any type, see BoardLayout
+ */
+public class PropertyCatalog {
+
+    private static final PropertyCatalog STANDARD = createStandard();
+
+    private Map<PropertyType, PropertyRules> rules;
+
+    /**
+     * Creates a catalog from the rules for each type, types without rules cannot be used on a board
+     * @param rules 
+     */
+    public PropertyCatalog(Map<PropertyType, PropertyRules> rules) {
+        this.rules = new EnumMap<>(PropertyType.class);
+        this.rules.putAll(rules);
+    }
+
+    /**
+     * Gets the catalog of the original game
+     * @return 
+     */
+    public static PropertyCatalog standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Gets the rules for a property type
+     * @param type 
+     * @return 
+     */
+    public PropertyRules getRules(PropertyType type) {
+        PropertyRules typeRules = rules.get(type);
+        if (typeRules == null) {
+            throw new IllegalArgumentException("No rules for property type " + type);
+        }
+        return typeRules;
+    }
+
+    /**
+     * Creates a copy of this catalog with the rules for one type replaced
+     * @param type 
+     * @param typeRules 
+     * @return 
+     */
+    public PropertyCatalog withRules(PropertyType type, PropertyRules typeRules) {
+        PropertyCatalog copy = new PropertyCatalog(rules);
+        copy.rules.put(type, typeRules);
+        return copy;
+    }
+
+    /**
+     * Builds the rules of the original game
+     * Levels 0-3 have their own multipliers and every higher level uses the last value, eco city at level 2 has higher rent
+     * and marine energy has a lower third development cost
+     * @return 
+     */
+    private static PropertyCatalog createStandard() {
+        Map<PropertyType, PropertyRules> standard = new EnumMap<>(PropertyType.class);
+        standard.put(PropertyType.WASTE_MANAGEMENT, new PropertyRules(2,
+                new double[] {0.2, 0.5, 1.0, 1.5, 0.1},
+                new double[] {1.5, 2.0, 3.0, 1.0},
+                new String[] {"Composting Plant", "Incineration Plant", "Advanced Waste Management",
+                        "Waste Management Plant"}));
+        standard.put(PropertyType.MARINE_ENERGY, new PropertyRules(3,
+                new double[] {0.2, 0.5, 1.0, 1.5, 0.1},
+                new double[] {1.5, 2.0, 2.5, 1.0},
+                new String[] {"Tidal Wave Plant", "Offshore Wind Farm", "Wave Power System",
+                        "Integrated Marine Energy Hub", "Marine Renewable Energy Plant"}));
+        standard.put(PropertyType.LAND_ENERGY, new PropertyRules(3,
+                new double[] {0.2, 0.5, 1.0, 1.5, 0.1},
+                new double[] {1.5, 2.0, 3.0, 1.0},
+                new String[] {"Solar Farm", "Biomass Energy Plant", "Nuclear Power Plant", "Smart Grid System",
+                        "Land Based Renewable Energy Plant"}));
+        standard.put(PropertyType.ECO_CITY, new PropertyRules(2,
+                new double[] {0.2, 0.5, 2.0, 1.5, 0.1},
+                new double[] {1.5, 2.0, 3.0, 1.0},
+                new String[] {"Eco Housing", "Sustainable Transport Network", "Fully Integrated Smart City",
+                        "Eco City"}));
+        return new PropertyCatalog(standard);
+    }
+}
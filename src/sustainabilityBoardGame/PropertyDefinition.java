@@ -0,0 +1,106 @@
+package sustainabilityBoardGame;
+
+/**
+ * Everything about a property that stays the same for the whole game: its name, type, purchase cost, rules and rent tables
+ * Definitions are built once per board layout and shared by every game played on it, each game's PropertySquare
+ * only adds the owner, development level and investment
+ */
+public class PropertyDefinition {
+
+    private String name;
+    private PropertyType type;
+    private int purchaseCost;
+    private PropertyRules rules;
+    private PropertyEconomics economics;
+
+    // Where the property is in its layout, -1 for a property that is not part of a layout
+    private int position;
+    private int propertyIndex;
+
+    /**
+     * Creates a definition that is not part of a board layout
+     * @param name 
+     * @param purchaseCost 
+     * @param type 
+     * @param rules 
+     */
+    public PropertyDefinition(String name, int purchaseCost, PropertyType type, PropertyRules rules) {
+        this(name, purchaseCost, type, rules, -1, -1);
+    }
+
+    /**
+     * Creates the definition of a property in a board layout
+     * @param name 
+     * @param purchaseCost 
+     * @param type 
+     * @param rules 
+     * @param position 
+     * @param propertyIndex 
+     */
+    PropertyDefinition(String name, int purchaseCost, PropertyType type, PropertyRules rules, int position,
+            int propertyIndex) {
+        this.name = name;
+        this.purchaseCost = purchaseCost;
+        this.type = type;
+        this.rules = rules;
+        this.economics = new PropertyEconomics(rules, purchaseCost);
+        this.position = position;
+        this.propertyIndex = propertyIndex;
+    }
+
+    /**
+     * Gets the name of the property
+     * @return 
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the type of the property
+     * @return 
+     */
+    public PropertyType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the purchase cost of the property
+     * @return 
+     */
+    public int getPurchaseCost() {
+        return purchaseCost;
+    }
+
+    /**
+     * Gets the rules for the property's type
+     * @return 
+     */
+    public PropertyRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Gets the rent and development cost tables for the property
+     * @return 
+     */
+    public PropertyEconomics getEconomics() {
+        return economics;
+    }
+
+    /**
+     * Gets the position of the property on its board
+     * @return the position, or -1 if the property is not part of a board layout
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Gets the index of the property among the properties of its board, in board order
+     * @return the index, or -1 if the property is not part of a board layout
+     */
+    public int getPropertyIndex() {
+        return propertyIndex;
+    }
+}
@@ -15,48 +15,86 @@ public class PropertyDevelopmentHandler {
      * @param ui 
      */
     public static void developProperty(Player player, List<PropertySquare> developableProperties, UserInterface ui) {
-        System.out.println("\nSelect a property to develop:");
-
-        // Display all properties that can be developed
-        for (int i = 0; i < developableProperties.size(); i++) {
-            PropertySquare property = developableProperties.get(i);
-            System.out.println((i + 1) + ". " + property.getName() + " (Current Level: " + property.getDevelopmentLevel() +
-                ", Development Cost: " + property.getDevelopmentCost() + ")");
-        }
-
         // Get player's choice of which property to develop
-        int choice = ui.getPlayerChoice(developableProperties.size());
+        int choice = ui.choosePropertyToDevelop(player, developableProperties);
         PropertySquare propertyToDevelop = developableProperties.get(choice - 1);
 
-        int cost = propertyToDevelop.getDevelopmentCost();
-        if (player.getResources() >= cost) {
+        if (canDevelop(player, propertyToDevelop, ui)) {
             // Special case for Eco City final development, spending a turn in the wasteland
-            if (propertyToDevelop.getType() == PropertyType.ECO_CITY &&
-                propertyToDevelop.getDevelopmentLevel() == 1) {
-                System.out.println("This development requires spending the next turn in the wasteland.");
-                System.out.println("Do you want to proceed?");
-                System.out.println("1. Yes");
-                System.out.println("2. No");
-
-                int confirm = ui.getPlayerChoice(2);
-                if (confirm == 2) {
-                    System.out.println("Development cancelled.");
-                    return;
-                }
-
-                // Send player to wasteland as penalty for ECO_CITY final development
-                player.sendToWasteland();
+            if (requiresEcoCityConfirmation(propertyToDevelop)) {
+                resolveEcoCityConfirmation(player, propertyToDevelop,
+                        ui.confirmEcoCityDevelopment(player, propertyToDevelop), ui);
+            } else {
+                develop(player, propertyToDevelop, ui);
             }
+        }
+    }
+
+    /**
+     * Checks the player can afford to develop the chosen property, telling them if they cannot
+     * @param player 
+     * @param property 
+     * @param ui 
+     * @return 
+     */
+    static boolean canDevelop(Player player, PropertySquare property, UserInterface ui) {
+        if (player.getResources() >= property.getDevelopmentCost()) {
+            return true;
+        }
+        ui.displayInsufficientResourcesToDevelop();
+        return false;
+    }
+
+    /**
+     * Checks whether developing the property is the final Eco City development, which the player has to confirm
+     * @param property 
+     * @return 
+     */
+    static boolean requiresEcoCityConfirmation(PropertySquare property) {
+        return property.getType() == PropertyType.ECO_CITY && property.getDevelopmentLevel() == 1;
+    }
+
+    /**
+     * Carries out the player's answer to the Eco City confirmation
+     * @param player 
+     * @param property 
+     * @param confirmed 
+     * @param ui 
+     */
+    static void resolveEcoCityConfirmation(Player player, PropertySquare property, boolean confirmed, UserInterface ui) {
+        if (!confirmed) {
+            ui.displayDevelopmentCancelled();
+            return;
+        }
 
-            // Deduct resources and develop the property
-            player.removeResources(cost, "Development of " + propertyToDevelop.getName());
-            propertyToDevelop.develop();
+        // Send player to wasteland as penalty for ECO_CITY final development
+        player.sendToWasteland();
+        develop(player, property, ui);
+    }
 
-            System.out.println(player.getName() + " developed " + propertyToDevelop.getName() +
-                " to level " + propertyToDevelop.getDevelopmentLevel() +
-                " for " + cost + " resources");
-        } else {
-            System.out.println("Not enough resources to develop this property.");
+    /**
+     * Deducts the development cost and develops the property
+     * @param player 
+     * @param property 
+     * @param ui 
+     */
+    static void develop(Player player, PropertySquare property, UserInterface ui) {
+        DevelopmentFlightEvent event = DevelopmentFlightEvent.enabled() ? new DevelopmentFlightEvent() : null;
+        if (event != null) {
+            event.begin();
         }
+        int cost = property.getDevelopmentCost();
+        player.removeResources(cost, TransactionReason.DEVELOPMENT, property.getDefinition().getPropertyIndex());
+        property.develop();
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.set(player, property.getName(), cost);
+                event.level = property.getDevelopmentLevel();
+                event.commit();
+            }
+        }
+
+        ui.displayPropertyDeveloped(player, property, cost);
     }
 }
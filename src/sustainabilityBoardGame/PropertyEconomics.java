@@ -0,0 +1,74 @@
+package sustainabilityBoardGame;
+
+/**
+ * Precomputed rent, development cost and maximum development level for one set of property rules and purchase cost
+ * The multipliers are applied once when the tables are built, so looking up rent or development cost is a single array read
+ */
+public class PropertyEconomics {
+
+    private int maxDevelopmentLevel;
+    private int[] rentByLevel;
+    private int[] developmentCostByLevel;
+
+    /**
+     * Builds the tables for a property type of the standard catalog and a purchase cost
+     * @param type 
+     * @param purchaseCost 
+     */
+    public PropertyEconomics(PropertyType type, int purchaseCost) {
+        this(PropertyCatalog.standard().getRules(type), purchaseCost);
+    }
+
+    /**
+     * Builds the tables for a set of property rules and a purchase cost
+     * @param rules 
+     * @param purchaseCost 
+     */
+    public PropertyEconomics(PropertyRules rules, int purchaseCost) {
+        int tableLevels = rules.getTableLevels();
+        this.maxDevelopmentLevel = rules.getMaxDevelopmentLevel();
+        this.rentByLevel = new int[tableLevels];
+        this.developmentCostByLevel = new int[tableLevels];
+
+        for (int level = 0; level < tableLevels; level++) {
+            // Same truncation of the double result as the original per-call calculation
+            rentByLevel[level] = (int)(purchaseCost * rules.getRentMultiplier(level));
+            developmentCostByLevel[level] = (int)(purchaseCost * rules.getDevelopmentCostMultiplier(level));
+        }
+    }
+
+    /**
+     * Gets the highest level a property of this type can be developed to
+     * @return 
+     */
+    public int getMaxDevelopmentLevel() {
+        return maxDevelopmentLevel;
+    }
+
+    /**
+     * Gets the rent paid when landing on a property at the given development level
+     * @param developmentLevel 
+     * @return 
+     */
+    public int getRent(int developmentLevel) {
+        return rentByLevel[tableIndex(developmentLevel)];
+    }
+
+    /**
+     * Gets the cost of developing a property from the given level to the next one
+     * @param developmentLevel 
+     * @return 
+     */
+    public int getDevelopmentCost(int developmentLevel) {
+        return developmentCostByLevel[tableIndex(developmentLevel)];
+    }
+
+    /**
+     * Maps a development level to its table entry, levels past the table share the last (default) entry
+     * @param developmentLevel 
+     * @return 
+     */
+    private int tableIndex(int developmentLevel) {
+        return (developmentLevel < rentByLevel.length) ? developmentLevel : rentByLevel.length - 1;
+    }
+}
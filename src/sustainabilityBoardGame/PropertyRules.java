@@ -0,0 +1,78 @@
+package sustainabilityBoardGame;
+
+/**
+ * The rules for one type of property: how far it can be developed, its rent and development cost multipliers and the names of its levels
+ * Each list is by development level starting from 0, and every level past the end of a list uses the list's last entry
+ * Instances never change, so one set of rules is shared by every property of the type on every board
+ */
+public class PropertyRules {
+
+    private int maxDevelopmentLevel;
+    private double[] rentMultipliers;
+    private double[] developmentCostMultipliers;
+    private String[] levelNames;
+
+    /**
+     * Creates the rules for a property type
+     * @param maxDevelopmentLevel 
+     * @param rentMultipliers rent as a multiple of the purchase cost, by level
+     * @param developmentCostMultipliers cost of developing to the next level as a multiple of the purchase cost, by level
+     * @param levelNames 
+     */
+    public PropertyRules(int maxDevelopmentLevel, double[] rentMultipliers, double[] developmentCostMultipliers,
+            String[] levelNames) {
+        if (maxDevelopmentLevel < 0 || maxDevelopmentLevel > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Maximum development level must be between 0 and " + Byte.MAX_VALUE);
+        }
+        if (rentMultipliers.length == 0 || developmentCostMultipliers.length == 0 || levelNames.length == 0) {
+            throw new IllegalArgumentException("Rent multipliers, development cost multipliers and level names cannot be empty");
+        }
+        this.maxDevelopmentLevel = maxDevelopmentLevel;
+        this.rentMultipliers = rentMultipliers.clone();
+        this.developmentCostMultipliers = developmentCostMultipliers.clone();
+        this.levelNames = levelNames.clone();
+    }
+
+    /**
+     * Gets the highest level a property of this type can be developed to
+     * @return 
+     */
+    public int getMaxDevelopmentLevel() {
+        return maxDevelopmentLevel;
+    }
+
+    /**
+     * Gets the number of levels with their own multipliers, every level from here upwards uses the same values
+     * @return 
+     */
+    public int getTableLevels() {
+        return Math.max(rentMultipliers.length, developmentCostMultipliers.length);
+    }
+
+    /**
+     * Gets the rent multiplier at a development level
+     * @param developmentLevel 
+     * @return 
+     */
+    public double getRentMultiplier(int developmentLevel) {
+        return rentMultipliers[Math.min(developmentLevel, rentMultipliers.length - 1)];
+    }
+
+    /**
+     * Gets the multiplier for the cost of developing from a level to the next one
+     * @param developmentLevel 
+     * @return 
+     */
+    public double getDevelopmentCostMultiplier(int developmentLevel) {
+        return developmentCostMultipliers[Math.min(developmentLevel, developmentCostMultipliers.length - 1)];
+    }
+
+    /**
+     * Gets the name of the development at a level
+     * @param developmentLevel 
+     * @return 
+     */
+    public String getLevelName(int developmentLevel) {
+        return levelNames[Math.min(developmentLevel, levelNames.length - 1)];
+    }
+}
@@ -5,23 +5,45 @@ package sustainabilityBoardGame;
  */
 public class PropertySquare extends BoardSquare {
     
-    private int purchaseCost;
-    private PropertyType type;
+    // Name, type, purchase cost and rent tables, shared by every game played on the same board layout
+    private PropertyDefinition definition;
+    
+    // State of this property in one game
     private Player owner;
     private int developmentLevel;
     private int totalInvestment;
     
     /**
-     * Creates a new property square with the specified attributes
+     * Creates a new property square with the specified attributes and the standard rules for its type
      * 
      * @param name 
      * @param purchaseCost 
      * @param type 
      */
     public PropertySquare(String name, int purchaseCost, PropertyType type) {
-        super(name);
-        this.purchaseCost = purchaseCost;
-        this.type = type;
+        this(name, purchaseCost, type, PropertyCatalog.standard().getRules(type));
+    }
+    
+    /**
+     * Creates a new property square with the specified attributes and rules
+     * 
+     * @param name 
+     * @param purchaseCost 
+     * @param type 
+     * @param rules 
+     */
+    public PropertySquare(String name, int purchaseCost, PropertyType type, PropertyRules rules) {
+        this(new PropertyDefinition(name, purchaseCost, type, rules));
+    }
+    
+    /**
+     * Creates the state of a property for one game, the definition is shared and never copied
+     * 
+     * @param definition 
+     */
+    public PropertySquare(PropertyDefinition definition) {
+        super(definition.getName());
+        this.definition = definition;
         
         // Initialize with default values (unowned and undeveloped)
         this.owner = null;
@@ -29,13 +51,22 @@ public class PropertySquare extends BoardSquare {
         this.totalInvestment = 0;
     }
     
+    /**
+     * Returns the definition of this field, shared by every game on the same board layout
+     * 
+     * @return 
+     */
+    public PropertyDefinition getDefinition() {
+        return definition;
+    }
+    
     /**
      * Returns initial purchase cost of this field 
      * 
      * @return 
      */
     public int getPurchaseCost() {
-        return purchaseCost;
+        return definition.getPurchaseCost();
     }
     
     /**
@@ -44,7 +75,7 @@ public class PropertySquare extends BoardSquare {
      * @return 
      */
     public PropertyType getType() {
-        return type;
+        return definition.getType();
     }
     
     /**
@@ -57,13 +88,22 @@ public class PropertySquare extends BoardSquare {
     }
     
     /**
-     * Sets a new owner for this field and updates total investment
+     * Sets a new owner for this field, updates total investment and the owners' property lists and investment totals
      * 
      * @param owner 
      */
     public void setOwner(Player owner) {
+        // The previous owner loses the property and everything invested in it
+        if (this.owner != null) {
+            this.owner.removeOwnedProperty(this);
+            this.owner.addPropertyInvestment(-totalInvestment);
+        }
         this.owner = owner;
-        this.totalInvestment += purchaseCost; 
+        this.totalInvestment += definition.getPurchaseCost(); 
+        if (owner != null) {
+            owner.addOwnedProperty(this);
+            owner.addPropertyInvestment(totalInvestment);
+        }
     }
     
     /**
@@ -81,23 +121,7 @@ public class PropertySquare extends BoardSquare {
      * @return 
      */
     public boolean canBeDeveloped() {
-        int maxDevelopmentLevel;
-        
-        // Maximum development level depends on field type
-        switch (type) {
-            case WASTE_MANAGEMENT:
-            case ECO_CITY:
-                maxDevelopmentLevel = 2; 
-                break;
-            case MARINE_ENERGY:
-            case LAND_ENERGY:
-                maxDevelopmentLevel = 3; 
-                break;
-            default:
-                maxDevelopmentLevel = 0; 
-        }
-        
-        return developmentLevel < maxDevelopmentLevel;
+        return developmentLevel < definition.getEconomics().getMaxDevelopmentLevel();
     }
     
     /**
@@ -106,35 +130,42 @@ public class PropertySquare extends BoardSquare {
      * @return 
      */
     public int getDevelopmentCost() {
-        double multiplier;
-        
-        // Multiplier increases with each development level
-        switch (developmentLevel) {
-            case 0:
-                multiplier = 1.5; 
-                break;
-            case 1:
-                multiplier = 2.0; 
-                break;
-            case 2:
-                // Energy properties have a further cost as they have a higher final development level
-                multiplier = (type == PropertyType.MARINE_ENERGY ) ? 2.5 : 3.0;
-                break;
-            default:
-                multiplier = 1.0; 
-        }
-        
-        return (int)(purchaseCost * multiplier);
+        return definition.getEconomics().getDevelopmentCost(developmentLevel);
     }
     
     /**
-     * Develops this property to the next level and updates the total investment
+     * Develops this property to the next level and updates the total investment, including the owner's running total
      * Should only be called after checking can be developed method and ensuring the player has enough resources
      */
     public void develop() {
         int cost = getDevelopmentCost();
         developmentLevel++;
         totalInvestment += cost; 
+        if (owner != null) {
+            owner.addPropertyInvestment(cost);
+            owner.ownedPropertyDeveloped(this);
+        }
+    }
+    
+    /**
+     * Puts back the ownership and development of a saved game, without treating it as a purchase
+     * 
+     * @param owner the owner, or null if the property is unowned
+     * @param developmentLevel 
+     * @param totalInvestment 
+     */
+    void restore(Player owner, int developmentLevel, int totalInvestment) {
+        if (this.owner != null) {
+            this.owner.removeOwnedProperty(this);
+            this.owner.addPropertyInvestment(-this.totalInvestment);
+        }
+        this.owner = owner;
+        this.developmentLevel = developmentLevel;
+        this.totalInvestment = totalInvestment;
+        if (owner != null) {
+            owner.addOwnedProperty(this);
+            owner.addPropertyInvestment(totalInvestment);
+        }
     }
     
     /**
@@ -142,32 +173,7 @@ public class PropertySquare extends BoardSquare {
      * @return 
      */
     public int getRent() {
-        double rentMultiplier;
-        
-        // Rent multiplier increases with development level
-        switch (developmentLevel) {
-            case 0:
-                rentMultiplier = 0.2; 
-                break;
-            case 1:
-                rentMultiplier = 0.5; 
-                break;
-            case 2:
-                rentMultiplier = 1.0; 
-                break;
-            case 3:
-                rentMultiplier = 1.5; 
-                break;
-            default:
-                rentMultiplier = 0.1; 
-        }
-        
-        // Special case: eco city at level 2 has higher rent
-        if (type == PropertyType.ECO_CITY && developmentLevel == 2) {
-            return (int)(purchaseCost * 2.0); 
-        }
-        
-        return (int)(purchaseCost * rentMultiplier);
+        return definition.getEconomics().getRent(developmentLevel);
     }
     
     /**
@@ -185,39 +191,6 @@ public class PropertySquare extends BoardSquare {
      * @return 
      */
     public String getCurrentDevelopmentName() {
-        switch (type) {
-            case WASTE_MANAGEMENT:
-                switch (developmentLevel) {
-                    case 0: return "Composting Plant";
-                    case 1: return "Incineration Plant";
-                    case 2: return "Advanced Waste Management";
-                    default: return "Waste Management Plant";
-                }
-            case MARINE_ENERGY:
-                switch (developmentLevel) {
-                    case 0: return "Tidal Wave Plant";
-                    case 1: return "Offshore Wind Farm";
-                    case 2: return "Wave Power System";
-                    case 3: return "Integrated Marine Energy Hub";
-                    default: return "Marine Renewable Energy Plant";
-                }
-            case LAND_ENERGY:
-                switch (developmentLevel) {
-                    case 0: return "Solar Farm";
-                    case 1: return "Biomass Energy Plant";
-                    case 2: return "Nuclear Power Plant";
-                    case 3: return "Smart Grid System";
-                    default: return "Land Based Renewable Energy Plant";
-                }
-            case ECO_CITY:
-                switch (developmentLevel) {
-                    case 0: return "Eco Housing";
-                    case 1: return "Sustainable Transport Network";
-                    case 2: return "Fully Integrated Smart City";
-                    default: return "Eco City";
-                }
-            default:
-                return getName();
-        }
+        return definition.getRules().getLevelName(developmentLevel);
     }
 }
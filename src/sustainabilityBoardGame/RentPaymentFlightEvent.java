@@ -0,0 +1,32 @@
+package sustainabilityBoardGame;
+
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for rent paid on another player's property
+ */
+@Name("sustainabilityBoardGame.RentPayment")
+@Label("Rent Payment")
+@Description("Rent paid by the player landing on the property; the amount is what was actually paid")
+public class RentPaymentFlightEvent extends GameFlightEvent {
+
+    private static final EventType TYPE = EventType.getEventType(RentPaymentFlightEvent.class);
+
+    @Label("Owner")
+    String owner;
+
+    @Label("Partial")
+    @Description("The player could not pay the full rent and paid everything they had")
+    boolean partial;
+
+    /**
+     * Checks whether a recording has this event enabled, so the event is only created when it will be used
+     * @return 
+     */
+    static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
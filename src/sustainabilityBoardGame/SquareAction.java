@@ -0,0 +1,36 @@
+package sustainabilityBoardGame;
+
+/**
+ * Defines what happens when a player lands on a square, worked out once per square when the board is created
+ */
+public enum SquareAction {
+    /**
+     * Nothing happens on landing, such as on go, whose grant is paid while moving
+     */
+    NONE,
+    
+    /**
+     * The wasteland rules for wealthy players apply
+     */
+    WASTELAND,
+    
+    /**
+     * The property is offered for purchase, or rent is paid to its owner
+     */
+    PROPERTY;
+
+    /**
+     * Works out the action for a square
+     * @param square 
+     * @return 
+     */
+    public static SquareAction of(BoardSquare square) {
+        if (square instanceof PropertySquare) {
+            return PROPERTY;
+        }
+        if (square instanceof SpecialSquare && ((SpecialSquare) square).getType() == SpecialSquareType.WASTELAND) {
+            return WASTELAND;
+        }
+        return NONE;
+    }
+}
@@ -16,58 +16,93 @@ public class SquareActionHandler {
      */
     public static void handleSquareAction(Player player, BoardSquare square, GameBoard board,
             PlayerManager playerManager, UserInterface ui) {
-        if (square instanceof SpecialSquare) {
-            handleSpecialSquare(player, (SpecialSquare) square, playerManager, ui);
-        } else if (square instanceof PropertySquare) {
-            handlePropertySquare(player, (PropertySquare) square, ui);
+        handleSquareAction(player, SquareAction.of(square), square, board, playerManager, ui);
+    }
+
+    /**
+     * Handles actions for a square whose action has already been looked up in the board's movement table
+     * 
+     * @param player 
+     * @param action 
+     * @param square 
+     * @param board 
+     * @param playerManager 
+     * @param ui 
+     */
+    public static void handleSquareAction(Player player, SquareAction action, BoardSquare square, GameBoard board,
+            PlayerManager playerManager, UserInterface ui) {
+        switch (action) {
+            case WASTELAND:
+                handleWasteland(player, playerManager, ui);
+                break;
+            case PROPERTY:
+                handlePropertySquare(player, (PropertySquare) square, ui);
+                break;
+            default:
+                break;
         }
     }
 
     /**
-     * Handles actions when landing on a special square, only logic for wasteland
+     * Handles actions when landing on the wasteland
      * Go square effects are handled during movement in the main game loop
      * 
      * @param player 
-     * @param square 
      * @param playerManager 
      * @param ui 
      */
-    private static void handleSpecialSquare(Player player, SpecialSquare square, PlayerManager playerManager,
-            UserInterface ui) {
-        if (square.getType() == SpecialSquareType.WASTELAND) {
-            System.out.println(player.getName() + " landed on Wasteland");
-
-            // wasteland rules for wealthy players
-            if (player.isEligibleForWastelandChoice()) {
-                double avgResources = playerManager.getAverageResourcesExcludingPlayer(player);
-                
-                // If player has 50% more resources than average and hasn't recently had this choice
-                if (player.getResources() > avgResources * 1.5 && !player.hasRecentlyHadWastelandChoice()) {
-                    System.out.println("You have significantly more resources than others.");
-                    System.out.println("Options:");
-                    System.out.println("1. Stay in wasteland for next turn");
-                    System.out.println("2. Distribute 25% of your resources to other players");
-
-                    int choice = ui.getPlayerChoice(2);
-
-                    if (choice == 1) {
-                        player.sendToWasteland();
-                        System.out.println(player.getName() + " will spend next turn in wasteland.");
-                    } else {
-                        // Distribute 25% of resources to other players as a wealth redistribution mechanism
-                        playerManager.distributeResources(player);
-                    }
-
-                    // Flag to prevent this choice from being offered too frequently
-                    player.setHasRecentlyHadWastelandChoice(true);
-                } else {
-                    System.out.println("Nothing happens this turn.");
-                    player.setHasRecentlyHadWastelandChoice(false);
-                }
-            } else {
-                System.out.println("Nothing happens this turn.");
+    private static void handleWasteland(Player player, PlayerManager playerManager, UserInterface ui) {
+        if (landOnWasteland(player, playerManager, ui)) {
+            resolveWastelandChoice(player, ui.chooseToStayInWasteland(player), playerManager, ui);
+        }
+    }
+
+    /**
+     * Starts the wasteland rules for a player who has just landed there, used by the turn state machine to stop for the choice
+     * 
+     * @param player 
+     * @param playerManager 
+     * @param ui 
+     * @return true if the player now chooses between staying and distributing, false if nothing more happens
+     */
+    static boolean landOnWasteland(Player player, PlayerManager playerManager, UserInterface ui) {
+        ui.displayLandedOnWasteland(player);
+
+        // wasteland rules for wealthy players
+        if (player.isEligibleForWastelandChoice()) {
+            double avgResources = playerManager.getAverageResourcesExcludingPlayer(player);
+            
+            // If player has 50% more resources than average and hasn't recently had this choice
+            if (player.getResources() > avgResources * 1.5 && !player.hasRecentlyHadWastelandChoice()) {
+                return true;
             }
+            ui.displayNothingHappens();
+            player.setHasRecentlyHadWastelandChoice(false);
+        } else {
+            ui.displayNothingHappens();
+        }
+        return false;
+    }
+
+    /**
+     * Carries out a wealthy player's wasteland choice
+     * 
+     * @param player 
+     * @param stay true to stay in the wasteland for next turn, false to distribute 25% of resources
+     * @param playerManager 
+     * @param ui 
+     */
+    static void resolveWastelandChoice(Player player, boolean stay, PlayerManager playerManager, UserInterface ui) {
+        if (stay) {
+            player.sendToWasteland();
+            ui.displayWastelandStay(player);
+        } else {
+            // Distribute 25% of resources to other players as a wealth redistribution mechanism
+            playerManager.distributeResources(player);
         }
+
+        // Flag to prevent this choice from being offered too frequently
+        player.setHasRecentlyHadWastelandChoice(true);
     }
 
     /**
@@ -78,16 +113,59 @@ public class SquareActionHandler {
      * @param ui 
      */
     private static void handlePropertySquare(Player player, PropertySquare property, UserInterface ui) {
+        if (landOnProperty(player, property, ui)) {
+            resolvePurchase(player, property, ui.decidePurchase(player, property), ui);
+        }
+    }
+
+    /**
+     * Starts the actions for a property square, paying rent straight away if another player owns it
+     * 
+     * @param player 
+     * @param property 
+     * @param ui 
+     * @return true if the property is offered to the player and a purchase decision is needed
+     */
+    static boolean landOnProperty(Player player, PropertySquare property, UserInterface ui) {
         Player owner = property.getOwner();
 
         if (owner == null) {
             // Property is unowned - offer to purchase
-            ui.offerToPurchase(player, property);
+            ui.displayPurchaseOffer(property);
+            
+            // Check if player has enough resources to purchase
+            if (player.getResources() < property.getPurchaseCost()) {
+                ui.displayInsufficientResourcesToPurchase();
+                return false;
+            }
+            return true;
         } else if (owner != player) {
             // Property is owned by another player - pay rent
             payRent(player, property, ui);
         } else {
-            System.out.println("You own this property.");
+            ui.displayOwnProperty();
+        }
+        return false;
+    }
+
+    /**
+     * Carries out the player's decision on a property they were offered
+     * 
+     * @param player 
+     * @param property 
+     * @param purchase 
+     * @param ui 
+     */
+    static void resolvePurchase(Player player, PropertySquare property, boolean purchase, UserInterface ui) {
+        if (purchase) {
+            // Player decides to purchase the property
+            player.removeResources(property.getPurchaseCost(), TransactionReason.PURCHASE,
+                    property.getDefinition().getPropertyIndex());
+            property.setOwner(player);
+            ui.displayPurchase(player, property);
+        } else {
+            // Player decides not to purchase
+            ui.displayPurchaseDeclined(player, property);
         }
     }
 
@@ -106,18 +184,38 @@ public class SquareActionHandler {
 
         if (player.getResources() >= rent) {
             // Full payment
-            player.removeResources(rent, "Rent for " + property.getName());
-            owner.addResources(rent, "Rent from " + player.getName());
+            player.removeResources(rent, TransactionReason.RENT_PAID, property.getDefinition().getPropertyIndex());
+            owner.addResources(rent, TransactionReason.RENT_RECEIVED, player.getPlayerIndex());
             ui.displayRentPaid(player, owner, rent);
+            recordRent(player, property, rent, false);
         } else {
             // Partial payment (bankruptcy case)
             ui.displayInsufficientResources(player);
 
             int remainingResources = player.getResources();
-            player.removeResources(remainingResources, "Partial rent payment");
-            owner.addResources(remainingResources, "Partial rent from " + player.getName());
+            player.removeResources(remainingResources, TransactionReason.PARTIAL_RENT_PAID);
+            owner.addResources(remainingResources, TransactionReason.PARTIAL_RENT_RECEIVED, player.getPlayerIndex());
 
             ui.displayPartialPayment(player, owner, remainingResources);
+            recordRent(player, property, remainingResources, true);
+        }
+    }
+
+    /**
+     * Records a rent payment for the flight recorder, if a recording has rent payments enabled
+     * 
+     * @param player 
+     * @param property 
+     * @param amount 
+     * @param partial 
+     */
+    private static void recordRent(Player player, PropertySquare property, int amount, boolean partial) {
+        if (RentPaymentFlightEvent.enabled()) {
+            RentPaymentFlightEvent event = new RentPaymentFlightEvent();
+            event.set(player, property.getName(), amount);
+            event.owner = property.getOwner().getName();
+            event.partial = partial;
+            event.commit();
         }
     }
 }
@@ -12,7 +12,17 @@ public class SustainabilityBoardGame {
     private PlayerManager playerManager; 
     private GameState gameState;       
     private UserInterface ui;          
-    private Scanner scanner;           
+    private DiceStream diceStream;
+    private Scanner scanner;
+    
+    // Records every dice roll and decision, null when the game is not journaled
+    private GameJournal journal;           
+    
+    // Receives this game's latencies and event counts, null when the game is not measured
+    private EngineMetrics metrics;
+    
+    // Plays the turns, reading the components above whenever it needs them, created on first use
+    private TurnStateMachine turnStateMachine;
     
     /**
      * Application entry point, starts a new game
@@ -31,12 +41,47 @@ public class SustainabilityBoardGame {
     public SustainabilityBoardGame() {
         this.scanner = new Scanner(System.in);
         this.ui = new UserInterface(scanner);
+        this.diceStream = new DiceStream();
+    }
+    
+    /**
+     * Creates a game that talks to its players through the given user interface instead of the console,
+     * such as one session of the game server; players are entered through the ui when the game is initialized
+     * 
+     * @param ui 
+     * @param diceStream 
+     */
+    public SustainabilityBoardGame(UserInterface ui, DiceStream diceStream) {
+        this.ui = ui;
+        this.diceStream = diceStream;
+    }
+    
+    /**
+     * Creates a game from components that have already been set up, used by the headless engine
+     * where the players are added directly and decisions come from the ui's policy
+     * 
+     * @param ui 
+     * @param board 
+     * @param playerManager 
+     * @param diceStream dice for this game only, seeded when the game has to be reproducible
+     * @param turnLimit maximum number of turns, 0 for no limit
+     */
+    public SustainabilityBoardGame(UserInterface ui, GameBoard board, PlayerManager playerManager, DiceStream diceStream,
+            int turnLimit) {
+        this.ui = ui;
+        this.diceStream = diceStream;
+        this.board = board;
+        this.playerManager = playerManager;
+        playerManager.setBoardLayout(board.getLayout());
+        this.gameState = new GameState();
+        gameState.setTurnLimit(turnLimit);
+        gameState.setGameRunning(true);
     }
     
     /**
      * Initializes all game components before starting play
      */
-    private void initialize() {
+    void initialize() {
         ui.displayWelcomeMessage();
         ui.displayEfficiencyCalculation();
         
@@ -53,33 +98,9 @@ public class SustainabilityBoardGame {
     /**
      * Main game loop
      */
-    private void play() {
-        while (gameState.isGameRunning()) {
-            Player currentPlayer = playerManager.getCurrentPlayer();
-            
-            // Skip player's turn if they are in the wasteland 
-            if (currentPlayer.isInWasteland()) {
-                ui.displayWastelandSkipMessage(currentPlayer);
-                currentPlayer.leaveWasteland();  
-                playerManager.nextPlayer();
-                continue;  
-            }
-            
-            // Display current game status before player's turn
-            ui.displayGameStatus(board, playerManager.getPlayers());
-            
-            // Player chooses quit
-            if (!handlePlayerTurn(currentPlayer)) {
-                break; 
-            }
-            
-            // Check if game should end after this turn
-            checkGameEndConditions();
-            
-            // Move to next player if game is still running
-            if (gameState.isGameRunning()) {
-                playerManager.nextPlayer();
-            }
+    void play() {
+        while (playTurn()) {
+            // Each pass plays one turn
         }
         
         // Game has ended, display final results and statistics
@@ -87,110 +108,129 @@ public class SustainabilityBoardGame {
     }
     
     /**
-     * Handles a single player's turn, presenting options to the player and processing choice.
+     * Plays the current player's turn, if the game is still running and the turn limit has not been reached
+     * Saved games are taken between turns, so a restored game carries on from here
      * 
-     * @param player
-     * @return boolean 
+     * @return true if another turn can be played
      */
-    private boolean handlePlayerTurn(Player player) {
-        ui.displayPlayerTurn(player);
-        
-        // Get properties owned by the current player
-        List<PropertySquare> ownedProperties = board.getPlayerProperties(player);
-        
-        // Check if the player can develop any of their properties
-        boolean canDevelopAny = PropertyUtils.canDevelopAny(ownedProperties);
-        
-        // Get the player's choice for this turn
-        int choice = ui.getPlayerTurnChoice(canDevelopAny);
+    boolean playTurn() {
+        TurnStateMachine turnStateMachine = getTurnStateMachine();
+        TurnState state = turnStateMachine.beginTurn();
+        if (state == TurnState.GAME_OVER) {
+            return false;
+        }
         
-        // Process player's choice
-        switch (choice) {
-            case 1:
-                // Roll dice and move player
-                handleDiceRollAndMove(player);
-                return true;
-            case 2:
-                if (canDevelopAny) {
-                    // Develop a property if player has developable properties
-                    PropertyDevelopmentHandler.developProperty(player, ownedProperties, ui);
-                } else {
-                    // Option 2 is quit if player has no developable properties
-                    ui.displayQuitMessage(player);
-                    gameState.setGameRunning(false);
-                }
-                return true;
-            case 3:
-                if (canDevelopAny) {
-                    // Option 3 is quit if player has developable properties
-                    ui.displayQuitMessage(player);
-                    gameState.setGameRunning(false);
-                }
-                return true;
-            default:
-                return true;  // Continue game for any other input
+        // Ask the user interface for every decision the turn stops for
+        while (state.isAwaitingInput()) {
+            state = turnStateMachine.step(turnStateMachine.decide(ui));
         }
+        return true;
     }
     
     /**
-     * Handles the dice roll, player movement
+     * Gets the turn state machine that plays this game's turns, for callers that step the game themselves
+     * instead of calling play, such as a server running many games on one thread
      * 
-     * @param player 
+     * @return 
      */
-    private void handleDiceRollAndMove(Player player) {
-        int grantAmount;
-        // Roll dice and display result
-        DiceRoll diceRoll = new DiceRoll();
-        ui.displayDiceRoll(player, diceRoll);
-        
-        // Calculate new position
-        int oldPosition = player.getPosition();
-        int newPosition = (oldPosition + diceRoll.getTotal()) % GameConfig.TOTAL_SQUARES;
-        
-        // Check if player passes go
-        if (newPosition < oldPosition ) {
-            // Calculate efficiency score for bonus grant calculation
-            int efficiency = EfficiencyCalculator.calculateEfficiencyScore(player, board);
-            
-            
-            if (efficiency == 0) {
-            	//base grant amount if player has not purchased and fields
-                grantAmount = 100; 
-            } else {
-                // Grant amount increases with player's efficiency score
-                grantAmount = 100 + (efficiency * 5); 
-            }
-            
-            // Display message and add resources to player
-            ui.displayPassedGo(player, efficiency, grantAmount);
-            player.addResources(grantAmount, "Sustainability Grant");
+    public TurnStateMachine getTurnStateMachine() {
+        if (turnStateMachine == null) {
+            turnStateMachine = new TurnStateMachine(this);
         }
-        
-        // Update player position and notify
-        player.setPosition(newPosition);
-        ui.displayPlayerMovement(player, board.getSquareAt(newPosition));
-        
-        // Process actions for the square the player landed on
-        SquareActionHandler.handleSquareAction(player, board.getSquareAt(newPosition), board, playerManager, ui);
+        return turnStateMachine;
     }
     
     /**
-     * Checks if any game ending conditions have been met
+     * Sets the journal that records this game's dice rolls and decisions and stamps each turn onto its records, or null
+     * for none; decisions are recorded as the turn state machine is stepped, whichever front end steps it
+     * 
+     * @param journal 
      */
-    private void checkGameEndConditions() {
-        int playersWithResources = 0;
-        
-        // Count players who still have resources
-        for (Player player : playerManager.getPlayers()) {
-            if (player.getResources() > 0) {
-                playersWithResources++;
-            }
-        }
-        
-        // End game if only one or zero players have resources left
-        if (playersWithResources <= 1) {
-            ui.displayGameOver();
-            gameState.setGameRunning(false);
+    public void setJournal(GameJournal journal) {
+        this.journal = journal;
+    }
+    
+    /**
+     * Sets the metrics that time this game's turns and count its events, or null for none
+     * Metrics can be shared by any number of games
+     * 
+     * @param metrics 
+     */
+    public void setMetrics(EngineMetrics metrics) {
+        this.metrics = metrics;
+    }
+    
+    /**
+     * Adds the counts this game has not yet reported to its metrics, for a game that is abandoned before it ends
+     * Counts reach the shared metrics at sampled turns and when the game ends, so without this a game left part way
+     * through would never report the rest
+     */
+    public void flushMetrics() {
+        if (turnStateMachine != null) {
+            turnStateMachine.flushMetrics();
         }
     }
+    
+    /**
+     * Gets the state of the game, such as whether it is still running and how many turns have been played
+     * 
+     * @return 
+     */
+    GameState getGameState() {
+        return gameState;
+    }
+    
+    /**
+     * Gets the user interface that shows this game and, unless the game is stepped from outside, makes its decisions
+     * 
+     * @return 
+     */
+    UserInterface getUserInterface() {
+        return ui;
+    }
+    
+    /**
+     * Gets the journal this game records to, or null when it is not journaled
+     * 
+     * @return 
+     */
+    GameJournal getJournal() {
+        return journal;
+    }
+    
+    /**
+     * Gets the metrics this game reports to, or null when it is not measured
+     * 
+     * @return 
+     */
+    EngineMetrics getMetrics() {
+        return metrics;
+    }
+    
+    /**
+     * Gets the board this game is played on
+     * 
+     * @return 
+     */
+    GameBoard getBoard() {
+        return board;
+    }
+    
+    /**
+     * Gets the players of this game and whose turn it is
+     * 
+     * @return 
+     */
+    PlayerManager getPlayerManager() {
+        return playerManager;
+    }
+    
+    /**
+     * Gets the dice this game rolls
+     * 
+     * @return 
+     */
+    DiceStream getDiceStream() {
+        return diceStream;
+    }
 }
@@ -0,0 +1,149 @@
+package sustainabilityBoardGame;
+
+/**
+ * Aggregated results of many headless games, such as win rates, game lengths and efficiency scores per seat
+ * Results collected by different workers are combined with merge
+ */
+public class TournamentResult {
+
+    private long games;
+    private long completedGames;
+    private long totalTurns;
+    private int shortestGame;
+    private int longestGame;
+    private long[] wins;
+    private long[] efficiencyTotals;
+
+    /**
+     * Creates an empty result for games with the given number of players
+     * @param numPlayers 
+     */
+    public TournamentResult(int numPlayers) {
+        this.shortestGame = Integer.MAX_VALUE;
+        this.longestGame = 0;
+        this.wins = new long[numPlayers];
+        this.efficiencyTotals = new long[numPlayers];
+    }
+
+    /**
+     * Adds the result of a single game
+     * @param result 
+     */
+    public void record(GameResult result) {
+        games++;
+        if (result.isCompleted()) {
+            completedGames++;
+        }
+
+        int turns = result.getTurnsPlayed();
+        totalTurns += turns;
+        shortestGame = Math.min(shortestGame, turns);
+        longestGame = Math.max(longestGame, turns);
+
+        wins[result.getWinnerIndex()]++;
+        int[] efficiencyScores = result.getEfficiencyScores();
+        for (int i = 0; i < efficiencyScores.length; i++) {
+            efficiencyTotals[i] += efficiencyScores[i];
+        }
+    }
+
+    /**
+     * Adds all games from another result into this one
+     * @param other 
+     */
+    public void merge(TournamentResult other) {
+        games += other.games;
+        completedGames += other.completedGames;
+        totalTurns += other.totalTurns;
+        shortestGame = Math.min(shortestGame, other.shortestGame);
+        longestGame = Math.max(longestGame, other.longestGame);
+
+        for (int i = 0; i < wins.length; i++) {
+            wins[i] += other.wins[i];
+            efficiencyTotals[i] += other.efficiencyTotals[i];
+        }
+    }
+
+    /**
+     * Gets the number of games played
+     * @return 
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of games that ended by the normal rules rather than the turn limit
+     * @return 
+     */
+    public long getCompletedGames() {
+        return completedGames;
+    }
+
+    /**
+     * Gets the total number of turns played over all games
+     * @return 
+     */
+    public long getTotalTurns() {
+        return totalTurns;
+    }
+
+    /**
+     * Gets the average number of turns per game
+     * @return 
+     */
+    public double getAverageGameLength() {
+        return (games > 0) ? totalTurns / (double) games : 0;
+    }
+
+    /**
+     * Gets the length of the shortest game in turns
+     * @return 
+     */
+    public int getShortestGame() {
+        return (games > 0) ? shortestGame : 0;
+    }
+
+    /**
+     * Gets the length of the longest game in turns
+     * @return 
+     */
+    public int getLongestGame() {
+        return longestGame;
+    }
+
+    /**
+     * Gets the number of games won from a seat, seat 0 being the player who moves first
+     * @param seat 
+     * @return 
+     */
+    public long getWins(int seat) {
+        return wins[seat];
+    }
+
+    /**
+     * Gets the share of games won from a seat
+     * @param seat 
+     * @return 
+     */
+    public double getWinRate(int seat) {
+        return (games > 0) ? wins[seat] / (double) games : 0;
+    }
+
+    /**
+     * Gets the average final efficiency score of the player in a seat
+     * @param seat 
+     * @return 
+     */
+    public double getAverageEfficiency(int seat) {
+        return (games > 0) ? efficiencyTotals[seat] / (double) games : 0;
+    }
+
+    /**
+     * Gets the number of players in each game
+     * @return 
+     */
+    public int getNumPlayers() {
+        return wins.length;
+    }
+}
@@ -0,0 +1,119 @@
+package sustainabilityBoardGame;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Runs large numbers of headless games in parallel on a ForkJoinPool
+ * The games are split into batches, each batch plays on its own boards, players and dice streams and the batch results are merged at the end
+ */
+public class TournamentRunner {
+
+    // Number of games a single task plays before it stops splitting
+    private static final int BATCH_SIZE = 1024;
+
+    private Supplier<DecisionPolicy> policySupplier;
+    private int numPlayers;
+    private int turnLimit;
+    private int parallelism;
+
+    /**
+     * Creates a runner using all available processors
+     * @param policySupplier creates the policy for each batch, so policies with state are never shared between threads
+     * @param numPlayers 
+     * @param turnLimit maximum number of turns per game, 0 for no limit
+     */
+    public TournamentRunner(Supplier<DecisionPolicy> policySupplier, int numPlayers, int turnLimit) {
+        this(policySupplier, numPlayers, turnLimit, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a runner using the given number of worker threads
+     * @param policySupplier creates the policy for each batch, so policies with state are never shared between threads
+     * @param numPlayers 
+     * @param turnLimit maximum number of turns per game, 0 for no limit
+     * @param parallelism 
+     */
+    public TournamentRunner(Supplier<DecisionPolicy> policySupplier, int numPlayers, int turnLimit, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.policySupplier = policySupplier;
+        this.numPlayers = numPlayers;
+        this.turnLimit = turnLimit;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Plays the given number of games with a random seed and returns the merged results
+     * @param totalGames 
+     * @return 
+     */
+    public TournamentResult run(long totalGames) {
+        return run(totalGames, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Plays the given number of games and returns the merged results
+     * Every game's dice come from the seed and the game's index, so a run can be reproduced exactly with any parallelism
+     * @param totalGames 
+     * @param seed 
+     * @return 
+     */
+    public TournamentResult run(long totalGames, long seed) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new GameBatchTask(seed, 0, totalGames));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays a range of games, splitting it in half until it is small enough to play directly
+     */
+    private class GameBatchTask extends RecursiveTask<TournamentResult> {
+
+        private static final long serialVersionUID = 1L;
+
+        private long seed;
+        private long firstGame;
+        private long endGame;
+
+        GameBatchTask(long seed, long firstGame, long endGame) {
+            this.seed = seed;
+            this.firstGame = firstGame;
+            this.endGame = endGame;
+        }
+
+        @Override
+        protected TournamentResult compute() {
+            if (endGame - firstGame <= BATCH_SIZE) {
+                return playBatch();
+            }
+
+            long middle = firstGame + (endGame - firstGame) / 2;
+            GameBatchTask firstHalf = new GameBatchTask(seed, firstGame, middle);
+            firstHalf.fork();
+            TournamentResult result = new GameBatchTask(seed, middle, endGame).compute();
+            result.merge(firstHalf.join());
+            return result;
+        }
+
+        /**
+         * Plays every game in this range with its own game setup and policy
+         * @return 
+         */
+        private TournamentResult playBatch() {
+            HeadlessGame game = new HeadlessGame(policySupplier.get(), numPlayers, turnLimit);
+            TournamentResult result = new TournamentResult(numPlayers);
+
+            for (long i = firstGame; i < endGame; i++) {
+                result.record(game.play(DiceStream.forGame(seed, i)));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package sustainabilityBoardGame;
+
+/**
+ * A single change to a player's resources, passed to the game's event sink
+ */
+public class TransactionEvent {
+
+    /**
+     * Whether the player received or spent the resources
+     */
+    public enum Kind {
+        RECEIVED, SPENT
+    }
+
+    /**
+     * Counterparty index of transactions that have no other player or property involved
+     */
+    public static final int NO_COUNTERPARTY = -1;
+
+    private Kind kind;
+    private Player player;
+    private int amount;
+    private TransactionReason reasonCode;
+    private int counterparty;
+    private String reason;
+    private int newBalance;
+
+    /**
+     * Creates an event for a completed transaction with a reason given as text
+     * @param kind 
+     * @param player 
+     * @param amount 
+     * @param reason 
+     * @param newBalance the player's balance straight after the transaction
+     */
+    public TransactionEvent(Kind kind, Player player, int amount, String reason, int newBalance) {
+        this(kind, player, amount, TransactionReason.OTHER, NO_COUNTERPARTY, newBalance);
+        this.reason = reason;
+    }
+
+    /**
+     * Creates an event for a completed transaction with a reason code, the readable reason is only built if it is asked for
+     * @param kind 
+     * @param player 
+     * @param amount 
+     * @param reasonCode 
+     * @param counterparty index of the other player or property involved, or NO_COUNTERPARTY
+     * @param newBalance the player's balance straight after the transaction
+     */
+    public TransactionEvent(Kind kind, Player player, int amount, TransactionReason reasonCode, int counterparty,
+            int newBalance) {
+        this.kind = kind;
+        this.player = player;
+        this.amount = amount;
+        this.reasonCode = reasonCode;
+        this.counterparty = counterparty;
+        this.newBalance = newBalance;
+    }
+
+    /**
+     * Gets whether the resources were received or spent
+     * @return 
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the player whose resources changed
+     * @return 
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the amount received or spent
+     * @return 
+     */
+    public int getAmount() {
+        return amount;
+    }
+
+    /**
+     * Gets the reason code of the transaction, OTHER when the reason was given as text
+     * @return 
+     */
+    public TransactionReason getReasonCode() {
+        return reasonCode;
+    }
+
+    /**
+     * Gets the index of the other player or property involved, NO_COUNTERPARTY if there is none
+     * Player indexes are turn order positions and property indexes are positions in the board layout's property list
+     * @return 
+     */
+    public int getCounterparty() {
+        return counterparty;
+    }
+
+    /**
+     * Gets the readable reason for the transaction, built from the reason code the first time it is asked for
+     * @return 
+     */
+    public String getReason() {
+        if (reason == null) {
+            reason = reasonCode.describe(player, counterparty);
+        }
+        return reason;
+    }
+
+    /**
+     * Gets the player's balance straight after the transaction
+     * @return 
+     */
+    public int getNewBalance() {
+        return newBalance;
+    }
+}
@@ -0,0 +1,124 @@
+package sustainabilityBoardGame;
+
+/**
+ * Why a player's resources changed, passed with a counterparty index instead of a reason built for every transaction
+ * The text is only put together when a sink asks for it, so games without output build no strings at all
+ */
+public enum TransactionReason {
+    /**
+     * Grant paid when passing go
+     */
+    SUSTAINABILITY_GRANT("Sustainability Grant", Counterparty.NONE),
+    
+    /**
+     * Purchase of the property whose index is the counterparty
+     */
+    PURCHASE("Purchase of ", Counterparty.PROPERTY),
+    
+    /**
+     * Development of the property whose index is the counterparty
+     */
+    DEVELOPMENT("Development of ", Counterparty.PROPERTY),
+    
+    /**
+     * Rent paid for landing on the property whose index is the counterparty
+     */
+    RENT_PAID("Rent for ", Counterparty.PROPERTY),
+    
+    /**
+     * Rent received from the player whose index is the counterparty
+     */
+    RENT_RECEIVED("Rent from ", Counterparty.PLAYER),
+    
+    /**
+     * Everything a player had left paid towards rent they could not afford
+     */
+    PARTIAL_RENT_PAID("Partial rent payment", Counterparty.NONE),
+    
+    /**
+     * Partial rent received from the player whose index is the counterparty
+     */
+    PARTIAL_RENT_RECEIVED("Partial rent from ", Counterparty.PLAYER),
+    
+    /**
+     * A quarter of the player's resources given away on the wasteland
+     */
+    DISTRIBUTION("Resource distribution", Counterparty.NONE),
+    
+    /**
+     * Share received from the wasteland distribution of the player whose index is the counterparty
+     */
+    DISTRIBUTION_RECEIVED("Distribution from ", Counterparty.PLAYER),
+    
+    /**
+     * Any other reason, given as text when the transaction was made
+     */
+    OTHER("", Counterparty.NONE);
+
+    /**
+     * What the counterparty index of a transaction refers to
+     */
+    enum Counterparty {
+        NONE, PLAYER, PROPERTY
+    }
+
+    private String text;
+    private Counterparty counterparty;
+
+    TransactionReason(String text, Counterparty counterparty) {
+        this.text = text;
+        this.counterparty = counterparty;
+    }
+
+    /**
+     * Gets what the counterparty index refers to for this reason
+     * @return 
+     */
+    Counterparty getCounterparty() {
+        return counterparty;
+    }
+
+    /**
+     * Builds the readable reason for a transaction, looking up the counterparty's name in the player's game
+     * @param player the player whose resources changed
+     * @param counterparty index of the other player or property, ignored for reasons without one
+     * @return 
+     */
+    String describe(Player player, int counterparty) {
+        switch (this.counterparty) {
+            case PLAYER:
+                return text + playerName(player.getPlayerManager(), counterparty);
+            case PROPERTY:
+                return text + propertyName(player.getPlayerManager(), counterparty);
+            default:
+                return text;
+        }
+    }
+
+    /**
+     * Gets the name of a player in the game, or a description of the index if the player cannot be found
+     * @param playerManager 
+     * @param index 
+     * @return 
+     */
+    private static String playerName(PlayerManager playerManager, int index) {
+        if (playerManager != null && index >= 0 && index < playerManager.getPlayers().size()) {
+            return playerManager.getPlayers().get(index).getName();
+        }
+        return "player " + index;
+    }
+
+    /**
+     * Gets the name of a property on the game's board, or a description of the index if the property cannot be found
+     * @param playerManager 
+     * @param index 
+     * @return 
+     */
+    private static String propertyName(PlayerManager playerManager, int index) {
+        BoardLayout layout = (playerManager != null) ? playerManager.getBoardLayout() : null;
+        if (layout != null && index >= 0 && index < layout.getPropertyCount()) {
+            return layout.getPropertyDefinition(index).getName();
+        }
+        return "property " + index;
+    }
+}
@@ -0,0 +1,36 @@
+package sustainabilityBoardGame;
+
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for a whole turn, from its start until it resolves
+ * A stepped game waits for its player inside the turn, so for games played over a connection this includes think time
+ */
+@Name("sustainabilityBoardGame.Turn")
+@Label("Turn")
+@Description("A player's turn; the square is where it ended and the amount is the change in the player's resources")
+public class TurnFlightEvent extends GameFlightEvent {
+
+    private static final EventType TYPE = EventType.getEventType(TurnFlightEvent.class);
+
+    @Label("Turn Number")
+    int turn;
+
+    @Label("Skipped")
+    @Description("The player was in the wasteland and missed the turn")
+    boolean skipped;
+
+    // Resources when the turn started, not recorded
+    transient int startResources;
+
+    /**
+     * Checks whether a recording has this event enabled, so the event is only created when it will be used
+     * @return 
+     */
+    static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
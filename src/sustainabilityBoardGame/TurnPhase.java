@@ -0,0 +1,32 @@
+package sustainabilityBoardGame;
+
+/**
+ * Enum for the parts of a turn whose latency is measured by EngineMetrics
+ */
+public enum TurnPhase {
+
+    // Rolling the dice and showing the roll
+    DICE_ROLL("dice roll"),
+    // Looking up the move, paying any sustainability grant and moving the player
+    MOVE("move"),
+    // Carrying out the square landed on, up to any decision the player has to make
+    SQUARE_RESOLUTION("square resolution"),
+    // Developing a property once it has been chosen
+    DEVELOPMENT("development"),
+    // Showing the game status and the start of the turn
+    RENDER("render");
+
+    private final String label;
+
+    TurnPhase(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets the name of the phase as it appears in metric dumps
+     * @return 
+     */
+    public String getLabel() {
+        return label;
+    }
+}
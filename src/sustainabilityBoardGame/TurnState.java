@@ -0,0 +1,50 @@
+package sustainabilityBoardGame;
+
+/**
+ * Where a turn has got to, either waiting for the current player's input or finished
+ * Each waiting state is answered with a numbered choice, using the same numbering as the console menus
+ */
+public enum TurnState {
+    /**
+     * Waiting for the turn option: 1 roll dice, 2 develop a property (or quit if nothing can be developed), 3 quit
+     */
+    AWAITING_TURN_CHOICE,
+    
+    /**
+     * Waiting for the position of the owned property to develop, starting from 1
+     */
+    AWAITING_DEVELOPMENT_CHOICE,
+    
+    /**
+     * Waiting for the decision on an unowned property the player can afford: 1 buy, 2 decline
+     */
+    AWAITING_PURCHASE_DECISION,
+    
+    /**
+     * Waiting for a wealthy player's wasteland choice: 1 stay in the wasteland, 2 distribute 25% of resources
+     */
+    AWAITING_WASTELAND_CHOICE,
+    
+    /**
+     * Waiting for confirmation of the final Eco City development: 1 develop and lose next turn, 2 cancel
+     */
+    AWAITING_ECO_CITY_CONFIRMATION,
+    
+    /**
+     * The turn is finished and the next one can begin
+     */
+    RESOLVED,
+    
+    /**
+     * The game has ended, no more turns can be played
+     */
+    GAME_OVER;
+
+    /**
+     * Checks whether the turn is waiting for the player's input
+     * @return 
+     */
+    public boolean isAwaitingInput() {
+        return this != RESOLVED && this != GAME_OVER;
+    }
+}
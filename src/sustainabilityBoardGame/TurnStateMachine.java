@@ -0,0 +1,561 @@
+package sustainabilityBoardGame;
+
+import java.util.List;
+
+/**
+ * Plays a game's turns one step at a time, stopping whenever the current player has to make a decision
+ * Nothing here waits for input, so a single thread can keep many games going and step each one as its player answers
+ * The blocking game loop drives the same machine, asking the user interface for each decision
+ */
+public class TurnStateMachine {
+
+    private SustainabilityBoardGame game;
+    private TurnState state = TurnState.RESOLVED;
+
+    // The player whose turn it is, their properties at the start of the turn and the property the current prompt is about
+    private Player player;
+    private List<PropertySquare> ownedProperties;
+    private boolean canDevelopAny;
+    private PropertySquare property;
+
+    // Counts this game's events for its metrics, null when the game is not measured, and whether this turn is timed
+    private EngineMetrics.GameRecorder recorder;
+    private boolean timed;
+
+    // Flight recorder event for the current turn, null unless a recording has turns enabled
+    private TurnFlightEvent turnEvent;
+
+    /**
+     * Creates the machine for a game whose board, players and state have already been set up
+     * @param game 
+     */
+    TurnStateMachine(SustainabilityBoardGame game) {
+        this.game = game;
+    }
+
+    /**
+     * Gets where the current turn has got to
+     * @return 
+     */
+    public TurnState getState() {
+        return state;
+    }
+
+    /**
+     * Starts the next turn and plays it up to the first decision
+     * A player in the wasteland misses the turn, which then resolves straight away
+     * @return the state the turn is now in, GAME_OVER if the game has ended or reached its turn limit
+     */
+    public TurnState beginTurn() {
+        if (state.isAwaitingInput()) {
+            throw new IllegalStateException("The current turn is still waiting for input: " + state);
+        }
+        GameState gameState = game.getGameState();
+        if (!gameState.isGameRunning() || gameState.isTurnLimitReached()) {
+            return setState(TurnState.GAME_OVER);
+        }
+
+        PlayerManager playerManager = game.getPlayerManager();
+        UserInterface ui = game.getUserInterface();
+        player = playerManager.getCurrentPlayer();
+        property = null;
+        gameState.incrementTurnsPlayed();
+        GameJournal journal = game.getJournal();
+        if (journal != null) {
+            journal.beginTurn(gameState.getTurnsPlayed(), playerManager.getCurrentPlayerIndex());
+        }
+        startMetrics();
+        startTurnEvent(gameState.getTurnsPlayed());
+
+        // Skip player's turn if they are in the wasteland
+        if (player.isInWasteland()) {
+            ui.displayWastelandSkipMessage(player);
+            player.leaveWasteland();
+            commitTurnEvent(true);
+            playerManager.nextPlayer();
+            return setState(gameState.isTurnLimitReached() ? TurnState.GAME_OVER : TurnState.RESOLVED);
+        }
+
+        // Display current game status before player's turn
+        long start = startTiming();
+        ui.displayGameStatus(game.getBoard(), playerManager.getPlayers());
+        ui.displayPlayerTurn(player);
+        endTiming(TurnPhase.RENDER, start);
+
+        // Properties owned by the current player, and whether any can be developed from the player's developable mask
+        ownedProperties = game.getBoard().getPlayerProperties(player);
+        canDevelopAny = player.canDevelopAny();
+        return setState(TurnState.AWAITING_TURN_CHOICE);
+    }
+
+    /**
+     * Answers the current prompt and plays the turn on to the next decision or to its end
+     * @param input the numbered choice, see TurnState for the numbering of each prompt
+     * @return the state the turn is now in
+     * @throws IllegalArgumentException if the input is not one of the prompt's options, the prompt is then still waiting
+     */
+    public TurnState step(int input) {
+        if (!state.isAwaitingInput()) {
+            throw new IllegalStateException("The turn is not waiting for input: " + state);
+        }
+        UserInterface ui = game.getUserInterface();
+
+        switch (state) {
+            case AWAITING_TURN_CHOICE:
+                recordDecision(JournalRecordType.TURN_CHOICE, checkChoice(input));
+                return chooseTurnOption(input);
+            case AWAITING_DEVELOPMENT_CHOICE:
+                recordDecision(JournalRecordType.DEVELOP, checkChoice(input));
+                property = ownedProperties.get(input - 1);
+                if (!PropertyDevelopmentHandler.canDevelop(player, property, ui)) {
+                    return finishTurn();
+                }
+                if (PropertyDevelopmentHandler.requiresEcoCityConfirmation(property)) {
+                    return setState(TurnState.AWAITING_ECO_CITY_CONFIRMATION);
+                }
+                long start = startTiming();
+                PropertyDevelopmentHandler.develop(player, property, ui);
+                endTiming(TurnPhase.DEVELOPMENT, start);
+                count(EngineCounter.DEVELOPMENTS, 1);
+                return finishTurn();
+            case AWAITING_PURCHASE_DECISION:
+                boolean purchase = checkChoice(input) == 1;
+                recordDecision(JournalRecordType.PURCHASE, purchase ? 1 : 0);
+                SquareActionHandler.resolvePurchase(player, property, purchase, ui);
+                if (property.getOwner() == player) {
+                    count(EngineCounter.PURCHASES, 1);
+                }
+                return finishTurn();
+            case AWAITING_WASTELAND_CHOICE:
+                boolean stay = checkChoice(input) == 1;
+                recordDecision(JournalRecordType.WASTELAND_CHOICE, stay ? 1 : 0);
+                SquareActionHandler.resolveWastelandChoice(player, stay, game.getPlayerManager(), ui);
+                return finishTurn();
+            case AWAITING_ECO_CITY_CONFIRMATION:
+                boolean confirmed = checkChoice(input) == 1;
+                recordDecision(JournalRecordType.ECO_CITY_CONFIRM, confirmed ? 1 : 0);
+                start = startTiming();
+                PropertyDevelopmentHandler.resolveEcoCityConfirmation(player, property, confirmed, ui);
+                if (confirmed) {
+                    endTiming(TurnPhase.DEVELOPMENT, start);
+                    count(EngineCounter.DEVELOPMENTS, 1);
+                }
+                return finishTurn();
+            default:
+                throw new IllegalStateException("Unexpected turn state: " + state);
+        }
+    }
+
+    /**
+     * Asks a decision policy, such as the console user interface, to answer the current prompt
+     * @param policy 
+     * @return the policy's answer as a numbered choice for step
+     */
+    public int decide(DecisionPolicy policy) {
+        switch (state) {
+            case AWAITING_TURN_CHOICE:
+                return policy.chooseTurnOption(player, ownedProperties, canDevelopAny);
+            case AWAITING_DEVELOPMENT_CHOICE:
+                return policy.choosePropertyToDevelop(player, ownedProperties);
+            case AWAITING_PURCHASE_DECISION:
+                return policy.decidePurchase(player, property) ? 1 : 2;
+            case AWAITING_WASTELAND_CHOICE:
+                return policy.chooseToStayInWasteland(player) ? 1 : 2;
+            case AWAITING_ECO_CITY_CONFIRMATION:
+                return policy.confirmEcoCityDevelopment(player, property) ? 1 : 2;
+            default:
+                throw new IllegalStateException("The turn is not waiting for input: " + state);
+        }
+    }
+
+    /**
+     * Gets the number of choices the current prompt accepts, numbered from 1
+     * @return the number of choices, or 0 when the turn is not waiting for input
+     */
+    public int getOptionCount() {
+        switch (state) {
+            case AWAITING_TURN_CHOICE:
+                return canDevelopAny ? 3 : 2;
+            case AWAITING_DEVELOPMENT_CHOICE:
+                return ownedProperties.size();
+            case AWAITING_PURCHASE_DECISION:
+            case AWAITING_WASTELAND_CHOICE:
+            case AWAITING_ECO_CITY_CONFIRMATION:
+                return 2;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Builds the menu for the current prompt, worded as the console game asks it
+     * @return the menu, or an empty string when the turn is not waiting for input
+     */
+    public String getPromptText() {
+        StringBuilder text = new StringBuilder();
+        switch (state) {
+            case AWAITING_TURN_CHOICE:
+                text.append("Options:\n1. Roll dice\n");
+                if (canDevelopAny) {
+                    text.append("2. Develop a property\n3. Quit game\n");
+                } else {
+                    text.append("2. Quit game\n");
+                }
+                break;
+            case AWAITING_DEVELOPMENT_CHOICE:
+                text.append("Select a property to develop:\n");
+                for (int i = 0; i < ownedProperties.size(); i++) {
+                    PropertySquare owned = ownedProperties.get(i);
+                    text.append(i + 1).append(". ").append(owned.getName()).append(" (Current Level: ")
+                            .append(owned.getDevelopmentLevel()).append(", Development Cost: ")
+                            .append(owned.getDevelopmentCost()).append(")\n");
+                }
+                break;
+            case AWAITING_PURCHASE_DECISION:
+                text.append("Would you like to purchase it?\n1. Yes\n2. No\n");
+                break;
+            case AWAITING_WASTELAND_CHOICE:
+                text.append("You have significantly more resources than others.\nOptions:\n")
+                        .append("1. Stay in wasteland for next turn\n2. Distribute 25% of your resources to other players\n");
+                break;
+            case AWAITING_ECO_CITY_CONFIRMATION:
+                text.append("This development requires spending the next turn in the wasteland.\n")
+                        .append("Do you want to proceed?\n1. Yes\n2. No\n");
+                break;
+            default:
+                break;
+        }
+        return text.toString();
+    }
+
+    /**
+     * Gets the player whose turn it is, or who last had a turn once it has resolved
+     * @return 
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the property the current prompt is about, the one offered for purchase or chosen for development
+     * @return the property, or null if the prompt is not about one
+     */
+    public PropertySquare getProperty() {
+        return property;
+    }
+
+    /**
+     * Gets the properties the current player owned at the start of the turn, in the order they are numbered for development
+     * @return 
+     */
+    public List<PropertySquare> getOwnedProperties() {
+        return ownedProperties;
+    }
+
+    /**
+     * Carries out the turn option, stopping again if it leads to another decision
+     * @param choice one of the menu's options, already checked by step
+     * @return 
+     */
+    private TurnState chooseTurnOption(int choice) {
+        switch (choice) {
+            case 1:
+                // Roll dice and move player
+                return rollAndMove();
+            case 2:
+                if (canDevelopAny) {
+                    // Develop a property if player has developable properties
+                    return setState(TurnState.AWAITING_DEVELOPMENT_CHOICE);
+                }
+                // Option 2 is quit if player has no developable properties
+                quit();
+                return finishTurn();
+            default:
+                // Option 3 is quit, only offered when the player has developable properties
+                quit();
+                return finishTurn();
+        }
+    }
+
+    /**
+     * Rolls the dice, moves the player and starts the actions for the square they land on
+     * @return 
+     */
+    private TurnState rollAndMove() {
+        GameBoard board = game.getBoard();
+        UserInterface ui = game.getUserInterface();
+
+        // Roll dice as a packed int so no object is created each move, and display result
+        long start = startTiming();
+        DiceRollFlightEvent rollEvent = DiceRollFlightEvent.enabled() ? new DiceRollFlightEvent() : null;
+        if (rollEvent != null) {
+            rollEvent.begin();
+        }
+        int roll = game.getDiceStream().roll();
+        ui.displayDiceRoll(player, roll);
+        GameJournal journal = game.getJournal();
+        if (journal != null) {
+            journal.record(JournalRecordType.DICE_ROLL, roll, player.getResources());
+        }
+        if (rollEvent != null) {
+            rollEvent.end();
+            if (rollEvent.shouldCommit()) {
+                rollEvent.set(player, board.getSquareAt(player.getPosition()).getName(), DiceRoll.total(roll));
+                rollEvent.dice1 = DiceRoll.dice1(roll);
+                rollEvent.dice2 = DiceRoll.dice2(roll);
+                rollEvent.commit();
+            }
+        }
+        start = endTiming(TurnPhase.DICE_ROLL, start);
+
+        // Look up the move, which gives the new position, whether go was passed and what happens on landing
+        int move = board.getMovementTable().getMove(player.getPosition(), DiceRoll.total(roll));
+        int newPosition = MovementTable.destination(move);
+
+        // Check if player passes go
+        if (MovementTable.passedGo(move)) {
+            // Calculate efficiency score for bonus grant calculation
+            int efficiency = EfficiencyCalculator.calculateEfficiencyScore(player, board);
+            int grantAmount;
+
+            if (efficiency == 0) {
+                //base grant amount if player has not purchased and fields
+                grantAmount = 100;
+            } else {
+                // Grant amount increases with player's efficiency score
+                grantAmount = 100 + (efficiency * 5);
+            }
+
+            // Display message and add resources to player
+            ui.displayPassedGo(player, efficiency, grantAmount);
+            player.addResources(grantAmount, TransactionReason.SUSTAINABILITY_GRANT);
+        }
+
+        // Update player position and notify
+        BoardSquare square = board.getSquareAt(newPosition);
+        player.setPosition(newPosition);
+        ui.displayPlayerMovement(player, square);
+        start = endTiming(TurnPhase.MOVE, start);
+
+        // Process actions for the square the player landed on, stopping if the player has a decision to make
+        return resolveSquare(MovementTable.action(move), square, start);
+    }
+
+    /**
+     * Carries out the square the player has landed on, up to any decision they have to make
+     * @param action 
+     * @param square 
+     * @param start the time the square was reached, from startTiming
+     * @return 
+     */
+    private TurnState resolveSquare(SquareAction action, BoardSquare square, long start) {
+        UserInterface ui = game.getUserInterface();
+        TurnState decision = null;
+        switch (action) {
+            case WASTELAND:
+                count(EngineCounter.WASTELAND_LANDINGS, 1);
+                if (SquareActionHandler.landOnWasteland(player, game.getPlayerManager(), ui)) {
+                    decision = TurnState.AWAITING_WASTELAND_CHOICE;
+                }
+                break;
+            case PROPERTY:
+                if (landOnProperty((PropertySquare) square, ui)) {
+                    property = (PropertySquare) square;
+                    decision = TurnState.AWAITING_PURCHASE_DECISION;
+                }
+                break;
+            default:
+                break;
+        }
+        endTiming(TurnPhase.SQUARE_RESOLUTION, start);
+        return (decision != null) ? setState(decision) : finishTurn();
+    }
+
+    /**
+     * Carries out a property square, counting any rent paid when the game has metrics
+     * @param landedOn 
+     * @param ui 
+     * @return true if the property is offered to the player
+     */
+    private boolean landOnProperty(PropertySquare landedOn, UserInterface ui) {
+        if (recorder == null) {
+            return SquareActionHandler.landOnProperty(player, landedOn, ui);
+        }
+        Player owner = landedOn.getOwner();
+        int resourcesBefore = player.getResources();
+        boolean offered = SquareActionHandler.landOnProperty(player, landedOn, ui);
+        if (owner != null && owner != player) {
+            count(EngineCounter.RENT_PAYMENTS, 1);
+            count(EngineCounter.RENT_PAID, resourcesBefore - player.getResources());
+        }
+        return offered;
+    }
+
+    /**
+     * Ends the game at the current player's request
+     */
+    private void quit() {
+        game.getUserInterface().displayQuitMessage(player);
+        game.getGameState().setGameRunning(false);
+    }
+
+    /**
+     * Checks whether the game has ended and passes the turn on to the next player if it has not
+     * @return 
+     */
+    private TurnState finishTurn() {
+        GameState gameState = game.getGameState();
+
+        // End game if only one or zero players have resources left, the count is kept up to date by the player manager
+        if (game.getPlayerManager().getSolventPlayerCount() <= 1) {
+            game.getUserInterface().displayGameOver();
+            gameState.setGameRunning(false);
+        }
+
+        commitTurnEvent(false);
+
+        // Move to next player if game is still running
+        if (gameState.isGameRunning()) {
+            game.getPlayerManager().nextPlayer();
+        }
+        return setState((gameState.isGameRunning() && !gameState.isTurnLimitReached())
+                ? TurnState.RESOLVED : TurnState.GAME_OVER);
+    }
+
+    /**
+     * Records a decision in the game's journal, if it has one, before the decision takes effect
+     * Decisions are recorded here rather than by the policy that makes them, so games stepped by a server are journaled too
+     * @param type 
+     * @param value 
+     */
+    private void recordDecision(JournalRecordType type, int value) {
+        GameJournal journal = game.getJournal();
+        if (journal != null) {
+            journal.record(type, value, player.getResources());
+        }
+    }
+
+    /**
+     * Checks a choice is one of the current prompt's options
+     * @param choice 
+     * @return 
+     */
+    private int checkChoice(int choice) {
+        int options = getOptionCount();
+        if (choice < 1 || choice > options) {
+            throw new IllegalArgumentException("Choice must be between 1 and " + options + ", got " + choice);
+        }
+        return choice;
+    }
+
+    /**
+     * Adds the counts this game has not yet reported to its metrics, for a game that is abandoned before it ends,
+     * such as when its player disconnects; finished games have already reported everything
+     * Called on the thread playing the game, between steps
+     */
+    public void flushMetrics() {
+        if (recorder != null) {
+            recorder.flush();
+        }
+    }
+
+    /**
+     * Moves to a new state and returns it
+     * @param newState 
+     * @return 
+     */
+    private TurnState setState(TurnState newState) {
+        state = newState;
+        if (newState == TurnState.GAME_OVER && recorder != null) {
+            recorder.flush();
+        }
+        return newState;
+    }
+
+    /**
+     * Starts the flight recorder event for a turn, if a recording has turns enabled
+     * @param turn 
+     */
+    private void startTurnEvent(int turn) {
+        if (TurnFlightEvent.enabled()) {
+            TurnFlightEvent event = new TurnFlightEvent();
+            event.begin();
+            event.turn = turn;
+            event.startResources = player.getResources();
+            turnEvent = event;
+        }
+    }
+
+    /**
+     * Ends the flight recorder event for the turn, if one was started, and commits it
+     * @param skipped 
+     */
+    private void commitTurnEvent(boolean skipped) {
+        TurnFlightEvent event = turnEvent;
+        if (event == null) {
+            return;
+        }
+        turnEvent = null;
+        event.end();
+        if (event.shouldCommit()) {
+            event.set(player, game.getBoard().getSquareAt(player.getPosition()).getName(),
+                    player.getResources() - event.startResources);
+            event.skipped = skipped;
+            event.commit();
+        }
+    }
+
+    /**
+     * Picks up the game's metrics, if it has any, and decides whether the turn starting now is timed
+     */
+    private void startMetrics() {
+        EngineMetrics metrics = game.getMetrics();
+        if (recorder != null && recorder.getMetrics() != metrics) {
+            // The metrics have been changed or removed since the last turn
+            recorder.flush();
+            recorder = null;
+            timed = false;
+        }
+        if (metrics == null) {
+            return;
+        }
+        if (recorder == null) {
+            recorder = metrics.newGameRecorder(game.getPlayerManager());
+        }
+        timed = recorder.startTurn();
+    }
+
+    /**
+     * Reads the clock if the current turn is timed
+     * @return the time from System.nanoTime, or 0 when the turn is not timed
+     */
+    private long startTiming() {
+        return timed ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records how long a part of the turn took if the turn is timed
+     * @param phase 
+     * @param start the time the part started, from startTiming
+     * @return the time now, so the next part can start from it
+     */
+    private long endTiming(TurnPhase phase, long start) {
+        if (!timed) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        recorder.getMetrics().record(phase, now - start);
+        return now;
+    }
+
+    /**
+     * Counts an event if the game has metrics
+     * @param counter 
+     * @param amount 
+     */
+    private void count(EngineCounter counter, long amount) {
+        if (recorder != null && amount != 0) {
+            recorder.count(counter, amount);
+        }
+    }
+}
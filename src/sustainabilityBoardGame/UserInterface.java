@@ -1,34 +1,68 @@
 package sustainabilityBoardGame;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
 
 /**
  * UserInterface class manages all user interactions for the game
+ * It is also the console decision policy, asking a human player for every decision
  */
-public class UserInterface {
+public class UserInterface implements DecisionPolicy {
     private Scanner scanner; 
+    private PrintStream out;
+    private GameEventSink eventSink;
+    private BoardRenderer renderer;
     
     /**
      * Constructor initializes the ui with a scanner for reading user input.
      * @param scanner 
      */
     public UserInterface(Scanner scanner) {
+        this(scanner, System.out);
+    }
+    
+    /**
+     * Creates a ui that reads from the scanner and writes to the given stream, such as a network connection
+     * @param scanner 
+     * @param out 
+     */
+    public UserInterface(Scanner scanner, PrintStream out) {
         this.scanner = scanner;
+        this.out = out;
+        this.eventSink = (out == System.out) ? ConsoleEventSink.INSTANCE : new ConsoleEventSink(out);
+        this.renderer = new BoardRenderer();
+    }
+    
+    /**
+     * Gets the sink that shows players' transactions on this ui's output
+     * @return 
+     */
+    public GameEventSink getEventSink() {
+        return eventSink;
+    }
+    
+    /**
+     * Reads the next line of input, first flushing the output so the player can see what they are being asked
+     * @return 
+     */
+    private String readLine() {
+        out.flush();
+        return scanner.nextLine();
     }
     
     /**
      * Displays the initial welcome message when the game starts
      */
     public void displayWelcomeMessage() {
-        System.out.println("=== SAVE OUR PLANET: SUSTAINABILITY BOARD GAME ===");
+        out.println("=== SAVE OUR PLANET: SUSTAINABILITY BOARD GAME ===");
     }
     /**
      * Displays how the efficiency score is calculated 
      */
     public void displayEfficiencyCalculation() {
-    	System.out.println("\nEfficiency is a major mechanic in this game, so please take note of how it is calculated: \n(Total property value * 100) / (Total spent + total property value)\n");
+    	out.println("\nEfficiency is a major mechanic in this game, so please take note of how it is calculated: \n(Total property value * 100) / (Total spent + total property value)\n");
     }
     
     /**
@@ -44,17 +78,17 @@ public class UserInterface {
         
         // Loop until we get valid input within the range
         while (!validInput) {
-            System.out.print("Enter number of players (" + min + "-" + max + "): ");
+            out.print("Enter number of players (" + min + "-" + max + "): ");
             try {
-                numPlayers = Integer.parseInt(scanner.nextLine().trim());
+                numPlayers = Integer.parseInt(readLine().trim());
                 if (numPlayers >= min && numPlayers <= max) {
                     validInput = true; 
                 } else {
-                    System.out.println("Number of players must be between " + min + " and " + max + ".");
+                    out.println("Number of players must be between " + min + " and " + max + ".");
                 }
             } catch (NumberFormatException e) {
                 // Handle case where user enters text instead of a number
-                System.out.println("Please enter a valid number.");
+                out.println("Please enter a valid number.");
             }
         }
         
@@ -68,21 +102,21 @@ public class UserInterface {
      * @return 
      */
     public List<String> getPlayerNames(int numPlayers) {
-        System.out.println("\nEnter player names:");
+        out.println("\nEnter player names:");
         List<String> playerNames = new ArrayList<>();
         
         // Loop through each player position
         for (int i = 0; i < numPlayers; i++) {
             String name;
             do {
-                System.out.print("Player " + (i + 1) + " name: ");
-                name = scanner.nextLine().trim();
+                out.print("Player " + (i + 1) + " name: ");
+                name = readLine().trim();
                 if (name.isEmpty()) {
-                    System.out.println("Name cannot be empty. Please try again.");
+                    out.println("Name cannot be empty. Please try again.");
                 } else if (playerNames.contains(name)) {
-                    System.out.println("Name already taken. Please choose a unique name.");
+                    out.println("Name already taken. Please choose a unique name.");
                 } else if(name.length() > 25) {
-                	System.out.println("Please ensure you're name is less than 25 chars.");
+                	out.println("Please ensure you're name is less than 25 chars.");
                 }
             } while (name.isEmpty() || playerNames.contains(name) || name.length() > 25); 
             
@@ -94,20 +128,13 @@ public class UserInterface {
     
     /**
      * Displays the current state of the game including board and player resources
+     * The whole frame is built in the renderer's buffer and written in one go
      * 
      * @param board 
      * @param players 
      */
     public void displayGameStatus(GameBoard board, List<Player> players) {
-        System.out.println("\n=== CURRENT GAME STATUS ===");
-        displayBoard(board);
-        
-        // Display resource information for each player
-        System.out.println("\nPlayer Resources:");
-        for (Player player : players) {
-            System.out.println(player.getName() + ": " + player.getResources() + " resources");
-        }
-        System.out.println();
+        out.print(renderer.renderGameStatus(board, players));
     }
     
     /**
@@ -116,34 +143,7 @@ public class UserInterface {
      * @param board 
      */
     public void displayBoard(GameBoard board) {
-        System.out.println("\nCurrent Board State:");
-        List<BoardSquare> squares = board.getAllSquares();
-        
-        // Loop through each square on the board
-        for (int i = 0; i < squares.size(); i++) {
-            BoardSquare square = squares.get(i);
-            System.out.print("[" + i + "] " + square.getName());
-            
-            // Display additional information for property squares
-            if (square instanceof PropertySquare) {
-                PropertySquare property = (PropertySquare) square;
-                Player owner = property.getOwner();
-                if (owner != null) {
-                    // Show owner and development level for owned properties
-                    System.out.print(" - Owned by " + owner.getName());
-                    if (!property.canBeDeveloped()) {
-                    	System.out.print(" (Level " + property.getDevelopmentLevel() + ") - Max Level");
-                    } else {
-                    	System.out.print(" (Level " + property.getDevelopmentLevel() + ")");
-                    }
-                    
-                } else {
-                    System.out.print(" - Unowned");
-                }
-            }
-            
-            System.out.println();
-        }
+        out.print(renderer.renderBoard(board));
     }
     
     /**
@@ -152,8 +152,8 @@ public class UserInterface {
      * @param player
      */
     public void displayPlayerTurn(Player player) {
-        System.out.println("\n=== " + player.getName() + "'s TURN ===");
-        System.out.println("Resources: " + player.getResources());
+        out.println("\n=== " + player.getName() + "'s TURN ===");
+        out.println("Resources: " + player.getResources());
     }
     
     /**
@@ -163,20 +163,33 @@ public class UserInterface {
      * @return 
      */
     public int getPlayerTurnChoice(boolean canDevelopAny) {
-        System.out.println("\nOptions:");
-        System.out.println("1. Roll dice");
+        out.println("\nOptions:");
+        out.println("1. Roll dice");
         
         // Only show property development option if the player can develop any properties
         if (canDevelopAny) {
-            System.out.println("2. Develop a property");
+            out.println("2. Develop a property");
         }
         
         // Adjust the quit option number based on available options
-        System.out.println((canDevelopAny ? "3" : "2") + ". Quit game");
+        out.println((canDevelopAny ? "3" : "2") + ". Quit game");
         
         return getPlayerChoice(canDevelopAny ? 3 : 2);
     }
     
+    /**
+     * Asks the player for their turn choice through the console menu
+     * 
+     * @param player 
+     * @param ownedProperties 
+     * @param canDevelopAny 
+     * @return 
+     */
+    @Override
+    public int chooseTurnOption(Player player, List<PropertySquare> ownedProperties, boolean canDevelopAny) {
+        return getPlayerTurnChoice(canDevelopAny);
+    }
+    
     /**
      * General method to get a player's choice from a menu of options, validating user choice is in acceptable range
      * 
@@ -189,16 +202,16 @@ public class UserInterface {
         
         // Loop until valid input is received
         while (!validInput) {
-            System.out.print("Enter your choice (1-" + maxOption + "): ");
+            out.print("Enter your choice (1-" + maxOption + "): ");
             try {
-                choice = Integer.parseInt(scanner.nextLine().trim());
+                choice = Integer.parseInt(readLine().trim());
                 if (choice >= 1 && choice <= maxOption) {
                     validInput = true;
                 } else {
-                    System.out.println("Please enter a number between 1 and " + maxOption + ".");
+                    out.println("Please enter a number between 1 and " + maxOption + ".");
                 }
             } catch (NumberFormatException e) {
-                System.out.println("Please enter a valid number.");
+                out.println("Please enter a valid number.");
             }
         }
         
@@ -212,10 +225,20 @@ public class UserInterface {
      * @param diceRoll 
      */
     public void displayDiceRoll(Player player, DiceRoll diceRoll) {
-        System.out.println(player.getName() + " rolled " + diceRoll.getDice1() + " and " + diceRoll.getDice2() + 
+        out.println(player.getName() + " rolled " + diceRoll.getDice1() + " and " + diceRoll.getDice2() + 
                            " for a total of " + diceRoll.getTotal());
     }
     
+    /**
+     * Displays the result of a player's dice roll made by DiceStream.roll
+     * 
+     * @param player 
+     * @param packedRoll 
+     */
+    public void displayDiceRoll(Player player, int packedRoll) {
+        displayDiceRoll(player, new DiceRoll(packedRoll));
+    }
+    
     /**
      * Announces a players movement to a new square
      * 
@@ -223,7 +246,7 @@ public class UserInterface {
      * @param square The destination square
      */
     public void displayPlayerMovement(Player player, BoardSquare square) {
-        System.out.println(player.getName() + " moved to " + square.getName());
+        out.println(player.getName() + " moved to " + square.getName());
     }
     
     /**
@@ -234,9 +257,9 @@ public class UserInterface {
      * @param grantAmount 
      */
     public void displayPassedGo(Player player, int efficiency, int grantAmount) {
-        System.out.println(player.getName() + " passed Sustainability Grant!");
-        System.out.println("Efficiency score: " + efficiency);
-        System.out.println("Grant received: " + grantAmount + " resources");
+        out.println(player.getName() + " passed Sustainability Grant!");
+        out.println("Efficiency score: " + efficiency);
+        out.println("Grant received: " + grantAmount + " resources");
     }
     
     /**
@@ -245,7 +268,7 @@ public class UserInterface {
      * @param player 
      */
     public void displayWastelandSkipMessage(Player player) {
-        System.out.println("\n" + player.getName() + " is in wasteland and misses this turn.");
+        out.println("\n" + player.getName() + " is in wasteland and misses this turn.");
     }
     
     /**
@@ -254,14 +277,14 @@ public class UserInterface {
      * @param player 
      */
     public void displayQuitMessage(Player player) {
-        System.out.println(player.getName() + " has decided to quit the game.");
+        out.println(player.getName() + " has decided to quit the game.");
     }
     
     /**
      * Displays a message when the game ends due to only one player remaining
      */
     public void displayGameOver() {
-        System.out.println("\nOnly one player remains with resources. Game over!");
+        out.println("\nOnly one player remains with resources. Game over!");
     }
     
     /**
@@ -271,36 +294,36 @@ public class UserInterface {
      * @param board 
      */
     public void displayFinalResults(List<Player> players, GameBoard board) {
-        System.out.println("\n=== FINAL RESULTS ===");
+        out.println("\n=== FINAL RESULTS ===");
         
         // Loop through each player to display their final status
         for (Player player : players) {
             int totalWorth = player.getResources();
             int efficiencyScore = EfficiencyCalculator.calculateEfficiencyScore(player, board);
             
-            System.out.println("\n" + player.getName() + ":");
-            System.out.println("Resources: " + player.getResources());
-            System.out.println("Efficiency Score: " + efficiencyScore);
+            out.println("\n" + player.getName() + ":");
+            out.println("Resources: " + player.getResources());
+            out.println("Efficiency Score: " + efficiencyScore);
             
             // Display properties owned by the player
-            System.out.println("Properties owned:");
+            out.println("Properties owned:");
             List<PropertySquare> properties = board.getPlayerProperties(player);
             
             if (properties.isEmpty()) {
-                System.out.println("None");
+                out.println("None");
             } else {
                 for (PropertySquare property : properties) {
-                    System.out.println("- " + property.getName() + " (Level " + property.getDevelopmentLevel() + 
+                    out.println("- " + property.getName() + " (Level " + property.getDevelopmentLevel() + 
                                      ", Value: " + property.getTotalInvestment() + ")");
                     totalWorth += property.getTotalInvestment();
                 }
             }
             
             // Display total worth (resources + property investments)
-            System.out.println("Total Worth: " + totalWorth);
+            out.println("Total Worth: " + totalWorth);
         }
         
-        System.out.println("\nThank you for playing Save Our Planet!");
+        out.println("\nThank you for playing Save Our Planet!");
     }
     
     /**
@@ -310,7 +333,7 @@ public class UserInterface {
      * @param amount 
      */
     public void displayResourceDistribution(Player player, int amount) {
-        System.out.println(player.getName() + " is distributing " + amount + " resources");
+        out.println(player.getName() + " is distributing " + amount + " resources");
     }
     
     /**
@@ -320,41 +343,188 @@ public class UserInterface {
      * @param amount 
      */
     public void displayResourceReceived(Player player, int amount) {
-        System.out.println(player.getName() + " received " + amount + " resources");
+        out.println(player.getName() + " received " + amount + " resources");
+    }
+    
+    /**
+     * Announces the share every other player received from a distribution
+     * 
+     * @param distributor 
+     * @param players all players, including the distributor
+     * @param amount 
+     */
+    public void displayResourcesReceived(Player distributor, List<Player> players, int amount) {
+        for (Player player : players) {
+            if (player != distributor) {
+                displayResourceReceived(player, amount);
+            }
+        }
+    }
+    
+    /**
+     * Displays information about an unowned property the player has landed on
+     * 
+     * @param property 
+     */
+    public void displayPurchaseOffer(PropertySquare property) {
+        out.println("This property is unowned.");
+        out.println("Cost to purchase: " + property.getPurchaseCost() + " resources");
     }
     
     /**
-     * Handles the process of offering a property for purchase, displays property information and prompts player for a decision
+     * Displays a message when a player doesn't have enough resources to purchase a property
+     */
+    public void displayInsufficientResourcesToPurchase() {
+        out.println("You don't have enough resources to purchase this property.");
+    }
+    
+    /**
+     * Asks the player whether they would like to purchase the property
      * 
      * @param player
      * @param property 
+     * @return 
      */
-    public void offerToPurchase(Player player, PropertySquare property) {
-        System.out.println("This property is unowned.");
-        System.out.println("Cost to purchase: " + property.getPurchaseCost() + " resources");
-        
-        // Check if player has enough resources to purchase
-        if (player.getResources() < property.getPurchaseCost()) {
-            System.out.println("You don't have enough resources to purchase this property.");
-            return;
-        }
-        
-        System.out.println("Would you like to purchase it?");
-        System.out.println("1. Yes");
-        System.out.println("2. No");
-        
-        int choice = getPlayerChoice(2);
+    @Override
+    public boolean decidePurchase(Player player, PropertySquare property) {
+        out.println("Would you like to purchase it?");
+        out.println("1. Yes");
+        out.println("2. No");
         
+        return getPlayerChoice(2) == 1;
+    }
+    
+    /**
+     * Announces when a player purchases a property
+     * 
+     * @param player
+     * @param property 
+     */
+    public void displayPurchase(Player player, PropertySquare property) {
+        out.println(player.getName() + " purchased " + property.getName() + " for " + property.getPurchaseCost() + " resources");
+    }
+    
+    /**
+     * Announces when a player decides not to purchase a property
+     * 
+     * @param player
+     * @param property 
+     */
+    public void displayPurchaseDeclined(Player player, PropertySquare property) {
+        out.println(player.getName() + " decided not to purchase " + property.getName());
+    }
+    
+    /**
+     * Displays a message when a player lands on a property they already own
+     */
+    public void displayOwnProperty() {
+        out.println("You own this property.");
+    }
+    
+    /**
+     * Announces when a player lands on the wasteland
+     * 
+     * @param player 
+     */
+    public void displayLandedOnWasteland(Player player) {
+        out.println(player.getName() + " landed on Wasteland");
+    }
+    
+    /**
+     * Displays a message when landing on the wasteland has no effect
+     */
+    public void displayNothingHappens() {
+        out.println("Nothing happens this turn.");
+    }
+    
+    /**
+     * Asks a wealthy player whether to stay in the wasteland or distribute resources
+     * 
+     * @param player 
+     * @return 
+     */
+    @Override
+    public boolean chooseToStayInWasteland(Player player) {
+        out.println("You have significantly more resources than others.");
+        out.println("Options:");
+        out.println("1. Stay in wasteland for next turn");
+        out.println("2. Distribute 25% of your resources to other players");
         
-        if (choice == 1) {
-            // Player decides to purchase the property
-            player.removeResources(property.getPurchaseCost(), "Purchase of " + property.getName());
-            property.setOwner(player);
-            System.out.println(player.getName() + " purchased " + property.getName() + " for " + property.getPurchaseCost() + " resources");
-        } else {
-            // Player decides not to purchase
-            System.out.println(player.getName() + " decided not to purchase " + property.getName());
+        return getPlayerChoice(2) == 1;
+    }
+    
+    /**
+     * Announces when a player chooses to spend their next turn in the wasteland
+     * 
+     * @param player 
+     */
+    public void displayWastelandStay(Player player) {
+        out.println(player.getName() + " will spend next turn in wasteland.");
+    }
+    
+    /**
+     * Lists the player's properties and asks which one to develop
+     * 
+     * @param player 
+     * @param developableProperties 
+     * @return 
+     */
+    @Override
+    public int choosePropertyToDevelop(Player player, List<PropertySquare> developableProperties) {
+        out.println("\nSelect a property to develop:");
+
+        // Display all properties that can be developed
+        for (int i = 0; i < developableProperties.size(); i++) {
+            PropertySquare property = developableProperties.get(i);
+            out.println((i + 1) + ". " + property.getName() + " (Current Level: " + property.getDevelopmentLevel() +
+                ", Development Cost: " + property.getDevelopmentCost() + ")");
         }
+
+        return getPlayerChoice(developableProperties.size());
+    }
+    
+    /**
+     * Asks the player to confirm the final Eco City development, which sends them to the wasteland
+     * 
+     * @param player 
+     * @param property 
+     * @return 
+     */
+    @Override
+    public boolean confirmEcoCityDevelopment(Player player, PropertySquare property) {
+        out.println("This development requires spending the next turn in the wasteland.");
+        out.println("Do you want to proceed?");
+        out.println("1. Yes");
+        out.println("2. No");
+        
+        return getPlayerChoice(2) == 1;
+    }
+    
+    /**
+     * Displays a message when a player cancels a development
+     */
+    public void displayDevelopmentCancelled() {
+        out.println("Development cancelled.");
+    }
+    
+    /**
+     * Announces when a player develops a property
+     * 
+     * @param player 
+     * @param property 
+     * @param cost 
+     */
+    public void displayPropertyDeveloped(Player player, PropertySquare property, int cost) {
+        out.println(player.getName() + " developed " + property.getName() +
+            " to level " + property.getDevelopmentLevel() +
+            " for " + cost + " resources");
+    }
+    
+    /**
+     * Displays a message when a player doesn't have enough resources to develop a property
+     */
+    public void displayInsufficientResourcesToDevelop() {
+        out.println("Not enough resources to develop this property.");
     }
     
     /**
@@ -366,8 +536,8 @@ public class UserInterface {
      */
     public void displayPayRent(Player player, PropertySquare property, int amount) {
         Player owner = property.getOwner();
-        System.out.println(property.getName() + " is owned by " + owner.getName());
-        System.out.println("Rent to pay: " + amount + " resources");
+        out.println(property.getName() + " is owned by " + owner.getName());
+        out.println("Rent to pay: " + amount + " resources");
     }
     
     /**
@@ -378,7 +548,7 @@ public class UserInterface {
      * @param amount 
      */
     public void displayRentPaid(Player player, Player owner, int amount) {
-        System.out.println(player.getName() + " paid " + amount + " resources to " + owner.getName());
+        out.println(player.getName() + " paid " + amount + " resources to " + owner.getName());
     }
     
     /**
@@ -386,7 +556,7 @@ public class UserInterface {
      * @param player 
      */
     public void displayInsufficientResources(Player player) {
-        System.out.println(player.getName() + " doesn't have enough resources to pay rent!");
+        out.println(player.getName() + " doesn't have enough resources to pay rent!");
     }
     
     /**
@@ -397,7 +567,7 @@ public class UserInterface {
      * @param amount 
      */
     public void displayPartialPayment(Player player, Player owner, int amount) {
-        System.out.println("All remaining resources will be transferred to " + owner.getName());
-        System.out.println(player.getName() + " has run out of resources!");
+        out.println("All remaining resources will be transferred to " + owner.getName());
+        out.println(player.getName() + " has run out of resources!");
     }
 }
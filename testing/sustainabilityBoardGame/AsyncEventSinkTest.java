@@ -0,0 +1,105 @@
+package sustainabilityBoardGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class AsyncEventSinkTest {
+
+	/**
+	 * Tests that every event reaches the delegate in order once the sink is closed, even with a queue smaller than the number of events
+	 */
+	@Test
+	public void testAllEventsDeliveredInOrder() {
+		
+		MemoryEventSink delegate = new MemoryEventSink();
+		Player player = new Player("Player1", 0);
+		
+		try (AsyncEventSink sink = new AsyncEventSink(delegate, 16)) {
+			player.setEventSink(sink);
+			for (int i = 1; i <= 1000; i++) {
+				player.addResources(1, "Grant");
+			}
+		}
+		
+		List<TransactionEvent> events = delegate.getEvents();
+		assertEquals(1000, events.size());
+		for (int i = 0; i < events.size(); i++) {
+			assertEquals(i + 1, events.get(i).getNewBalance());
+		}
+	}
+	
+	/**
+	 * Tests that a closed sink refuses new events
+	 */
+	@Test
+	public void testClosedSinkRejectsEvents() {
+		
+		AsyncEventSink sink = new AsyncEventSink(NoOpEventSink.INSTANCE, 4);
+		sink.close();
+		
+		TransactionEvent event = new TransactionEvent(TransactionEvent.Kind.RECEIVED, new Player("Player1", 0), 1, "Grant", 1);
+		assertThrows(IllegalStateException.class, () -> sink.onTransaction(event));
+	}
+	
+	/**
+	 * Tests that a delegate that throws does not leave the game waiting on a full queue, and that the failure is
+	 * reported to the game and by close
+	 */
+	@Test
+	public void testDelegateFailureReported() {
+		
+		GameEventSink failing = event -> {
+			throw new IllegalArgumentException("Output failed");
+		};
+		Player player = new Player("Player1", 0);
+		AsyncEventSink sink = new AsyncEventSink(failing, 4);
+		player.setEventSink(sink);
+		
+		// The first events are queued before the failure is seen, later ones report it instead of blocking
+		IllegalStateException error = assertThrows(IllegalStateException.class, () -> {
+			for (int i = 0; i < 100_000; i++) {
+				player.addResources(1, "Grant");
+			}
+		});
+		assertTrue(error.getCause() instanceof IllegalArgumentException);
+		assertThrows(IllegalStateException.class, sink::close);
+	}
+	
+	/**
+	 * Tests that events queued by many threads while the sink closes are either delivered or refused, never lost
+	 */
+	@Test
+	public void testCloseWhileQueuing() throws InterruptedException {
+		
+		MemoryEventSink delegate = new MemoryEventSink();
+		AsyncEventSink sink = new AsyncEventSink(delegate, 8);
+		AtomicInteger accepted = new AtomicInteger();
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			Player player = new Player("Player" + t, 0);
+			threads[t] = new Thread(() -> {
+				TransactionEvent event = new TransactionEvent(TransactionEvent.Kind.RECEIVED, player, 1, "Grant", 1);
+				try {
+					while (true) {
+						sink.onTransaction(event);
+						accepted.incrementAndGet();
+					}
+				} catch (IllegalStateException e) {
+					// Closed
+				}
+			});
+			threads[t].start();
+		}
+		
+		Thread.sleep(20);
+		sink.close();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(accepted.get(), delegate.getEvents().size());
+	}
+}
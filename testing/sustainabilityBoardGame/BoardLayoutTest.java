@@ -0,0 +1,133 @@
+package sustainabilityBoardGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class BoardLayoutTest {
+
+	/**
+	 * Tests that the standard board file compiles to the same layout as the built in standard board
+	 */
+	@Test
+	public void testStandardBoardFile() throws IOException {
+		
+		BoardLayout loaded = BoardLayout.load(Paths.get("boards", "standard.board"));
+		BoardLayout standard = BoardLayout.standard();
+		
+		assertEquals(standard.getSquareCount(), loaded.getSquareCount());
+		assertEquals(standard.getPropertyCount(), loaded.getPropertyCount());
+		for (int position = 0; position < standard.getSquareCount(); position++) {
+			assertEquals(standard.getSquareName(position), loaded.getSquareName(position));
+			assertEquals(standard.getSquareAction(position), loaded.getSquareAction(position));
+			assertEquals(standard.getPropertyIndex(position), loaded.getPropertyIndex(position));
+		}
+		for (int property = 0; property < standard.getPropertyCount(); property++) {
+			assertEquals(standard.getPurchaseCost(property), loaded.getPurchaseCost(property));
+			assertEquals(standard.getMaxDevelopmentLevel(property), loaded.getMaxDevelopmentLevel(property));
+			for (int level = 0; level <= 6; level++) {
+				assertEquals(standard.getRent(property, level), loaded.getRent(property, level));
+				assertEquals(standard.getDevelopmentCost(property, level), loaded.getDevelopmentCost(property, level));
+				assertEquals(standard.getLevelName(property, level), loaded.getLevelName(property, level));
+			}
+		}
+	}
+	
+	/**
+	 * Tests that the standard layout matches the original board and its size constant
+	 */
+	@Test
+	public void testStandardLayoutMatchesBoard() {
+		
+		GameBoard board = new GameBoard();
+		BoardLayout layout = board.getLayout();
+		
+		assertEquals(GameConfig.TOTAL_SQUARES, layout.getSquareCount());
+		assertEquals(GameConfig.TOTAL_SQUARES, board.getSize());
+		assertEquals(4, layout.getPropertyCount());
+		assertEquals(SquareAction.WASTELAND, layout.getSquareAction(3));
+		assertEquals(5, layout.getPropertySquare(3));
+		assertEquals(800, layout.getRent(3, 2));
+		assertEquals("Fully Integrated Smart City", layout.getLevelName(3, 2));
+		
+		PropertySquare marine = (PropertySquare) board.getSquareAt(2);
+		assertEquals(300, marine.getPurchaseCost());
+		assertEquals("Tidal Wave Plant", marine.getCurrentDevelopmentName());
+	}
+	
+	/**
+	 * Tests that a rules entry replaces the standard rules of its type for every property of that type
+	 */
+	@Test
+	public void testRulesOverride() {
+		
+		BoardLayout layout = BoardLayout.parse(Arrays.asList(
+				"go Start",
+				"property LAND_ENERGY 100 Wind Park",
+				"# rules may come after the squares that use them",
+				"rules LAND_ENERGY 1 0.3,0.9 2.0 Turbine|Wind Park Complete",
+				""));
+		
+		assertEquals(1, layout.getMaxDevelopmentLevel(0));
+		assertEquals(30, layout.getRent(0, 0));
+		assertEquals(90, layout.getRent(0, 1));
+		assertEquals(90, layout.getRent(0, 5));
+		assertEquals(200, layout.getDevelopmentCost(0, 0));
+		assertEquals("Wind Park Complete", layout.getLevelName(0, 1));
+		
+		PropertySquare property = (PropertySquare) new GameBoard(layout).getSquareAt(1);
+		assertEquals(30, property.getRent());
+		property.develop();
+		assertFalse(property.canBeDeveloped());
+		assertEquals("Wind Park Complete", property.getCurrentDevelopmentName());
+	}
+	
+	/**
+	 * Tests that invalid board files are rejected with the line of the problem
+	 */
+	@Test
+	public void testInvalidBoardsRejected() {
+		
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> BoardLayout.parse(Arrays.asList("go Start", "property SEA_ENERGY 100 Sea")));
+		assertTrue(e.getMessage().startsWith("Line 2"));
+		
+		assertThrows(IllegalArgumentException.class,
+				() -> BoardLayout.parse(Arrays.asList("go Start", "property LAND_ENERGY lots Field")));
+		assertThrows(IllegalArgumentException.class,
+				() -> BoardLayout.parse(Arrays.asList("go Start", "teleport Somewhere")));
+		assertThrows(IllegalArgumentException.class,
+				() -> BoardLayout.parse(Arrays.asList("wasteland Wasteland", "go Start")));
+		assertThrows(IllegalArgumentException.class, () -> BoardLayout.parse(new ArrayList<>()));
+	}
+	
+	/**
+	 * Tests a board with thousands of squares, which games can be played on
+	 */
+	@Test
+	public void testLargeBoard() {
+		
+		List<String> lines = new ArrayList<>();
+		lines.add("go Start");
+		for (int i = 1; i < 5000; i++) {
+			lines.add((i % 50 == 0) ? "wasteland Wasteland " + i : "property ECO_CITY " + (100 + i % 300) + " City " + i);
+		}
+		BoardLayout layout = BoardLayout.parse(lines);
+		
+		assertEquals(5000, layout.getSquareCount());
+		assertEquals(5000 - 1 - 99, layout.getPropertyCount());
+		assertEquals("City 4999", layout.getSquareName(4999));
+		assertEquals(layout.getPropertyCount() - 1, layout.getPropertyIndex(4999));
+		assertEquals(-1, layout.getPropertyIndex(4950));
+		
+		GameResult result = new HeadlessGame(new GreedyDecisionPolicy(), 4, 500, layout).play(1);
+		assertTrue(result.getTurnsPlayed() > 0);
+	}
+
+}
@@ -0,0 +1,81 @@
+package sustainabilityBoardGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BoardRendererTest {
+
+	private static final String NL = System.lineSeparator();
+	
+	private GameBoard gameBoard;
+	private BoardRenderer renderer;
+	private Player player1;
+	
+	@BeforeEach
+	public void setUp() {
+		gameBoard = new GameBoard();
+		renderer = new BoardRenderer();
+		player1 = new Player("Player1", 1000);
+	}
+	
+	/**
+	 * Tests that the frame has the same text the console has always shown
+	 */
+	@Test
+	public void testGameStatusText() {
+		
+		PropertySquare waste = (PropertySquare) gameBoard.getSquareAt(1);
+		waste.setOwner(player1);
+		waste.develop();
+		waste.develop();
+		List<Player> players = Arrays.asList(player1, new Player("Player2", 500));
+		
+		String expected = "\n=== CURRENT GAME STATUS ===" + NL
+				+ "\nCurrent Board State:" + NL
+				+ "[0] Sustainability Grant" + NL
+				+ "[1] Waste Management Plant - Owned by Player1 (Level 2) - Max Level" + NL
+				+ "[2] Marine Renewable Energy Plant - Unowned" + NL
+				+ "[3] Wasteland" + NL
+				+ "[4] Land Based Renewable Energy Plant - Unowned" + NL
+				+ "[5] Eco City - Unowned" + NL
+				+ "\nPlayer Resources:" + NL
+				+ "Player1: 1000 resources" + NL
+				+ "Player2: 500 resources" + NL
+				+ NL;
+		
+		assertEquals(expected, renderer.renderGameStatus(gameBoard, players).toString());
+	}
+	
+	/**
+	 * Tests that only rows whose owner or level changed are rebuilt between frames
+	 */
+	@Test
+	public void testOnlyChangedRowsAreRebuilt() {
+		
+		renderer.renderBoard(gameBoard);
+		assertEquals(6, renderer.getRowsRenderedLastFrame());
+		
+		renderer.renderBoard(gameBoard);
+		assertEquals(0, renderer.getRowsRenderedLastFrame());
+		
+		PropertySquare marine = (PropertySquare) gameBoard.getSquareAt(2);
+		marine.setOwner(player1);
+		String frame = renderer.renderBoard(gameBoard).toString();
+		assertEquals(1, renderer.getRowsRenderedLastFrame());
+		assertTrue(frame.contains("[2] Marine Renewable Energy Plant - Owned by Player1 (Level 0)" + NL));
+		
+		marine.develop();
+		renderer.renderBoard(gameBoard);
+		assertEquals(1, renderer.getRowsRenderedLastFrame());
+		
+		// A new board cannot reuse any rows
+		renderer.renderBoard(new GameBoard());
+		assertEquals(6, renderer.getRowsRenderedLastFrame());
+	}
+
+}
@@ -0,0 +1,68 @@
+package sustainabilityBoardGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class ChoiceReaderTest {
+
+	/**
+	 * Tests that choices are read as the console reads them, with surrounding whitespace and CRLF line ends trimmed
+	 */
+	@Test
+	public void testReadsChoices() {
+		
+		ChoiceReader reader = new ChoiceReader();
+		ByteBuffer in = bytes("1\n  23 \r\n+4\n007\n");
+		
+		assertEquals(1, reader.next(in));
+		assertEquals(23, reader.next(in));
+		assertEquals(4, reader.next(in));
+		assertEquals(7, reader.next(in));
+		assertEquals(ChoiceReader.INCOMPLETE, reader.next(in));
+	}
+	
+	/**
+	 * Tests that lines parseInt would reject are invalid, and negative numbers are read as 0
+	 */
+	@Test
+	public void testInvalidLines() {
+		
+		ChoiceReader reader = new ChoiceReader();
+		ByteBuffer in = bytes("\nabc\n1 2\n- 1\n99999999999\n-3\n2\n");
+		
+		assertEquals(ChoiceReader.INVALID, reader.next(in));
+		assertEquals(ChoiceReader.INVALID, reader.next(in));
+		assertEquals(ChoiceReader.INVALID, reader.next(in));
+		assertEquals(ChoiceReader.INVALID, reader.next(in));
+		assertEquals(ChoiceReader.INVALID, reader.next(in));
+		assertEquals(0, reader.next(in));
+		
+		// An invalid line does not affect the next one
+		assertEquals(2, reader.next(in));
+	}
+	
+	/**
+	 * Tests that a line split over several buffers is read once it is complete
+	 */
+	@Test
+	public void testLineSplitOverBuffers() {
+		
+		ChoiceReader reader = new ChoiceReader();
+		
+		assertEquals(ChoiceReader.INCOMPLETE, reader.next(bytes(" 1")));
+		assertEquals(ChoiceReader.INCOMPLETE, reader.next(bytes("2")));
+		ByteBuffer last = bytes("\r\n3");
+		assertEquals(12, reader.next(last));
+		assertEquals(1, last.remaining());
+		assertEquals(ChoiceReader.INCOMPLETE, reader.next(last));
+		assertEquals(3, reader.next(bytes("\n")));
+	}
+	
+	private static ByteBuffer bytes(String text) {
+		return ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+	}
+}
@@ -0,0 +1,81 @@
+package sustainabilityBoardGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class CompactGameBatchTest {
+
+	private static final int GAMES = 500;
+	private static final long SEED = 2024;
+	
+	/**
+	 * Tests that every compact game ends exactly like the same game played with objects by HeadlessGame and the greedy policy
+	 */
+	@Test
+	public void testMatchesHeadlessGame() {
+		
+		for (int numPlayers = 2; numPlayers <= 4; numPlayers++) {
+			assertBatchMatches(new GreedyDecisionPolicy(), numPlayers, true);
+		}
+	}
+	
+	/**
+	 * Tests the same equivalence when wealthy players distribute resources instead of staying in the wasteland
+	 */
+	@Test
+	public void testMatchesHeadlessGameWithDistribution() {
+		
+		DecisionPolicy distributingPolicy = new GreedyDecisionPolicy() {
+			@Override
+			public boolean chooseToStayInWasteland(Player player) {
+				return false;
+			}
+		};
+		
+		for (int numPlayers = 2; numPlayers <= 4; numPlayers++) {
+			assertBatchMatches(distributingPolicy, numPlayers, false);
+		}
+	}
+	
+	/**
+	 * Tests that resetting a batch plays the same games again
+	 */
+	@Test
+	public void testResetReplaysGames() {
+		
+		CompactGameBatch batch = new CompactGameBatch(new GameBoard(), 50, 4, 150, true);
+		batch.resetAll(SEED);
+		batch.runToEnd();
+		int[] turns = new int[50];
+		for (int game = 0; game < 50; game++) {
+			turns[game] = batch.getTurnsPlayed(game);
+			assertTrue(batch.isFinished(game));
+		}
+		
+		batch.resetAll(SEED);
+		batch.runToEnd();
+		for (int game = 0; game < 50; game++) {
+			assertEquals(turns[game], batch.getTurnsPlayed(game));
+		}
+	}
+	
+	private void assertBatchMatches(DecisionPolicy policy, int numPlayers, boolean stayInWasteland) {
+		HeadlessGame headlessGame = new HeadlessGame(policy, numPlayers, 300);
+		CompactGameBatch batch = new CompactGameBatch(new GameBoard(), GAMES, numPlayers, 300, stayInWasteland);
+		batch.resetAll(SEED);
+		batch.runToEnd();
+		
+		for (int game = 0; game < GAMES; game++) {
+			GameResult expected = headlessGame.play(DiceStream.forGame(SEED, game));
+			GameResult actual = batch.toResult(game);
+			
+			assertEquals(expected.getTurnsPlayed(), actual.getTurnsPlayed());
+			assertEquals(expected.isCompleted(), actual.isCompleted());
+			assertEquals(expected.getWinnerIndex(), actual.getWinnerIndex());
+			assertArrayEquals(expected.getFinalResources(), actual.getFinalResources());
+			assertArrayEquals(expected.getEfficiencyScores(), actual.getEfficiencyScores());
+		}
+	}
+
+}
@@ -33,5 +33,27 @@ class DiceRollTest {
         int expected = diceRoll.getDice1() + diceRoll.getDice2();
         assertEquals(expected, diceRoll.getTotal());
     }
+    
+    /**
+     * Tests that a packed roll keeps both dice and the total, and unpacks to the same dice roll
+     */
+    @Test
+    public void testPackedRoll() {
+        
+        for (int dice1 = 1; dice1 <= 6; dice1++) {
+            for (int dice2 = 1; dice2 <= 6; dice2++) {
+                int packedRoll = DiceRoll.pack(dice1, dice2);
+                
+                assertEquals(dice1, DiceRoll.dice1(packedRoll));
+                assertEquals(dice2, DiceRoll.dice2(packedRoll));
+                assertEquals(dice1 + dice2, DiceRoll.total(packedRoll));
+                
+                DiceRoll diceRoll = new DiceRoll(packedRoll);
+                assertEquals(dice1, diceRoll.getDice1());
+                assertEquals(dice2, diceRoll.getDice2());
+                assertEquals(dice1 + dice2, diceRoll.getTotal());
+            }
+        }
+    }
 
 }
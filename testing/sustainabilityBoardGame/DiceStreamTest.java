@@ -0,0 +1,87 @@
+package sustainabilityBoardGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class DiceStreamTest {
+
+	/**
+	 * Tests that two streams with the same seed roll the same dice, and that every roll is in range
+	 */
+	@Test
+	public void testSameSeedSameRolls() {
+		
+		DiceStream first = new DiceStream(1234);
+		DiceStream second = new DiceStream(1234);
+		
+		for (int i = 0; i < 100; i++) {
+			int roll = first.rollDie();
+			assertTrue(roll >= 1 && roll <= 6);
+			assertEquals(roll, second.rollDie());
+		}
+	}
+	
+	/**
+	 * Tests that a game's stream depends only on the series seed and the game index
+	 */
+	@Test
+	public void testForGameMatchesSeedSeries() {
+		
+		SplittableRandom series = new SplittableRandom(99);
+		for (int gameIndex = 0; gameIndex < 5; gameIndex++) {
+			DiceStream expected = new DiceStream(series.nextLong());
+			DiceStream actual = DiceStream.forGame(99, gameIndex);
+			for (int i = 0; i < 20; i++) {
+				assertEquals(expected.rollDie(), actual.rollDie());
+			}
+		}
+	}
+	
+	/**
+	 * Tests that a dice roll made from a stream matches the stream's rolls
+	 */
+	@Test
+	public void testDiceRollFromStream() {
+		
+		DiceRoll diceRoll = new DiceRoll(new DiceStream(5));
+		DiceStream stream = new DiceStream(5);
+		
+		assertEquals(stream.rollDie(), diceRoll.getDice1());
+		assertEquals(stream.rollDie(), diceRoll.getDice2());
+	}
+	
+	/**
+	 * Tests that the rolls are the same as SplittableRandom's for the same seed
+	 */
+	@Test
+	public void testMatchesSplittableRandom() {
+		
+		for (long seed = 0; seed < 50; seed++) {
+			SplittableRandom random = new SplittableRandom(seed * 7919);
+			DiceStream stream = new DiceStream(seed * 7919);
+			for (int i = 0; i < 200; i++) {
+				assertEquals(random.nextInt(6) + 1, stream.rollDie());
+			}
+		}
+	}
+	
+	/**
+	 * Tests that a stream created from another stream's state carries on with the same rolls
+	 */
+	@Test
+	public void testRestoreFromState() {
+		
+		DiceStream original = new DiceStream(42);
+		for (int i = 0; i < 37; i++) {
+			original.roll();
+		}
+		DiceStream restored = new DiceStream(original.getState());
+		for (int i = 0; i < 100; i++) {
+			assertEquals(original.roll(), restored.roll());
+		}
+	}
+
+}
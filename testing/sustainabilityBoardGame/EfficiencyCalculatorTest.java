@@ -67,6 +67,46 @@ class EfficiencyCalculatorTest {
         int actualEfficiency = EfficiencyCalculator.calculateEfficiencyScore(player, gameBoard);
         assertEquals(expectedEfficiency, actualEfficiency);
     }
-	
+    
+    /**
+     * Tests that the player's running investment total follows purchases, developments and changes of owner
+     */
+    @Test
+    public void testPropertyInvestmentIsTracked() {
+        
+        PropertySquare property = (PropertySquare) gameBoard.getSquareAt(1);
+        Player otherPlayer = new Player("OtherPlayer", 1000);
+        
+        property.setOwner(player);
+        property.develop();
+        assertEquals(property.getTotalInvestment(), player.getPropertyInvestment());
+        
+        // The new owner takes over everything invested so far plus their own purchase
+        property.setOwner(otherPlayer);
+        assertEquals(0, player.getPropertyInvestment());
+        assertEquals(property.getTotalInvestment(), otherPlayer.getPropertyInvestment());
+    }
+    
+    /**
+     * Tests that an efficiency listener is told about score changes
+     */
+    @Test
+    public void testEfficiencyListener() {
+        
+        int[] lastChange = new int[3];
+        player.setEfficiencyListener((changedPlayer, oldScore, newScore) -> {
+            lastChange[0]++;
+            lastChange[1] = oldScore;
+            lastChange[2] = newScore;
+        });
+        
+        PropertySquare property = (PropertySquare) gameBoard.getSquareAt(1);
+        player.removeResources(property.getPurchaseCost(), "Property purchase");
+        property.setOwner(player);
+        
+        int expectedEfficiency = EfficiencyCalculator.calculateEfficiencyScore(player, gameBoard);
+        assertTrue(lastChange[0] > 0);
+        assertEquals(expectedEfficiency, lastChange[2]);
+    }
 
 }
@@ -0,0 +1,152 @@
+package sustainabilityBoardGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class EngineMetricsTest {
+
+	/**
+	 * Tests that with every turn timed, each roll and move is recorded and the counters agree with the game's transactions
+	 */
+	@Test
+	public void testCountsMatchTransactions() {
+		
+		EngineMetrics metrics = new EngineMetrics(1);
+		MemoryEventSink sink = new MemoryEventSink();
+		HeadlessGame headless = new HeadlessGame(new GreedyDecisionPolicy(), 4, 300);
+		headless.setMetrics(metrics);
+		headless.setEventSink(sink);
+		SustainabilityBoardGame game = headless.createGame(new DiceStream(11));
+		game.play();
+		
+		long rentPayments = 0;
+		long rentPaid = 0;
+		long purchases = 0;
+		long developments = 0;
+		for (TransactionEvent event : sink.getEvents()) {
+			switch (event.getReasonCode()) {
+				case RENT_PAID:
+				case PARTIAL_RENT_PAID:
+					rentPayments++;
+					rentPaid += event.getAmount();
+					break;
+				case PURCHASE:
+					purchases++;
+					break;
+				case DEVELOPMENT:
+					developments++;
+					break;
+				default:
+					break;
+			}
+		}
+		
+		MetricsSnapshot snapshot = metrics.snapshot();
+		assertTrue(purchases > 0);
+		assertEquals(rentPayments, snapshot.getCount(EngineCounter.RENT_PAYMENTS));
+		assertEquals(rentPaid, snapshot.getCount(EngineCounter.RENT_PAID));
+		assertEquals(purchases, snapshot.getCount(EngineCounter.PURCHASES));
+		assertEquals(developments, snapshot.getCount(EngineCounter.DEVELOPMENTS));
+		assertEquals(developments, snapshot.getSampleCount(TurnPhase.DEVELOPMENT));
+		
+		long rolls = snapshot.getSampleCount(TurnPhase.DICE_ROLL);
+		assertTrue(rolls > 0);
+		assertEquals(rolls, snapshot.getSampleCount(TurnPhase.MOVE));
+		assertEquals(rolls, snapshot.getSampleCount(TurnPhase.SQUARE_RESOLUTION));
+		assertTrue(snapshot.getP50(TurnPhase.DICE_ROLL) <= snapshot.getP99(TurnPhase.DICE_ROLL));
+		assertTrue(snapshot.getP99(TurnPhase.DICE_ROLL) <= snapshot.getMax(TurnPhase.DICE_ROLL));
+	}
+	
+	/**
+	 * Tests that a player left with no resources is counted as a bankruptcy
+	 */
+	@Test
+	public void testBankruptcyCounted() {
+		
+		EngineMetrics metrics = new EngineMetrics(1);
+		HeadlessGame headless = new HeadlessGame(new GreedyDecisionPolicy(), 2, 0);
+		headless.setMetrics(metrics);
+		SustainabilityBoardGame game = headless.createGame(new DiceStream(3));
+		game.play();
+		
+		// With no turn limit the game only ends when one player is left with resources
+		long broke = game.getPlayerManager().getPlayers().stream().filter(p -> p.getResources() == 0).count();
+		assertEquals(1, broke);
+		assertEquals(1, metrics.getCount(EngineCounter.BANKRUPTCIES));
+	}
+	
+	/**
+	 * Tests that sampled metrics time about one turn in each interval and still count every event
+	 */
+	@Test
+	public void testSampling() {
+		
+		EngineMetrics sampled = new EngineMetrics(16);
+		EngineMetrics full = new EngineMetrics(1);
+		for (EngineMetrics metrics : new EngineMetrics[] {sampled, full}) {
+			HeadlessGame game = new HeadlessGame(new GreedyDecisionPolicy(), 4, 200);
+			game.setMetrics(metrics);
+			for (int seed = 0; seed < 50; seed++) {
+				game.play(seed);
+			}
+		}
+		
+		long allRenders = full.getHistogram(TurnPhase.RENDER).getCount();
+		long sampledRenders = sampled.getHistogram(TurnPhase.RENDER).getCount();
+		assertTrue(sampledRenders > allRenders / 32 && sampledRenders < allRenders / 8,
+				sampledRenders + " of " + allRenders);
+		for (EngineCounter counter : EngineCounter.values()) {
+			assertEquals(full.getCount(counter), sampled.getCount(counter), counter.getLabel());
+		}
+	}
+	
+	/**
+	 * Tests that a game abandoned part way through reports every count once its metrics are flushed
+	 */
+	@Test
+	public void testFlushAbandonedGame() {
+		
+		EngineMetrics rarelySampled = new EngineMetrics(1 << 20);
+		EngineMetrics full = new EngineMetrics(1);
+		for (EngineMetrics metrics : new EngineMetrics[] {rarelySampled, full}) {
+			HeadlessGame headless = new HeadlessGame(new GreedyDecisionPolicy(), 4, 0);
+			headless.setMetrics(metrics);
+			SustainabilityBoardGame game = headless.createGame(new DiceStream(11));
+			for (int turn = 0; turn < 40; turn++) {
+				game.playTurn();
+			}
+			game.flushMetrics();
+		}
+		
+		assertTrue(full.getCount(EngineCounter.PURCHASES) > 0);
+		for (EngineCounter counter : EngineCounter.values()) {
+			assertEquals(full.getCount(counter), rarelySampled.getCount(counter), counter.getLabel());
+		}
+	}
+	
+	/**
+	 * Tests that the reporter writes the snapshot table and stops when closed
+	 */
+	@Test
+	public void testReporter() {
+		
+		EngineMetrics metrics = new EngineMetrics(1);
+		metrics.add(EngineCounter.PURCHASES, 3);
+		metrics.record(TurnPhase.MOVE, 2_000);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		
+		MetricsReporter reporter = metrics.startReporter(new PrintStream(bytes, true, StandardCharsets.UTF_8), 10);
+		
+		// The final snapshot is written on close, even if the period has not yet passed
+		reporter.close();
+		
+		String text = bytes.toString(StandardCharsets.UTF_8);
+		assertTrue(text.contains("purchases"));
+		assertTrue(text.matches("(?s).*move\\s+1\\s+2\\.00\\s+2\\.00\\s+2\\.00.*"), text);
+	}
+}
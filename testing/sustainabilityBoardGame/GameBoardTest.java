@@ -71,6 +71,73 @@ class GameBoardTest {
         assertEquals("Waste Management Plant", properties.get(0).getName());
     }
     
-
+    /**
+     * Tests that a player's property list is a read-only view that follows purchases and changes of owner
+     */
+    @Test
+    public void testPlayerPropertiesFollowOwnership() {
+        
+        Player player2 = new Player("Player2", 1000);
+        List<PropertySquare> properties = gameBoard.getPlayerProperties(player1);
+        
+        PropertySquare marine = (PropertySquare) gameBoard.getSquareAt(2);
+        PropertySquare ecoCity = (PropertySquare) gameBoard.getSquareAt(5);
+        marine.setOwner(player1);
+        ecoCity.setOwner(player1);
+        
+        // The same list reflects both purchases without being fetched again
+        assertEquals(2, properties.size());
+        assertSame(properties, gameBoard.getPlayerProperties(player1));
+        assertThrows(UnsupportedOperationException.class, () -> properties.add(marine));
+        
+        marine.setOwner(player2);
+        assertEquals(1, properties.size());
+        assertEquals(ecoCity, properties.get(0));
+        assertEquals(marine, gameBoard.getPlayerProperties(player2).get(0));
+    }
+    
+    /**
+     * Tests that a player's properties are listed in board order whatever order they were bought in, as the
+     * development menu and final results number them
+     */
+    @Test
+    public void testPlayerPropertiesInBoardOrder() {
+        
+        PropertySquare waste = (PropertySquare) gameBoard.getSquareAt(1);
+        PropertySquare marine = (PropertySquare) gameBoard.getSquareAt(2);
+        PropertySquare ecoCity = (PropertySquare) gameBoard.getSquareAt(5);
+        ecoCity.setOwner(player1);
+        waste.setOwner(player1);
+        marine.setOwner(player1);
+        
+        assertEquals(List.of(waste, marine, ecoCity), gameBoard.getPlayerProperties(player1));
+        
+        marine.setOwner(null);
+        marine.setOwner(player1);
+        assertEquals(List.of(waste, marine, ecoCity), gameBoard.getPlayerProperties(player1));
+    }
+    
+    /**
+     * Tests that boards of the same layout share definitions and special squares but keep their own property state
+     */
+    @Test
+    public void testBoardsShareDefinitions() {
+        
+        GameBoard otherBoard = new GameBoard();
+        PropertySquare waste = (PropertySquare) gameBoard.getSquareAt(1);
+        PropertySquare otherWaste = (PropertySquare) otherBoard.getSquareAt(1);
+        
+        assertNotSame(waste, otherWaste);
+        assertSame(waste.getDefinition(), otherWaste.getDefinition());
+        assertSame(gameBoard.getSquareAt(3), otherBoard.getSquareAt(3));
+        assertEquals(1, waste.getDefinition().getPosition());
+        assertEquals(0, waste.getDefinition().getPropertyIndex());
+        
+        waste.setOwner(player1);
+        waste.develop();
+        assertNull(otherWaste.getOwner());
+        assertEquals(0, otherWaste.getDevelopmentLevel());
+        assertEquals(0, otherWaste.getTotalInvestment());
+    }
 
 }
@@ -0,0 +1,139 @@
+package sustainabilityBoardGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+
+class GameFlightEventTest {
+
+	/**
+	 * Tests that a recorded game emits turn, dice roll, rent and development events whose fields match the game
+	 */
+	@Test
+	public void testGameEventsRecorded() throws Exception {
+		
+		MemoryEventSink sink = new MemoryEventSink();
+		HeadlessGame game = new HeadlessGame(new GreedyDecisionPolicy(), 4, 300);
+		game.setEventSink(sink);
+		
+		List<RecordedEvent> events = record(() -> game.play(11));
+		
+		GameResult result = new HeadlessGame(new GreedyDecisionPolicy(), 4, 300).play(11);
+		assertEquals(result.getTurnsPlayed(), count(events, "sustainabilityBoardGame.Turn"));
+		assertTrue(count(events, "sustainabilityBoardGame.DiceRoll") > 0);
+		
+		// Rent and development events match the transactions the game reported
+		long rentPaid = sink.getEvents().stream()
+				.filter(e -> e.getReasonCode() == TransactionReason.RENT_PAID
+						|| e.getReasonCode() == TransactionReason.PARTIAL_RENT_PAID)
+				.mapToLong(TransactionEvent::getAmount).sum();
+		long rentRecorded = events.stream().filter(e -> isType(e, "sustainabilityBoardGame.RentPayment"))
+				.mapToLong(e -> e.getInt("amount")).sum();
+		assertTrue(rentPaid > 0);
+		assertEquals(rentPaid, rentRecorded);
+		
+		long developments = sink.getEvents().stream()
+				.filter(e -> e.getReasonCode() == TransactionReason.DEVELOPMENT).count();
+		assertEquals(developments, count(events, "sustainabilityBoardGame.PropertyDevelopment"));
+		
+		RecordedEvent roll = events.stream().filter(e -> isType(e, "sustainabilityBoardGame.DiceRoll")).findFirst().get();
+		assertEquals(roll.getInt("dice1") + roll.getInt("dice2"), roll.getInt("amount"));
+		assertTrue(roll.getString("player").startsWith("Player "));
+		assertNotNull(roll.getString("square"));
+	}
+	
+	/**
+	 * Tests that a wasteland distribution is recorded with the amounts shared out
+	 */
+	@Test
+	public void testDistributionRecorded() throws Exception {
+		
+		HeadlessGame headless = new HeadlessGame(new GreedyDecisionPolicy(), 4, 0);
+		SustainabilityBoardGame game = headless.createGame(new DiceStream(1));
+		Player distributor = game.getPlayerManager().getPlayers().get(0);
+		
+		List<RecordedEvent> events = record(() -> game.getPlayerManager().distributeResources(distributor));
+		
+		RecordedEvent event = events.stream()
+				.filter(e -> isType(e, "sustainabilityBoardGame.ResourceDistribution")).findFirst().get();
+		assertEquals(GameConfig.INITIAL_RESOURCES / 4, event.getInt("amount"));
+		assertEquals(GameConfig.INITIAL_RESOURCES / 4 / 3, event.getInt("amountEach"));
+		assertEquals(3, event.getInt("recipients"));
+		assertEquals(distributor.getName(), event.getString("player"));
+	}
+	
+	/**
+	 * Tests that turns allocate nothing for their events when no recording is running
+	 */
+	@Test
+	public void testNoAllocationWhenDisabled() {
+		
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		HeadlessGame headless = new HeadlessGame(new GreedyDecisionPolicy(), 4, 0);
+		
+		// The first game loads and initialises everything the turns use
+		playTurns(headless.createGame(new DiceStream(3)), 2000);
+		
+		SustainabilityBoardGame game = headless.createGame(new DiceStream(3));
+		long before = threads.getCurrentThreadAllocatedBytes();
+		int turns = playTurns(game, 2000);
+		long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+		
+		assertEquals(2000, turns);
+		assertTrue(allocated < turns, allocated + " bytes allocated in " + turns + " turns");
+	}
+	
+	/**
+	 * Plays turns until the count is reached or the game ends
+	 * @param game 
+	 * @param count 
+	 * @return the number of turns played
+	 */
+	private static int playTurns(SustainabilityBoardGame game, int count) {
+		int turns = 0;
+		while (turns < count && game.playTurn()) {
+			turns++;
+		}
+		return turns;
+	}
+	
+	/**
+	 * Runs the action with every game event enabled and returns the events it emitted
+	 * @param action 
+	 * @return 
+	 * @throws Exception 
+	 */
+	private static List<RecordedEvent> record(Runnable action) throws Exception {
+		Path file = Files.createTempFile("game", ".jfr");
+		try (Recording recording = new Recording()) {
+			for (String name : new String[] {"Turn", "DiceRoll", "RentPayment", "PropertyDevelopment",
+					"ResourceDistribution"}) {
+				recording.enable("sustainabilityBoardGame." + name);
+			}
+			recording.start();
+			action.run();
+			recording.stop();
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file);
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+	
+	private static long count(List<RecordedEvent> events, String type) {
+		return events.stream().filter(e -> isType(e, type)).count();
+	}
+	
+	private static boolean isType(RecordedEvent event, String type) {
+		return event.getEventType().getName().equals(type);
+	}
+}
@@ -0,0 +1,102 @@
+package sustainabilityBoardGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GameJournalTest {
+
+	private Path file;
+	
+	@BeforeEach
+	public void setUp() throws IOException {
+		file = Files.createTempFile("journal", ".sbgj");
+		Files.delete(file);
+	}
+	
+	@AfterEach
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+	
+	/**
+	 * Tests that records are read back with the turn and player that were current when they were written
+	 */
+	@Test
+	public void testRecordsReadBack() throws IOException {
+		
+		try (GameJournal journal = new GameJournal(file)) {
+			journal.recordGameStart(3, 50);
+			journal.beginTurn(1, 0);
+			journal.record(JournalRecordType.TURN_CHOICE, 1, 1000);
+			journal.record(JournalRecordType.DICE_ROLL, DiceRoll.pack(2, 5), 1000);
+			journal.beginTurn(2, 1);
+			journal.record(JournalRecordType.PURCHASE, 1, 700);
+			
+			assertEquals(4, journal.getRecordCount());
+			assertEquals(JournalRecordType.GAME_START, journal.getType(0));
+			assertEquals(3, journal.getValue(0));
+			assertEquals(50, journal.getResources(0));
+			assertEquals(JournalRecordType.DICE_ROLL, journal.getType(2));
+			assertEquals(7, DiceRoll.total(journal.getValue(2)));
+			assertEquals(1, journal.getTurn(2));
+			assertEquals(1, journal.getPlayerIndex(3));
+			assertEquals(2, journal.getTurn(3));
+			assertEquals(700, journal.getResources(3));
+			assertThrows(IndexOutOfBoundsException.class, () -> journal.getType(4));
+		}
+	}
+	
+	/**
+	 * Tests that reopening a journal keeps its records and appends after them
+	 */
+	@Test
+	public void testReopenAppends() throws IOException {
+		
+		try (GameJournal journal = new GameJournal(file)) {
+			journal.recordGameStart(2, 0);
+		}
+		try (GameJournal journal = new GameJournal(file)) {
+			journal.recordGameEnd(1, 20);
+			
+			assertEquals(2, journal.getRecordCount());
+			assertEquals(JournalRecordType.GAME_START, journal.getType(0));
+			assertEquals(JournalRecordType.GAME_END, journal.getType(1));
+			assertEquals(20, journal.getValue(1));
+		}
+	}
+	
+	/**
+	 * Tests that the journal grows past its first mapping without losing records
+	 */
+	@Test
+	public void testGrowsBeyondFirstMapping() throws IOException {
+		
+		try (GameJournal journal = new GameJournal(file)) {
+			for (int i = 0; i < 200_000; i++) {
+				journal.record(JournalRecordType.DICE_ROLL, i, 0);
+			}
+			assertEquals(200_000, journal.getRecordCount());
+			assertEquals(0, journal.getValue(0));
+			assertEquals(123_456, journal.getValue(123_456));
+			assertEquals(199_999, journal.getValue(199_999));
+		}
+	}
+	
+	/**
+	 * Tests that a file that is not a journal is rejected
+	 */
+	@Test
+	public void testRejectsOtherFiles() throws IOException {
+		
+		Files.write(file, new byte[64]);
+		assertThrows(IOException.class, () -> new GameJournal(file));
+	}
+
+}
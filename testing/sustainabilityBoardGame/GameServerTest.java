@@ -0,0 +1,98 @@
+package sustainabilityBoardGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class GameServerTest {
+
+	/**
+	 * Tests that a connection plays a whole game, with the prompts and transactions written to the connection
+	 */
+	@Test
+	public void testSessionPlaysGameOverConnection() throws Exception {
+		
+		try (GameServer server = new GameServer(0, 4)) {
+			server.start();
+			
+			try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+				// Two players, the first one quits straight away as quit is option 2 while nothing can be developed
+				OutputStream out = socket.getOutputStream();
+				out.write("2\nAlice\nBob\n2\n".getBytes(StandardCharsets.UTF_8));
+				out.flush();
+				
+				StringBuilder output = new StringBuilder();
+				BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+				String line;
+				while ((line = in.readLine()) != null) {
+					output.append(line).append('\n');
+				}
+				
+				String text = output.toString();
+				assertTrue(text.contains("Enter number of players (2-4): "));
+				assertTrue(text.contains("Player 2 name: "));
+				assertTrue(text.contains("Enter your choice (1-2): "));
+				assertTrue(text.contains("Alice has decided to quit the game."));
+				assertTrue(text.contains("=== FINAL RESULTS ==="));
+			}
+		}
+	}
+	
+	/**
+	 * Tests that a player disconnecting in the middle of a game ends the session and frees its place
+	 */
+	@Test
+	public void testDisconnectEndsSession() throws Exception {
+		
+		try (GameServer server = new GameServer(0, 1)) {
+			server.start();
+			
+			try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+				socket.getOutputStream().write("2\nAlice\n".getBytes(StandardCharsets.UTF_8));
+				socket.getOutputStream().flush();
+			}
+			
+			// With one session allowed, a second game can only start once the first has ended
+			try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+				socket.getOutputStream().write("2\nCarol\nDan\n2\n".getBytes(StandardCharsets.UTF_8));
+				socket.getOutputStream().flush();
+				
+				BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+				String line;
+				boolean quit = false;
+				while ((line = in.readLine()) != null) {
+					quit |= line.contains("Carol has decided to quit the game.");
+				}
+				assertTrue(quit);
+			}
+		}
+	}
+	
+	/**
+	 * Tests that closing the server ends a game whose player never answers instead of waiting for them
+	 */
+	@Test
+	public void testCloseEndsIdleSessions() throws Exception {
+		
+		GameServer server = new GameServer(0, 4);
+		server.start();
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+			// Wait until the session is running and asking for the number of players
+			BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+			assertNotNull(in.readLine());
+			assertEquals(1, server.getActiveSessions());
+			
+			long start = System.nanoTime();
+			server.close();
+			assertTrue(System.nanoTime() - start < 5_000_000_000L);
+			assertEquals(0, server.getActiveSessions());
+		}
+	}
+}
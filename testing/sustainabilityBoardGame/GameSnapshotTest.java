@@ -0,0 +1,131 @@
+package sustainabilityBoardGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class GameSnapshotTest {
+
+	/**
+	 * Tests that a game loaded from a snapshot taken mid game finishes exactly like the original
+	 */
+	@Test
+	public void testLoadedGameContinuesIdentically() {
+		
+		HeadlessGame headless = new HeadlessGame(new GreedyDecisionPolicy(), 4, 200);
+		for (long seed = 1; seed <= 20; seed++) {
+			SustainabilityBoardGame original = headless.createGame(new DiceStream(seed));
+			for (int turn = 0; turn < 40; turn++) {
+				original.playTurn();
+			}
+			
+			byte[] snapshot = GameSnapshot.save(original);
+			SustainabilityBoardGame loaded = GameSnapshot.load(ByteBuffer.wrap(snapshot),
+					new HeadlessUserInterface(new GreedyDecisionPolicy()), new GameBoard(), null);
+			
+			// Saving the loaded game gives back the same bytes
+			assertArrayEquals(snapshot, GameSnapshot.save(loaded));
+			
+			original.play();
+			loaded.play();
+			GameResult expected = HeadlessGame.createResult(original);
+			GameResult actual = HeadlessGame.createResult(loaded);
+			
+			assertEquals(expected.getTurnsPlayed(), actual.getTurnsPlayed());
+			assertEquals(expected.getWinnerIndex(), actual.getWinnerIndex());
+			assertEquals(expected.isCompleted(), actual.isCompleted());
+			assertArrayEquals(expected.getFinalResources(), actual.getFinalResources());
+			assertArrayEquals(expected.getEfficiencyScores(), actual.getEfficiencyScores());
+		}
+	}
+	
+	/**
+	 * Tests that owners, levels, investment and player state are all restored
+	 */
+	@Test
+	public void testStateRestored() {
+		
+		HeadlessGame headless = new HeadlessGame(new GreedyDecisionPolicy(), 2, 0);
+		SustainabilityBoardGame game = headless.createGame(new DiceStream(7));
+		Player first = game.getPlayerManager().getPlayers().get(0);
+		Player second = game.getPlayerManager().getPlayers().get(1);
+		first.setEventSink(null);
+		second.setEventSink(null);
+		
+		PropertySquare marine = (PropertySquare) game.getBoard().getSquareAt(2);
+		PropertySquare waste = (PropertySquare) game.getBoard().getSquareAt(1);
+		marine.setOwner(second);
+		waste.setOwner(second);
+		marine.develop();
+		first.setPosition(3);
+		first.sendToWasteland();
+		first.removeResources(150, "Test");
+		game.getPlayerManager().nextPlayer();
+		
+		SustainabilityBoardGame loaded = GameSnapshot.load(ByteBuffer.wrap(GameSnapshot.save(game)),
+				new HeadlessUserInterface(new GreedyDecisionPolicy()), new GameBoard(), null);
+		Player loadedFirst = loaded.getPlayerManager().getPlayers().get(0);
+		Player loadedSecond = loaded.getPlayerManager().getPlayers().get(1);
+		PropertySquare loadedMarine = (PropertySquare) loaded.getBoard().getSquareAt(2);
+		
+		assertEquals("Player 1", loadedFirst.getName());
+		assertEquals(850, loadedFirst.getResources());
+		assertEquals(150, loadedFirst.getTotalSpent());
+		assertEquals(3, loadedFirst.getPosition());
+		assertTrue(loadedFirst.isInWasteland());
+		assertEquals(1, loaded.getPlayerManager().getCurrentPlayerIndex());
+		assertSame(loadedSecond, loadedMarine.getOwner());
+		assertEquals(1, loadedMarine.getDevelopmentLevel());
+		assertEquals(marine.getTotalInvestment(), loadedMarine.getTotalInvestment());
+		assertEquals(second.getPropertyInvestment(), loadedSecond.getPropertyInvestment());
+		assertEquals(Arrays.asList("Waste Management Plant", "Marine Renewable Energy Plant"), Arrays.asList(
+				loadedSecond.getOwnedProperties().get(0).getName(), loadedSecond.getOwnedProperties().get(1).getName()));
+	}
+	
+	/**
+	 * Tests that boards with more squares than fit in a short keep their size and owned positions
+	 */
+	@Test
+	public void testLargeBoardRestored() {
+		
+		List<String> lines = new ArrayList<>();
+		lines.add("go Start");
+		for (int i = 1; i < 40_000; i++) {
+			lines.add((i % 10 == 3) ? "wasteland Wasteland " + i : "property MARINE_ENERGY " + (200 + i % 50) + " Field " + i);
+		}
+		BoardLayout layout = BoardLayout.parse(lines);
+		SustainabilityBoardGame game = new HeadlessGame(new GreedyDecisionPolicy(), 2, 0, layout)
+				.createGame(new DiceStream(1));
+		Player second = game.getPlayerManager().getPlayers().get(1);
+		second.setEventSink(null);
+		((PropertySquare) game.getBoard().getSquareAt(39_001)).setOwner(second);
+		
+		SustainabilityBoardGame loaded = GameSnapshot.load(ByteBuffer.wrap(GameSnapshot.save(game)),
+				new HeadlessUserInterface(new GreedyDecisionPolicy()), new GameBoard(layout), null);
+		Player loadedSecond = loaded.getPlayerManager().getPlayers().get(1);
+		
+		assertEquals(1, loadedSecond.getOwnedProperties().size());
+		assertEquals("Field 39001", loadedSecond.getOwnedProperties().get(0).getName());
+		assertSame(loadedSecond, ((PropertySquare) loaded.getBoard().getSquareAt(39_001)).getOwner());
+	}
+	
+	/**
+	 * Tests that bytes which are not a snapshot, or are cut short, are rejected
+	 */
+	@Test
+	public void testInvalidSnapshotRejected() {
+		
+		SustainabilityBoardGame game = new HeadlessGame(new GreedyDecisionPolicy(), 2, 0).createGame(new DiceStream(1));
+		byte[] snapshot = GameSnapshot.save(game);
+		UserInterface ui = new HeadlessUserInterface(new GreedyDecisionPolicy());
+		
+		assertThrows(IllegalArgumentException.class, () -> GameSnapshot.load(new byte[] {1, 2, 3, 4, 5}, ui));
+		assertThrows(IllegalArgumentException.class, () -> GameSnapshot.load(Arrays.copyOf(snapshot, 20), ui));
+	}
+
+}
@@ -0,0 +1,72 @@
+package sustainabilityBoardGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class HeadlessGameTest {
+
+	/**
+	 * Tests that a headless game runs to the end without console input and stays within its turn limit
+	 */
+	@Test
+	public void testGameRunsWithinTurnLimit() {
+		
+		HeadlessGame game = new HeadlessGame(new GreedyDecisionPolicy(), 4, 100);
+		GameResult result = game.play();
+		
+		assertTrue(result.getTurnsPlayed() <= 100);
+		assertEquals(4, result.getFinalResources().length);
+		assertEquals(4, result.getEfficiencyScores().length);
+		assertTrue(result.getWinnerIndex() >= 0 && result.getWinnerIndex() < 4);
+	}
+	
+	/**
+	 * Tests that a policy choosing to quit ends the game on the first turn
+	 */
+	@Test
+	public void testQuitEndsGame() {
+		
+		DecisionPolicy quitPolicy = new GreedyDecisionPolicy() {
+			@Override
+			public int chooseTurnOption(Player player, List<PropertySquare> ownedProperties, boolean canDevelopAny) {
+				// Quit is option 2 when nothing can be developed
+				return 2;
+			}
+		};
+		
+		GameResult result = new HeadlessGame(quitPolicy, 2, 100).play();
+		
+		assertTrue(result.isCompleted());
+		assertEquals(1, result.getTurnsPlayed());
+		assertEquals(GameConfig.INITIAL_RESOURCES, result.getFinalResources()[0]);
+	}
+	
+	/**
+	 * Tests that playing again from the same seed gives exactly the same game
+	 */
+	@Test
+	public void testSameSeedSameGame() {
+		
+		HeadlessGame game = new HeadlessGame(new GreedyDecisionPolicy(), 4, 200);
+		GameResult first = game.play(42);
+		GameResult second = game.play(42);
+		
+		assertEquals(first.getTurnsPlayed(), second.getTurnsPlayed());
+		assertEquals(first.getWinnerIndex(), second.getWinnerIndex());
+		assertArrayEquals(first.getFinalResources(), second.getFinalResources());
+		assertArrayEquals(first.getEfficiencyScores(), second.getEfficiencyScores());
+	}
+	
+	/**
+	 * Tests that the player count is validated against the game limits
+	 */
+	@Test
+	public void testInvalidPlayerCount() {
+		
+		assertThrows(IllegalArgumentException.class, () -> new HeadlessGame(new GreedyDecisionPolicy(), 1, 100));
+	}
+
+}
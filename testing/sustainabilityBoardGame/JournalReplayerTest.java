@@ -0,0 +1,184 @@
+package sustainabilityBoardGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JournalReplayerTest {
+
+	private Path file;
+	private Path copy;
+	
+	@BeforeEach
+	public void setUp() throws IOException {
+		file = Files.createTempFile("journal", ".sbgj");
+		copy = Files.createTempFile("journal-copy", ".sbgj");
+		Files.delete(file);
+		Files.delete(copy);
+	}
+	
+	@AfterEach
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+		Files.deleteIfExists(copy);
+	}
+	
+	/**
+	 * Tests that replaying journaled games gives exactly the results that were played
+	 */
+	@Test
+	public void testReplayMatchesPlayedGames() throws IOException {
+		
+		try (GameJournal journal = new GameJournal(file)) {
+			HeadlessGame game = new HeadlessGame(new GreedyDecisionPolicy(), 3, 200);
+			game.setJournal(journal);
+			GameResult[] played = new GameResult[10];
+			for (int i = 0; i < played.length; i++) {
+				played[i] = game.play(i);
+			}
+			
+			JournalReplayer replayer = new JournalReplayer(journal);
+			for (GameResult expected : played) {
+				assertTrue(replayer.hasNextGame());
+				GameResult actual = replayer.replayNextGame();
+				assertEquals(expected.getTurnsPlayed(), actual.getTurnsPlayed());
+				assertEquals(expected.getWinnerIndex(), actual.getWinnerIndex());
+				assertArrayEquals(expected.getFinalResources(), actual.getFinalResources());
+			}
+			assertFalse(replayer.hasNextGame());
+			assertEquals(journal.getRecordCount(), replayer.getPosition());
+		}
+	}
+	
+	/**
+	 * Tests that a game stepped from outside, as the servers do, journals its decisions and can be replayed
+	 */
+	@Test
+	public void testSteppedGameReplayed() throws IOException {
+		
+		try (GameJournal journal = new GameJournal(file)) {
+			HeadlessGame headless = new HeadlessGame(new GreedyDecisionPolicy(), 3, 150);
+			headless.setJournal(journal);
+			SustainabilityBoardGame game = headless.createGame(new DiceStream(4));
+			TurnStateMachine turns = game.getTurnStateMachine();
+			
+			// Every turn rolls, and the other prompts are answered yes and no in turn, which no policy does, so the
+			// replay can only follow them from the journal
+			journal.recordGameStart(3, 150);
+			int answers = 0;
+			TurnState state = turns.beginTurn();
+			while (state != TurnState.GAME_OVER) {
+				if (state == TurnState.AWAITING_TURN_CHOICE) {
+					state = turns.step(1);
+				} else if (state.isAwaitingInput()) {
+					state = turns.step(1 + answers++ % 2);
+				} else {
+					state = turns.beginTurn();
+				}
+			}
+			GameResult played = HeadlessGame.createResult(game);
+			journal.recordGameEnd(played.getWinnerIndex(), played.getTurnsPlayed());
+			
+			GameResult replayed = new JournalReplayer(journal).replayNextGame();
+			assertEquals(played.getTurnsPlayed(), replayed.getTurnsPlayed());
+			assertArrayEquals(played.getFinalResources(), replayed.getFinalResources());
+			assertTrue(answers >= 5, answers + " answers");
+			assertEquals(150, played.getTurnsPlayed());
+		}
+	}
+	
+	/**
+	 * Tests that games journaled on a board loaded from a file are replayed on the same board
+	 */
+	@Test
+	public void testReplayOnOtherBoard() throws IOException {
+		
+		List<String> lines = new ArrayList<>();
+		lines.add("go Start");
+		for (int i = 1; i < 60; i++) {
+			lines.add((i % 15 == 0) ? "wasteland Wasteland " + i : "property MARINE_ENERGY " + (80 + i * 3) + " Bay " + i);
+		}
+		BoardLayout layout = BoardLayout.parse(lines);
+		
+		try (GameJournal journal = new GameJournal(file)) {
+			HeadlessGame game = new HeadlessGame(new GreedyDecisionPolicy(), 3, 300, layout);
+			game.setJournal(journal);
+			GameResult[] played = new GameResult[5];
+			for (int i = 0; i < played.length; i++) {
+				played[i] = game.play(i);
+			}
+			
+			JournalReplayer replayer = new JournalReplayer(journal, layout);
+			for (GameResult expected : played) {
+				GameResult actual = replayer.replayNextGame();
+				assertEquals(expected.getTurnsPlayed(), actual.getTurnsPlayed());
+				assertArrayEquals(expected.getFinalResources(), actual.getFinalResources());
+			}
+			assertFalse(replayer.hasNextGame());
+			
+			// The standard board does not follow the same games
+			assertThrows(IllegalStateException.class, () -> new JournalReplayer(journal).replayAll());
+		}
+	}
+	
+	/**
+	 * Tests that a journal whose dice were changed is reported instead of replayed
+	 */
+	@Test
+	public void testChangedJournalDetected() throws IOException {
+		
+		try (GameJournal journal = new GameJournal(file); GameJournal changed = new GameJournal(copy)) {
+			HeadlessGame game = new HeadlessGame(new GreedyDecisionPolicy(), 2, 200);
+			game.setJournal(journal);
+			game.play(3);
+			
+			// Copy the journal with the first roll changed to a different total
+			boolean first = true;
+			for (long i = 0; i < journal.getRecordCount(); i++) {
+				int value = journal.getValue(i);
+				if (first && journal.getType(i) == JournalRecordType.DICE_ROLL) {
+					value = (DiceRoll.total(value) == 12) ? DiceRoll.pack(1, 1) : DiceRoll.pack(6, 6);
+					first = false;
+				}
+				changed.beginTurn(journal.getTurn(i), journal.getPlayerIndex(i));
+				changed.record(journal.getType(i), value, journal.getResources(i));
+			}
+			
+			assertThrows(IllegalStateException.class, () -> new JournalReplayer(changed).replayAll());
+		}
+	}
+	
+	/**
+	 * Tests that a record whose resources differ from the replayed game is reported at that record,
+	 * even though the game would end the same way
+	 */
+	@Test
+	public void testChangedResourcesDetected() throws IOException {
+		
+		try (GameJournal journal = new GameJournal(file); GameJournal changed = new GameJournal(copy)) {
+			HeadlessGame game = new HeadlessGame(new GreedyDecisionPolicy(), 2, 200);
+			game.setJournal(journal);
+			game.play(3);
+			
+			// Copy the journal with the resources of the third record changed, the rolls and decisions are untouched
+			for (long i = 0; i < journal.getRecordCount(); i++) {
+				int resources = journal.getResources(i);
+				changed.beginTurn(journal.getTurn(i), journal.getPlayerIndex(i));
+				changed.record(journal.getType(i), journal.getValue(i), (i == 2) ? resources + 1 : resources);
+			}
+			
+			IllegalStateException error = assertThrows(IllegalStateException.class,
+					() -> new JournalReplayer(changed).replayAll());
+			assertTrue(error.getMessage().contains("at record 2 "), error.getMessage());
+		}
+	}
+
+}
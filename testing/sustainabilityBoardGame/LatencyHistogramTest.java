@@ -0,0 +1,95 @@
+package sustainabilityBoardGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+	/**
+	 * Tests that percentiles are exact for small values and within the bucket accuracy for large ones
+	 */
+	@Test
+	public void testPercentiles() {
+		
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 1; i <= 100; i++) {
+			histogram.record(i * 1000);
+		}
+		
+		assertEquals(100, histogram.getCount());
+		assertEquals(100_000, histogram.getMax());
+		
+		long median = histogram.getValueAtPercentile(50);
+		assertTrue(median >= 50_000 && median <= 50_000 * 1.04, "median " + median);
+		long p99 = histogram.getValueAtPercentile(99);
+		assertTrue(p99 >= 99_000 && p99 <= 100_000, "p99 " + p99);
+		assertEquals(100_000, histogram.getValueAtPercentile(100));
+		
+		LatencyHistogram small = new LatencyHistogram();
+		small.record(3);
+		small.record(7);
+		assertEquals(3, small.getValueAtPercentile(50));
+		assertEquals(7, small.getValueAtPercentile(99));
+	}
+	
+	/**
+	 * Tests that every value falls in a bucket whose range contains it, right up to the largest long
+	 */
+	@Test
+	public void testBucketsCoverEveryValue() {
+		
+		long[] values = {0, 63, 64, 65, 127, 128, 1_000_000, 123_456_789_012L, Long.MAX_VALUE};
+		for (long value : values) {
+			int index = LatencyHistogram.bucketIndex(value);
+			assertTrue(LatencyHistogram.highestValueInBucket(index) >= value);
+			if (index > 0) {
+				assertTrue(LatencyHistogram.highestValueInBucket(index - 1) < value);
+			}
+		}
+		
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(Long.MAX_VALUE);
+		histogram.record(-5);
+		assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+		assertEquals(0, histogram.getValueAtPercentile(50));
+	}
+	
+	/**
+	 * Tests that no value is lost when many threads record at once
+	 */
+	@Test
+	public void testConcurrentRecording() throws InterruptedException {
+		
+		LatencyHistogram histogram = new LatencyHistogram();
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			long offset = t;
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < 100_000; i++) {
+					histogram.record(i % 500 + offset);
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		
+		assertEquals(400_000, histogram.getCount());
+		assertEquals(502, histogram.getMax());
+	}
+	
+	/**
+	 * Tests that an empty histogram reports zeros and that percentiles outside 0 to 100 are rejected
+	 */
+	@Test
+	public void testEmptyAndInvalid() {
+		
+		LatencyHistogram histogram = new LatencyHistogram();
+		
+		assertEquals(0, histogram.getValueAtPercentile(99));
+		assertEquals(0, histogram.getMax());
+		assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+	}
+}
@@ -0,0 +1,73 @@
+package sustainabilityBoardGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class MovementTableTest {
+
+	/**
+	 * Tests that every move on the standard board ends on the right square with the right action
+	 */
+	@Test
+	public void testMovesOnStandardBoard() {
+		
+		GameBoard board = new GameBoard();
+		MovementTable table = board.getMovementTable();
+		int size = board.getAllSquares().size();
+		
+		assertEquals(size, table.getBoardSize());
+		for (int position = 0; position < size; position++) {
+			for (int total = 2; total <= MovementTable.MAX_ROLL_TOTAL; total++) {
+				int move = table.getMove(position, total);
+				int destination = (position + total) % size;
+				assertEquals(destination, MovementTable.destination(move));
+				assertEquals(SquareAction.of(board.getSquareAt(destination)), MovementTable.action(move));
+			}
+		}
+		assertEquals(SquareAction.WASTELAND, MovementTable.action(table.getMove(0, 3)));
+		assertEquals(SquareAction.PROPERTY, MovementTable.action(table.getMove(0, 2)));
+		assertEquals(SquareAction.NONE, MovementTable.action(table.getMove(1, 5)));
+	}
+	
+	/**
+	 * Tests that go is passed whenever a move reaches the end of the board, including exact laps
+	 * which the old check of the new position being lower than the old one missed
+	 */
+	@Test
+	public void testPassedGoIncludingWholeLaps() {
+		
+		MovementTable table = new GameBoard().getMovementTable();
+		
+		assertFalse(MovementTable.passedGo(table.getMove(0, 5)));
+		assertTrue(MovementTable.passedGo(table.getMove(1, 5)));
+		assertTrue(MovementTable.passedGo(table.getMove(2, 6)));
+		assertEquals(2, MovementTable.destination(table.getMove(2, 6)));
+		assertTrue(MovementTable.passedGo(table.getMove(0, 12)));
+		assertEquals(0, MovementTable.destination(table.getMove(0, 12)));
+	}
+	
+	/**
+	 * Tests a board much larger than any roll, where only the last squares can pass go
+	 */
+	@Test
+	public void testLargeBoard() {
+		
+		List<BoardSquare> squares = new ArrayList<>();
+		squares.add(new SpecialSquare("Go", SpecialSquareType.GO));
+		for (int i = 1; i < 1000; i++) {
+			squares.add(new PropertySquare("Field " + i, 100, PropertyType.LAND_ENERGY));
+		}
+		MovementTable table = new MovementTable(squares);
+		
+		assertEquals(510, MovementTable.destination(table.getMove(500, 10)));
+		assertFalse(MovementTable.passedGo(table.getMove(500, 10)));
+		assertEquals(3, MovementTable.destination(table.getMove(995, 8)));
+		assertTrue(MovementTable.passedGo(table.getMove(995, 8)));
+		assertEquals(SquareAction.NONE, MovementTable.action(table.getMove(990, 10)));
+	}
+
+}
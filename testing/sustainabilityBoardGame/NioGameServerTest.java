@@ -0,0 +1,90 @@
+package sustainabilityBoardGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class NioGameServerTest {
+
+	/**
+	 * Tests a short game over the NIO front end: invalid answers are asked again, and quitting ends the game and the connection
+	 */
+	@Test
+	public void testGameOverConnection() throws Exception {
+		
+		try (NioGameServer server = new NioGameServer(0, 2)) {
+			server.start();
+			
+			try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+				OutputStream out = socket.getOutputStream();
+				out.write("five\n7\n2\r\n4\n2\n".getBytes(StandardCharsets.US_ASCII));
+				out.flush();
+				
+				String text = readAll(socket.getInputStream());
+				assertTrue(text.startsWith("=== SAVE OUR PLANET: SUSTAINABILITY BOARD GAME ===\nEnter number of players (2-4): "));
+				assertTrue(text.contains("Please enter a valid number.\nEnter number of players (2-4): "));
+				assertTrue(text.contains("Number of players must be between 2 and 4.\n"));
+				assertTrue(text.contains("\n=== Player 1's TURN ===\nResources: 1000\n"));
+				assertTrue(text.contains("Please enter a number between 1 and 2.\nEnter your choice (1-2): "));
+				assertTrue(text.contains("Player 1 has decided to quit the game.\n"));
+				assertTrue(text.endsWith("=== FINAL RESULTS ===\nPlayer 1: 1000 resources\nPlayer 2: 1000 resources\n"));
+			}
+		}
+	}
+	
+	/**
+	 * Tests that many connections can wait at a prompt at once and each one is still answered
+	 */
+	@Test
+	public void testManyWaitingConnections() throws Exception {
+		
+		try (NioGameServer server = new NioGameServer(0, 2)) {
+			server.start();
+			
+			Socket[] sockets = new Socket[200];
+			for (int i = 0; i < sockets.length; i++) {
+				sockets[i] = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+				sockets[i].getOutputStream().write("3\n".getBytes(StandardCharsets.US_ASCII));
+			}
+			for (Socket socket : sockets) {
+				// Player 1 rolls, after which the game is waiting on someone
+				socket.getOutputStream().write("1\n".getBytes(StandardCharsets.US_ASCII));
+			}
+			for (Socket socket : sockets) {
+				String text = readUntil(socket.getInputStream(), "Player 1 rolled ");
+				assertTrue(text.contains("=== Player 1's TURN ==="));
+			}
+			assertEquals(sockets.length, server.getConnectedSessions());
+			
+			for (Socket socket : sockets) {
+				socket.close();
+			}
+		}
+	}
+	
+	private static String readAll(InputStream in) throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		in.transferTo(bytes);
+		return bytes.toString(StandardCharsets.UTF_8);
+	}
+	
+	private static String readUntil(InputStream in, String marker) throws Exception {
+		StringBuilder text = new StringBuilder();
+		byte[] buffer = new byte[1024];
+		while (text.indexOf(marker) < 0) {
+			int read = in.read(buffer);
+			if (read < 0) {
+				break;
+			}
+			text.append(new String(buffer, 0, read, StandardCharsets.UTF_8));
+		}
+		return text.toString();
+	}
+}
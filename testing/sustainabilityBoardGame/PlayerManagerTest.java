@@ -2,6 +2,9 @@ package sustainabilityBoardGame;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -94,5 +97,155 @@ class PlayerManagerTest {
         assertEquals(initialPlayer2Resources + amountPerPlayer, player2.getResources());
         assertEquals(initialPlayer3Resources + amountPerPlayer, player3.getResources());
     }
+    
+    /**
+     * Tests that the running total and solvent player count follow every balance change
+     */
+    @Test
+    public void testRunningTotals() {
+        
+        player1.setEventSink(null);
+        player2.setEventSink(null);
+        
+        assertEquals(6000, playerManager.getTotalResources());
+        assertEquals(3, playerManager.getSolventPlayerCount());
+        
+        player1.removeResources(1000, "Rent");
+        player2.addResources(1000, "Rent");
+        assertEquals(6000, playerManager.getTotalResources());
+        assertEquals(2, playerManager.getSolventPlayerCount());
+        assertEquals(3000.0, playerManager.getAverageResourcesExcludingPlayer(player1), 0.001);
+        assertEquals(1500.0, playerManager.getAverageResourcesExcludingPlayer(player2), 0.001);
+        
+        player1.addResources(10, "Grant");
+        assertEquals(3, playerManager.getSolventPlayerCount());
+        
+        // Players added later are counted too
+        Player player4 = new Player("Player4", 0);
+        playerManager.addPlayer(player4);
+        assertEquals(6010, playerManager.getTotalResources());
+        assertEquals(3, playerManager.getSolventPlayerCount());
+        
+        // A player who is not in the game is not excluded from the average
+        assertEquals(6010 / 4.0, playerManager.getAverageResourcesExcludingPlayer(new Player("Other", 500)), 0.001);
+    }
+
+    /**
+     * Tests that a distribution pays every other player in one pass, keeps the running totals right and reaches the sink as one event
+     */
+    @Test
+    public void testBatchedDistribution() {
+        
+        PlayerManager manager = new PlayerManager(new HeadlessUserInterface(new GreedyDecisionPolicy()));
+        List<DistributionEvent> distributions = new ArrayList<>();
+        GameEventSink sink = new GameEventSink() {
+            @Override
+            public void onTransaction(TransactionEvent event) {
+            }
+            
+            @Override
+            public void onDistribution(DistributionEvent event) {
+                distributions.add(event);
+            }
+        };
+        
+        Player distributor = new Player("Distributor", 4000);
+        distributor.setEventSink(sink);
+        manager.addPlayer(distributor);
+        for (int i = 0; i < 100; i++) {
+            Player player = new Player("Player" + i, (i % 2 == 0) ? 0 : 100);
+            player.setEventSink(sink);
+            manager.addPlayer(player);
+        }
+        assertEquals(51, manager.getSolventPlayerCount());
+        
+        manager.distributeResources(distributor);
+        
+        assertEquals(3000, distributor.getResources());
+        for (int i = 1; i <= 100; i++) {
+            assertEquals((i % 2 == 1) ? 10 : 110, manager.getPlayers().get(i).getResources());
+        }
+        assertEquals(101, manager.getSolventPlayerCount());
+        assertEquals(4000 + 50 * 100, manager.getTotalResources());
+        
+        assertEquals(1, distributions.size());
+        DistributionEvent event = distributions.get(0);
+        assertSame(distributor, event.getDistributor());
+        assertEquals(10, event.getAmountEach());
+        assertEquals(100, event.getRecipientCount());
+        assertSame(manager.getPlayers().get(1), event.getRecipient(0));
+        assertEquals(10, event.getNewBalance(0));
+        assertEquals(110, event.getNewBalance(1));
+    }
+    
+    /**
+     * Tests that sinks which only handle transactions still see one received transaction per recipient
+     */
+    @Test
+    public void testDistributionExpandsForTransactionSinks() {
+        
+        PlayerManager manager = new PlayerManager(new HeadlessUserInterface(new GreedyDecisionPolicy()));
+        MemoryEventSink sink = new MemoryEventSink();
+        Player distributor = new Player("Distributor", 1000);
+        distributor.setEventSink(sink);
+        manager.addPlayer(distributor);
+        for (int i = 0; i < 3; i++) {
+            Player player = new Player("Player" + i, 500);
+            player.setEventSink(sink);
+            manager.addPlayer(player);
+        }
+        
+        manager.distributeResources(distributor);
+        
+        List<TransactionEvent> events = sink.getEvents();
+        assertEquals(4, events.size());
+        assertEquals(TransactionEvent.Kind.SPENT, events.get(0).getKind());
+        assertEquals(250, events.get(0).getAmount());
+        for (int i = 1; i < 4; i++) {
+            assertEquals(TransactionEvent.Kind.RECEIVED, events.get(i).getKind());
+            assertSame(manager.getPlayers().get(i), events.get(i).getPlayer());
+            assertEquals(83, events.get(i).getAmount());
+            assertEquals("Distribution from Distributor", events.get(i).getReason());
+            assertEquals(583, events.get(i).getNewBalance());
+        }
+    }
+    
+    /**
+     * Tests that each recipient's share reaches that recipient's own sink, and recipients without a sink are left out
+     */
+    @Test
+    public void testDistributionToEachRecipientSink() {
+        
+        PlayerManager manager = new PlayerManager(new HeadlessUserInterface(new GreedyDecisionPolicy()));
+        MemoryEventSink distributorSink = new MemoryEventSink();
+        MemoryEventSink sharedSink = new MemoryEventSink();
+        MemoryEventSink ownSink = new MemoryEventSink();
+        Player distributor = new Player("Distributor", 1000);
+        distributor.setEventSink(distributorSink);
+        manager.addPlayer(distributor);
+        GameEventSink[] sinks = { sharedSink, null, ownSink, sharedSink };
+        for (int i = 0; i < sinks.length; i++) {
+            Player player = new Player("Player" + i, 500);
+            player.setEventSink(sinks[i]);
+            manager.addPlayer(player);
+        }
+        
+        manager.distributeResources(distributor);
+        
+        assertEquals(1, distributorSink.getEvents().size());
+        assertEquals(TransactionEvent.Kind.SPENT, distributorSink.getEvents().get(0).getKind());
+        
+        List<TransactionEvent> shared = sharedSink.getEvents();
+        assertEquals(2, shared.size());
+        assertSame(manager.getPlayers().get(1), shared.get(0).getPlayer());
+        assertSame(manager.getPlayers().get(4), shared.get(1).getPlayer());
+        
+        List<TransactionEvent> own = ownSink.getEvents();
+        assertEquals(1, own.size());
+        assertSame(manager.getPlayers().get(3), own.get(0).getPlayer());
+        assertEquals(62, own.get(0).getAmount());
+        assertEquals(562, own.get(0).getNewBalance());
+        assertEquals(562, manager.getPlayers().get(2).getResources());
+    }
 
 }
@@ -2,6 +2,8 @@ package sustainabilityBoardGame;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 class PlayerTest {
@@ -103,5 +105,134 @@ class PlayerTest {
         player.removeResources(100, "Lost everything");
         assertFalse(player.isEligibleForWastelandChoice());
     }
+    
+    /**
+     * Tests that transactions reach the attached event sink with the new balance, and that removing the sink stops events
+     */
+    @Test
+    public void testTransactionEvents() {
+        
+        Player player = new Player("Player1", 1000);
+        MemoryEventSink sink = new MemoryEventSink();
+        player.setEventSink(sink);
+        
+        player.addResources(200, "Grant");
+        player.removeResources(50, "Rent");
+        
+        List<TransactionEvent> events = sink.getEvents();
+        assertEquals(2, events.size());
+        assertEquals(TransactionEvent.Kind.RECEIVED, events.get(0).getKind());
+        assertEquals(200, events.get(0).getAmount());
+        assertEquals("Grant", events.get(0).getReason());
+        assertEquals(1200, events.get(0).getNewBalance());
+        assertEquals(TransactionEvent.Kind.SPENT, events.get(1).getKind());
+        assertEquals(1150, events.get(1).getNewBalance());
+        
+        player.setEventSink(null);
+        player.addResources(10, "Grant");
+        assertEquals(2, sink.getEvents().size());
+        assertEquals(1160, player.getResources());
+    }
+    
+    /**
+     * Tests that transactions made with a reason code carry the code and counterparty, and name the counterparty when shown
+     */
+    @Test
+    public void testTransactionReasonCodes() {
+        
+        PlayerManager playerManager = new PlayerManager(null);
+        Player payer = new Player("Payer", 1000);
+        Player owner = new Player("Owner", 1000);
+        playerManager.addPlayer(payer);
+        playerManager.addPlayer(owner);
+        MemoryEventSink sink = new MemoryEventSink();
+        payer.setEventSink(sink);
+        owner.setEventSink(sink);
+        
+        PropertyDefinition property = BoardLayout.standard().getPropertyDefinition(1);
+        payer.removeResources(40, TransactionReason.RENT_PAID, property.getPropertyIndex());
+        owner.addResources(40, TransactionReason.RENT_RECEIVED, payer.getPlayerIndex());
+        payer.addResources(100, TransactionReason.SUSTAINABILITY_GRANT);
+        
+        List<TransactionEvent> events = sink.getEvents();
+        assertEquals(3, events.size());
+        assertEquals(TransactionReason.RENT_PAID, events.get(0).getReasonCode());
+        assertEquals(1, events.get(0).getCounterparty());
+        assertEquals("Rent for " + property.getName(), events.get(0).getReason());
+        assertEquals(TransactionReason.RENT_RECEIVED, events.get(1).getReasonCode());
+        assertEquals(0, events.get(1).getCounterparty());
+        assertEquals("Rent from Payer", events.get(1).getReason());
+        assertEquals(TransactionEvent.NO_COUNTERPARTY, events.get(2).getCounterparty());
+        assertEquals("Sustainability Grant", events.get(2).getReason());
+        assertEquals(1060, payer.getResources());
+        assertEquals(2100, playerManager.getTotalResources());
+        
+        // Reasons given as text keep their text
+        payer.removeResources(10, "Fine");
+        assertEquals(TransactionReason.OTHER, sink.getEvents().get(3).getReasonCode());
+        assertEquals("Fine", sink.getEvents().get(3).getReason());
+    }
+    
+    /**
+     * Tests that the owned and developable masks follow purchases, developments and changes of owner
+     */
+    @Test
+    public void testPropertyMasks() {
+        
+        GameBoard board = new GameBoard();
+        Player player = new Player("Player1", 1000);
+        Player other = new Player("Player2", 1000);
+        player.setEventSink(null);
+        PropertySquare waste = (PropertySquare) board.getSquareAt(1);
+        PropertySquare ecoCity = (PropertySquare) board.getSquareAt(5);
+        
+        assertFalse(player.canDevelopAny());
+        waste.setOwner(player);
+        ecoCity.setOwner(player);
+        assertTrue(player.ownsProperty(0));
+        assertTrue(player.ownsProperty(3));
+        assertFalse(player.ownsProperty(1));
+        assertEquals(2, player.getOwnedPropertyCount());
+        assertTrue(player.canDevelopAny());
+        
+        // Waste management can be developed twice, after that only the eco city is left
+        waste.develop();
+        waste.develop();
+        assertTrue(player.getOwnedPropertyMask().get(0));
+        assertFalse(player.getDevelopablePropertyMask().get(0));
+        assertTrue(player.canDevelopAny());
+        
+        ecoCity.setOwner(other);
+        assertFalse(player.ownsProperty(3));
+        assertTrue(other.ownsProperty(3));
+        assertFalse(player.canDevelopAny());
+        assertTrue(other.canDevelopAny());
+        assertEquals(1, player.getOwnedPropertyCount());
+    }
+    
+    /**
+     * Tests that properties which are not part of a board layout are still checked for development
+     */
+    @Test
+    public void testCanDevelopUnindexedProperty() {
+        
+        Player player = new Player("Player1", 1000);
+        player.setEventSink(null);
+        PropertySquare waste = new PropertySquare("Recycling Depot", 100, PropertyType.WASTE_MANAGEMENT);
+        
+        waste.setOwner(player);
+        assertTrue(player.canDevelopAny());
+        assertTrue(player.getOwnedPropertyMask().isEmpty());
+        
+        waste.develop();
+        waste.develop();
+        assertFalse(player.canDevelopAny());
+        
+        PropertySquare ecoCity = new PropertySquare("Green Quarter", 300, PropertyType.ECO_CITY);
+        ecoCity.setOwner(player);
+        assertTrue(player.canDevelopAny());
+        ecoCity.setOwner(null);
+        assertFalse(player.canDevelopAny());
+    }
 
 }
@@ -0,0 +1,90 @@
+package sustainabilityBoardGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class PropertyEconomicsTest {
+
+	/**
+	 * Tests that the precomputed tables give exactly the same values as the original per-call formulas,
+	 * for every property type, a wide range of purchase costs, and levels past the maximum
+	 */
+	@Test
+	public void testTablesMatchOriginalFormulas() {
+		
+		for (PropertyType type : PropertyType.values()) {
+			for (int purchaseCost = 0; purchaseCost <= 5000; purchaseCost++) {
+				PropertyEconomics economics = new PropertyEconomics(type, purchaseCost);
+				
+				for (int level = 0; level <= 8; level++) {
+					assertEquals(originalRent(type, purchaseCost, level), economics.getRent(level));
+					assertEquals(originalDevelopmentCost(type, purchaseCost, level), economics.getDevelopmentCost(level));
+					assertEquals(originalCanBeDeveloped(type, level), level < economics.getMaxDevelopmentLevel());
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Tests that a property square uses its tables as it is developed
+	 */
+	@Test
+	public void testPropertySquareUsesTables() {
+		
+		PropertySquare property = new PropertySquare("Marine", 333, PropertyType.MARINE_ENERGY);
+		PropertyEconomics economics = new PropertyEconomics(PropertyType.MARINE_ENERGY, 333);
+		
+		for (int level = 0; level < 5; level++) {
+			assertEquals(economics.getRent(level), property.getRent());
+			assertEquals(economics.getDevelopmentCost(level), property.getDevelopmentCost());
+			property.develop();
+		}
+	}
+	
+	// The formulas below are the original switch based calculations from PropertySquare
+	
+	private static int originalRent(PropertyType type, int purchaseCost, int developmentLevel) {
+		double rentMultiplier;
+		switch (developmentLevel) {
+			case 0: rentMultiplier = 0.2; break;
+			case 1: rentMultiplier = 0.5; break;
+			case 2: rentMultiplier = 1.0; break;
+			case 3: rentMultiplier = 1.5; break;
+			default: rentMultiplier = 0.1;
+		}
+		if (type == PropertyType.ECO_CITY && developmentLevel == 2) {
+			return (int)(purchaseCost * 2.0);
+		}
+		return (int)(purchaseCost * rentMultiplier);
+	}
+	
+	private static int originalDevelopmentCost(PropertyType type, int purchaseCost, int developmentLevel) {
+		double multiplier;
+		switch (developmentLevel) {
+			case 0: multiplier = 1.5; break;
+			case 1: multiplier = 2.0; break;
+			case 2: multiplier = (type == PropertyType.MARINE_ENERGY) ? 2.5 : 3.0; break;
+			default: multiplier = 1.0;
+		}
+		return (int)(purchaseCost * multiplier);
+	}
+	
+	private static boolean originalCanBeDeveloped(PropertyType type, int developmentLevel) {
+		int maxDevelopmentLevel;
+		switch (type) {
+			case WASTE_MANAGEMENT:
+			case ECO_CITY:
+				maxDevelopmentLevel = 2;
+				break;
+			case MARINE_ENERGY:
+			case LAND_ENERGY:
+				maxDevelopmentLevel = 3;
+				break;
+			default:
+				maxDevelopmentLevel = 0;
+		}
+		return developmentLevel < maxDevelopmentLevel;
+	}
+
+}
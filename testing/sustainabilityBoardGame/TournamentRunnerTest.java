@@ -0,0 +1,65 @@
+package sustainabilityBoardGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class TournamentRunnerTest {
+
+	/**
+	 * Tests that every game is played exactly once when the games are split over several threads
+	 */
+	@Test
+	public void testAllGamesAreCounted() {
+		
+		TournamentRunner runner = new TournamentRunner(GreedyDecisionPolicy::new, 3, 50, 4);
+		TournamentResult result = runner.run(5000);
+		
+		assertEquals(5000, result.getGames());
+		assertEquals(5000, result.getWins(0) + result.getWins(1) + result.getWins(2));
+		assertTrue(result.getLongestGame() <= 50);
+		assertTrue(result.getShortestGame() <= result.getLongestGame());
+	}
+	
+	/**
+	 * Tests that a seeded tournament gives the same results no matter how many threads play it
+	 */
+	@Test
+	public void testSeededRunIsReproducible() {
+		
+		TournamentResult singleThread = new TournamentRunner(GreedyDecisionPolicy::new, 4, 100, 1).run(3000, 7);
+		TournamentResult multiThread = new TournamentRunner(GreedyDecisionPolicy::new, 4, 100, 3).run(3000, 7);
+		
+		assertEquals(singleThread.getTotalTurns(), multiThread.getTotalTurns());
+		for (int seat = 0; seat < 4; seat++) {
+			assertEquals(singleThread.getWins(seat), multiThread.getWins(seat));
+			assertEquals(singleThread.getAverageEfficiency(seat), multiThread.getAverageEfficiency(seat));
+		}
+	}
+	
+	/**
+	 * Tests that merging two results adds up their games and wins
+	 */
+	@Test
+	public void testMerge() {
+		
+		TournamentResult first = new TournamentResult(2);
+		first.record(new GameResult(0, 10, true, new int[] {100, 0}, new int[] {50, 0}));
+		
+		TournamentResult second = new TournamentResult(2);
+		second.record(new GameResult(1, 30, false, new int[] {0, 100}, new int[] {0, 70}));
+		second.record(new GameResult(1, 20, true, new int[] {0, 100}, new int[] {0, 30}));
+		
+		first.merge(second);
+		
+		assertEquals(3, first.getGames());
+		assertEquals(2, first.getCompletedGames());
+		assertEquals(1, first.getWins(0));
+		assertEquals(2, first.getWins(1));
+		assertEquals(20.0, first.getAverageGameLength());
+		assertEquals(10, first.getShortestGame());
+		assertEquals(30, first.getLongestGame());
+		assertEquals(100 / 3.0, first.getAverageEfficiency(1), 1e-9);
+	}
+
+}
@@ -0,0 +1,171 @@
+package sustainabilityBoardGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TurnStateMachineTest {
+
+	/**
+	 * Tests that stepping a game from outside gives exactly the same game as playing it with the blocking loop
+	 */
+	@Test
+	public void testSteppedGameMatchesPlayedGame() {
+		
+		DecisionPolicy policy = new GreedyDecisionPolicy();
+		HeadlessGame headlessGame = new HeadlessGame(policy, 4, 200);
+		
+		for (long seed = 1; seed <= 20; seed++) {
+			GameResult played = headlessGame.play(seed);
+			
+			SustainabilityBoardGame game = headlessGame.createGame(new DiceStream(seed));
+			TurnStateMachine turns = game.getTurnStateMachine();
+			while (turns.beginTurn() != TurnState.GAME_OVER) {
+				while (turns.getState().isAwaitingInput()) {
+					turns.step(turns.decide(policy));
+				}
+			}
+			GameResult stepped = HeadlessGame.createResult(game);
+			
+			assertEquals(played.getTurnsPlayed(), stepped.getTurnsPlayed());
+			assertEquals(played.getWinnerIndex(), stepped.getWinnerIndex());
+			assertArrayEquals(played.getFinalResources(), stepped.getFinalResources());
+		}
+	}
+	
+	/**
+	 * Tests that many games can be kept going on one thread, each moved on by a single step at a time
+	 */
+	@Test
+	public void testGamesInterleavedOnOneThread() {
+		
+		DecisionPolicy policy = new GreedyDecisionPolicy();
+		HeadlessGame headlessGame = new HeadlessGame(policy, 3, 150);
+		int count = 500;
+		TurnStateMachine[] machines = new TurnStateMachine[count];
+		SustainabilityBoardGame[] games = new SustainabilityBoardGame[count];
+		for (int i = 0; i < count; i++) {
+			games[i] = headlessGame.createGame(new DiceStream(i));
+			machines[i] = games[i].getTurnStateMachine();
+		}
+		
+		int running = count;
+		while (running > 0) {
+			running = 0;
+			for (TurnStateMachine turns : machines) {
+				TurnState state = turns.getState();
+				if (state.isAwaitingInput()) {
+					state = turns.step(turns.decide(policy));
+				} else if (state == TurnState.RESOLVED) {
+					state = turns.beginTurn();
+				}
+				if (state != TurnState.GAME_OVER) {
+					running++;
+				}
+			}
+		}
+		
+		for (int i = 0; i < count; i += 50) {
+			GameResult played = headlessGame.play(i);
+			GameResult stepped = HeadlessGame.createResult(games[i]);
+			assertEquals(played.getTurnsPlayed(), stepped.getTurnsPlayed());
+			assertArrayEquals(played.getFinalResources(), stepped.getFinalResources());
+		}
+	}
+	
+	/**
+	 * Tests the purchase prompt, including that a choice outside its options is rejected without changing the turn
+	 */
+	@Test
+	public void testPurchasePrompt() {
+		
+		HeadlessGame headlessGame = new HeadlessGame(new GreedyDecisionPolicy(), 2, 100);
+		SustainabilityBoardGame game = headlessGame.createGame(new DiceStream(7));
+		TurnStateMachine turns = game.getTurnStateMachine();
+		
+		// Roll every turn until someone is offered a property
+		TurnState state = turns.beginTurn();
+		while (state != TurnState.AWAITING_PURCHASE_DECISION) {
+			state = (state == TurnState.AWAITING_TURN_CHOICE) ? turns.step(1) : turns.beginTurn();
+			assertNotEquals(TurnState.GAME_OVER, state);
+		}
+		
+		PropertySquare property = turns.getProperty();
+		Player player = turns.getPlayer();
+		int resources = player.getResources();
+		assertNotNull(property);
+		assertNull(property.getOwner());
+		assertEquals(2, turns.getOptionCount());
+		assertTrue(turns.getPromptText().contains("Would you like to purchase it?"));
+		
+		assertThrows(IllegalArgumentException.class, () -> turns.step(3));
+		assertEquals(TurnState.AWAITING_PURCHASE_DECISION, turns.getState());
+		
+		assertEquals(TurnState.RESOLVED, turns.step(1));
+		assertSame(player, property.getOwner());
+		assertEquals(resources - property.getPurchaseCost(), player.getResources());
+		assertEquals(0, turns.getOptionCount());
+	}
+	
+	/**
+	 * Tests that the turn choice offers quit as option 2 when nothing can be developed, and that quitting ends the game
+	 */
+	@Test
+	public void testQuitEndsGame() {
+		
+		SustainabilityBoardGame game = new HeadlessGame(new GreedyDecisionPolicy(), 2, 100).createGame(new DiceStream(1));
+		TurnStateMachine turns = game.getTurnStateMachine();
+		
+		assertEquals(TurnState.AWAITING_TURN_CHOICE, turns.beginTurn());
+		assertEquals(2, turns.getOptionCount());
+		assertTrue(turns.getPromptText().contains("2. Quit game"));
+		
+		assertEquals(TurnState.GAME_OVER, turns.step(2));
+		assertEquals(TurnState.GAME_OVER, turns.beginTurn());
+		assertEquals(1, game.getGameState().getTurnsPlayed());
+	}
+	
+	/**
+	 * Tests that a turn choice outside the menu is rejected like any other prompt's, instead of ending the turn
+	 */
+	@Test
+	public void testTurnChoiceOutOfRange() {
+		
+		SustainabilityBoardGame game = new HeadlessGame(new GreedyDecisionPolicy(), 2, 100).createGame(new DiceStream(1));
+		TurnStateMachine turns = game.getTurnStateMachine();
+		
+		assertEquals(TurnState.AWAITING_TURN_CHOICE, turns.beginTurn());
+		Player player = turns.getPlayer();
+		
+		assertThrows(IllegalArgumentException.class, () -> turns.step(3));
+		assertThrows(IllegalArgumentException.class, () -> turns.step(0));
+		assertThrows(IllegalArgumentException.class, () -> turns.step(-1));
+		assertEquals(TurnState.AWAITING_TURN_CHOICE, turns.getState());
+		assertSame(player, game.getPlayerManager().getCurrentPlayer());
+		assertEquals(0, player.getPosition());
+		
+		assertNotEquals(TurnState.AWAITING_TURN_CHOICE, turns.step(1));
+		assertNotEquals(0, player.getPosition());
+	}
+	
+	/**
+	 * Tests that input is only accepted while a turn waits for it, and a new turn only begins once the last has resolved
+	 */
+	@Test
+	public void testStepsOutOfOrder() {
+		
+		SustainabilityBoardGame game = new HeadlessGame(new GreedyDecisionPolicy(), 2, 100).createGame(new DiceStream(1));
+		TurnStateMachine turns = game.getTurnStateMachine();
+		
+		assertEquals(TurnState.RESOLVED, turns.getState());
+		assertThrows(IllegalStateException.class, () -> turns.step(1));
+		
+		turns.beginTurn();
+		assertThrows(IllegalStateException.class, () -> turns.beginTurn());
+		
+		List<PropertySquare> owned = turns.getOwnedProperties();
+		assertTrue(owned.isEmpty());
+	}
+}